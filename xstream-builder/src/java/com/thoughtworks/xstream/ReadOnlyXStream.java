@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007 XStream Committers.
+ * Copyright (C) 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,8 @@
 package com.thoughtworks.xstream;
 
 /**
+ * An XStream facade that provides no configuration methods. The wrapped XStream is {@link XStream#freeze() frozen}.
+ *
  * @author Guilherme Silveira
  * @since upcoming 
  */
@@ -20,6 +22,7 @@ public class ReadOnlyXStream {
 
     public ReadOnlyXStream(XStream xstream) {
         this.xstream = xstream;
+        xstream.freeze();
     }
 
     public Object fromXML(String xml) {
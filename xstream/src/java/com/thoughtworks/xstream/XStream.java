@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,7 @@
  */
 package com.thoughtworks.xstream;
 
+import java.io.BufferedReader;
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
@@ -28,6 +29,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -92,10 +96,16 @@ import com.thoughtworks.xstream.converters.basic.URLConverter;
 import com.thoughtworks.xstream.converters.basic.UUIDConverter;
 import com.thoughtworks.xstream.converters.collections.ArrayConverter;
 import com.thoughtworks.xstream.converters.collections.BitSetConverter;
+import com.thoughtworks.xstream.converters.collections.BooleanArrayConverter;
 import com.thoughtworks.xstream.converters.collections.CharArrayConverter;
 import com.thoughtworks.xstream.converters.collections.CollectionConverter;
+import com.thoughtworks.xstream.converters.collections.DoubleArrayConverter;
+import com.thoughtworks.xstream.converters.collections.FloatArrayConverter;
+import com.thoughtworks.xstream.converters.collections.IntArrayConverter;
+import com.thoughtworks.xstream.converters.collections.LongArrayConverter;
 import com.thoughtworks.xstream.converters.collections.MapConverter;
 import com.thoughtworks.xstream.converters.collections.PropertiesConverter;
+import com.thoughtworks.xstream.converters.collections.ShortArrayConverter;
 import com.thoughtworks.xstream.converters.collections.SingletonCollectionConverter;
 import com.thoughtworks.xstream.converters.collections.SingletonMapConverter;
 import com.thoughtworks.xstream.converters.collections.TreeMapConverter;
@@ -104,25 +114,19 @@ import com.thoughtworks.xstream.converters.enums.EnumConverter;
 import com.thoughtworks.xstream.converters.enums.EnumMapConverter;
 import com.thoughtworks.xstream.converters.enums.EnumSetConverter;
 import com.thoughtworks.xstream.converters.extended.CharsetConverter;
-import com.thoughtworks.xstream.converters.extended.ColorConverter;
 import com.thoughtworks.xstream.converters.extended.CurrencyConverter;
 import com.thoughtworks.xstream.converters.extended.DynamicProxyConverter;
 import com.thoughtworks.xstream.converters.extended.EncodedByteArrayConverter;
 import com.thoughtworks.xstream.converters.extended.FileConverter;
-import com.thoughtworks.xstream.converters.extended.FontConverter;
 import com.thoughtworks.xstream.converters.extended.GregorianCalendarConverter;
 import com.thoughtworks.xstream.converters.extended.JavaClassConverter;
 import com.thoughtworks.xstream.converters.extended.JavaFieldConverter;
 import com.thoughtworks.xstream.converters.extended.JavaMethodConverter;
 import com.thoughtworks.xstream.converters.extended.LocaleConverter;
-import com.thoughtworks.xstream.converters.extended.LookAndFeelConverter;
 import com.thoughtworks.xstream.converters.extended.RegexPatternConverter;
-import com.thoughtworks.xstream.converters.extended.SqlDateConverter;
-import com.thoughtworks.xstream.converters.extended.SqlTimeConverter;
-import com.thoughtworks.xstream.converters.extended.SqlTimestampConverter;
 import com.thoughtworks.xstream.converters.extended.StackTraceElementConverter;
-import com.thoughtworks.xstream.converters.extended.TextAttributeConverter;
 import com.thoughtworks.xstream.converters.extended.ThrowableConverter;
+import com.thoughtworks.xstream.converters.reflection.AbstractReflectionConverter;
 import com.thoughtworks.xstream.converters.reflection.ExternalizableConverter;
 import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
 import com.thoughtworks.xstream.converters.reflection.ReflectionProvider;
@@ -134,10 +138,13 @@ import com.thoughtworks.xstream.core.MapBackedDataHolder;
 import com.thoughtworks.xstream.core.ReferenceByIdMarshallingStrategy;
 import com.thoughtworks.xstream.core.ReferenceByXPathMarshallingStrategy;
 import com.thoughtworks.xstream.core.TreeMarshallingStrategy;
+import com.thoughtworks.xstream.core.WarmUp;
 import com.thoughtworks.xstream.core.util.CompositeClassLoader;
 import com.thoughtworks.xstream.core.util.CustomObjectInputStream;
 import com.thoughtworks.xstream.core.util.CustomObjectOutputStream;
+import com.thoughtworks.xstream.core.util.LazyConverter;
 import com.thoughtworks.xstream.core.util.SelfStreamingInstanceChecker;
+import com.thoughtworks.xstream.io.AbstractWriter;
 import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -156,11 +163,13 @@ import com.thoughtworks.xstream.mapper.EnumMapper;
 import com.thoughtworks.xstream.mapper.FieldAliasingMapper;
 import com.thoughtworks.xstream.mapper.ImmutableTypesMapper;
 import com.thoughtworks.xstream.mapper.ImplicitCollectionMapper;
+import com.thoughtworks.xstream.mapper.InheritingMapper;
 import com.thoughtworks.xstream.mapper.LocalConversionMapper;
 import com.thoughtworks.xstream.mapper.Mapper;
 import com.thoughtworks.xstream.mapper.MapperWrapper;
 import com.thoughtworks.xstream.mapper.OuterClassMapper;
 import com.thoughtworks.xstream.mapper.PackageAliasingMapper;
+import com.thoughtworks.xstream.mapper.ParentMapper;
 import com.thoughtworks.xstream.mapper.SecurityMapper;
 import com.thoughtworks.xstream.mapper.SystemAttributeAliasingMapper;
 import com.thoughtworks.xstream.mapper.XStream11XmlFriendlyMapper;
@@ -331,6 +340,10 @@ public class XStream {
     private LocalConversionMapper localConversionMapper;
     private SecurityMapper securityMapper;
     private AnnotationMapper annotationMapper;
+    private CachingMapper cachingMapper;
+    private List<ConverterRegistration> registeredConverters;
+    private DefaultConverterLookup defaultConverterLookup;
+    private volatile boolean frozen;
 
     public static final int NO_REFERENCES = 1001;
     public static final int ID_REFERENCES = 1002;
@@ -482,6 +495,7 @@ public class XStream {
                 defaultConverterLookup.registerConverter(converter, priority);
             }
         });
+        this.defaultConverterLookup = defaultConverterLookup;
     }
 
     /**
@@ -550,6 +564,77 @@ public class XStream {
         setupConverters();
         setupImmutableTypes();
         setMode(XPATH_RELATIVE_REFERENCES);
+        registeredConverters = new ArrayList<ConverterRegistration>();
+    }
+
+    /**
+     * Constructs an XStream that derives its configuration from a parent instance.
+     * <p>
+     * The parent is {@link #freeze() frozen} and shares its {@link ReflectionProvider} including the cached fields, its
+     * driver, its {@link ClassLoaderReference} and its marshalling strategy with the new instance. The new instance has
+     * an own {@link Mapper} chain with mappers for package, class, field and attribute aliases, implicit collections,
+     * omitted fields, default implementations and local converters on top of the parent's chain. Any such
+     * configuration of the new instance takes precedence, for everything else the chain falls back to the parent. The
+     * class aliases of the new instance apply also to the component type of arrays and to default implementations.
+     * Any other configuration method that requires a mapper will fail with an {@link InitializationException}.
+     * </p>
+     * <p>
+     * The new instance creates its own set of default converters for its own mapper chain. Additionally it registers
+     * the converters that have been registered at the parent with {@link #registerConverter(Converter, int)} or
+     * {@link #registerConverter(SingleValueConverter, int)}. Those converters are shared and keep using any mapper they
+     * have been created with.
+     * </p>
+     * 
+     * @param parent the configured XStream to derive from
+     * @since upcoming
+     */
+    public XStream(final XStream parent) {
+        parent.freeze();
+        reflectionProvider = parent.reflectionProvider;
+        hierarchicalStreamDriver = parent.hierarchicalStreamDriver;
+        classLoaderReference = parent.classLoaderReference;
+        defaultConverterLookup = new DefaultConverterLookup();
+        converterLookup = defaultConverterLookup;
+        converterRegistry = defaultConverterLookup;
+        mapper = buildDerivedMapper(parent.mapper, parent.defaultImplementationsMapper);
+        marshallingStrategy = parent.marshallingStrategy;
+
+        packageAliasingMapper = mapper.lookupMapperOfType(PackageAliasingMapper.class);
+        classAliasingMapper = mapper.lookupMapperOfType(ClassAliasingMapper.class);
+        fieldAliasingMapper = mapper.lookupMapperOfType(FieldAliasingMapper.class);
+        attributeAliasingMapper = mapper.lookupMapperOfType(AttributeAliasingMapper.class);
+        systemAttributeAliasingMapper = mapper.lookupMapperOfType(SystemAttributeAliasingMapper.class);
+        implicitCollectionMapper = mapper.lookupMapperOfType(ImplicitCollectionMapper.class);
+        defaultImplementationsMapper = mapper.lookupMapperOfType(DefaultImplementationsMapper.class);
+        localConversionMapper = mapper.lookupMapperOfType(LocalConversionMapper.class);
+        cachingMapper = mapper.lookupMapperOfType(CachingMapper.class);
+
+        setupConverters();
+        registeredConverters = new ArrayList<ConverterRegistration>();
+        if (parent.registeredConverters != null) {
+            for (final ConverterRegistration registration : parent.registeredConverters) {
+                registerConverter(registration.converter, registration.priority);
+            }
+        }
+    }
+
+    private Mapper buildDerivedMapper(final Mapper parent,
+            final DefaultImplementationsMapper parentDefaultImplementationsMapper) {
+        Mapper mapper = new ParentMapper(parent);
+        mapper = new PackageAliasingMapper(mapper);
+        mapper = new ClassAliasingMapper(mapper);
+        mapper = new FieldAliasingMapper(mapper);
+        mapper = new AttributeAliasingMapper(mapper);
+        mapper = new SystemAttributeAliasingMapper(mapper);
+        mapper = new ImplicitCollectionMapper(mapper);
+        mapper = new ArrayMapper(mapper);
+        mapper = parentDefaultImplementationsMapper == null
+            ? new DefaultImplementationsMapper(mapper)
+            : new DefaultImplementationsMapper(mapper, parentDefaultImplementationsMapper);
+        mapper = new LocalConversionMapper(mapper);
+        mapper = new InheritingMapper(mapper, parent);
+        mapper = new CachingMapper(mapper);
+        return mapper;
     }
 
     private Mapper buildMapper() {
@@ -621,6 +706,19 @@ public class XStream {
         localConversionMapper = mapper.lookupMapperOfType(LocalConversionMapper.class);
         securityMapper = mapper.lookupMapperOfType(SecurityMapper.class);
         annotationMapper = mapper.lookupMapperOfType(AnnotationMapper.class);
+        cachingMapper = mapper.lookupMapperOfType(CachingMapper.class);
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new InitializationException("XStream configuration is frozen");
+        }
+    }
+
+    private void flushMapperCache() {
+        if (cachingMapper != null) {
+            cachingMapper.flushCache();
+        }
     }
 
     protected void setupSecurity() {
@@ -642,17 +740,11 @@ public class XStream {
         allowTypeHierarchy(Throwable.class);
         allowTypeHierarchy(TimeZone.class);
 
-        final Set<Class<?>> types = new HashSet<Class<?>>();
-        types.addAll(Arrays.<Class<?>>asList(BitSet.class, Charset.class, Class.class, Currency.class, Date.class,
-            DecimalFormatSymbols.class, File.class, Locale.class, Object.class, Pattern.class, StackTraceElement.class,
-            String.class, StringBuffer.class, StringBuilder.class, URL.class, URI.class, UUID.class));
-        if (JVM.isSQLAvailable()) {
-            types.add(JVM.loadClassForName("java.sql.Timestamp"));
-            types.add(JVM.loadClassForName("java.sql.Time"));
-            types.add(JVM.loadClassForName("java.sql.Date"));
-        }
-        types.remove(null);
-        allowTypes(types.toArray(new Class[types.size()]));
+        allowTypes(BitSet.class, Charset.class, Class.class, Currency.class, Date.class, DecimalFormatSymbols.class,
+            File.class, Locale.class, Object.class, Pattern.class, StackTraceElement.class, String.class,
+            StringBuffer.class, StringBuilder.class, URL.class, URI.class, UUID.class);
+        // optional types are permitted by name, they are not loaded before they are used
+        allowTypes("java.sql.Timestamp", "java.sql.Time", "java.sql.Date");
     }
 
     protected void setupAliases() {
@@ -717,39 +809,23 @@ public class XStream {
         alias("singleton-map", Collections.singletonMap(this, null).getClass());
         alias("singleton-set", Collections.singleton(this).getClass());
 
-        if (JVM.isAWTAvailable()) {
-            // Instantiating these two classes starts the AWT system, which is undesirable.
-            // Calling loadClass ensures a reference to the class is found but they are not
-            // instantiated.
-            alias("awt-color", JVM.loadClassForName("java.awt.Color", false));
-            alias("awt-font", JVM.loadClassForName("java.awt.Font", false));
-            alias("awt-text-attribute", JVM.loadClassForName("java.awt.font.TextAttribute"));
-        }
-
-        if (JVM.isSQLAvailable()) {
-            alias("sql-timestamp", JVM.loadClassForName("java.sql.Timestamp"));
-            alias("sql-time", JVM.loadClassForName("java.sql.Time"));
-            alias("sql-date", JVM.loadClassForName("java.sql.Date"));
-        }
+        // optional types are aliased by name, they are not loaded before they are used
+        aliasDynamically("awt-color", "java.awt.Color");
+        aliasDynamically("awt-font", "java.awt.Font");
+        aliasDynamically("awt-text-attribute", "java.awt.font.TextAttribute");
+        aliasDynamically("sql-timestamp", "java.sql.Timestamp");
+        aliasDynamically("sql-time", "java.sql.Time");
+        aliasDynamically("sql-date", "java.sql.Date");
 
         aliasType("charset", Charset.class);
 
-        if (JVM.loadClassForName("javax.security.auth.Subject") != null) {
-            aliasDynamically("auth-subject", "javax.security.auth.Subject");
-        }
-        if (JVM.loadClassForName("javax.xml.datatype.Duration") != null) {
-            aliasDynamically("duration", "javax.xml.datatype.Duration");
-        }
-        if (JVM.loadClassForName("java.lang.invoke.SerializedLambda") != null) {
-            aliasDynamically("serialized-lambda", "java.lang.invoke.SerializedLambda");
-        }
+        aliasDynamically("auth-subject", "javax.security.auth.Subject");
+        aliasDynamically("duration", "javax.xml.datatype.Duration");
+        aliasDynamically("serialized-lambda", "java.lang.invoke.SerializedLambda");
     }
 
     private void aliasDynamically(final String alias, final String className) {
-        final Class<?> type = JVM.loadClassForName(className);
-        if (type != null) {
-            alias(alias, type);
-        }
+        classAliasingMapper.addClassAlias(alias, className);
     }
 
     protected void setupDefaultImplementations() {
@@ -799,6 +875,12 @@ public class XStream {
 
         registerConverter(new ArrayConverter(mapper), PRIORITY_NORMAL);
         registerConverter(new CharArrayConverter(), PRIORITY_NORMAL);
+        registerConverter(new IntArrayConverter(mapper, converterLookup), PRIORITY_NORMAL);
+        registerConverter(new LongArrayConverter(mapper, converterLookup), PRIORITY_NORMAL);
+        registerConverter(new ShortArrayConverter(mapper, converterLookup), PRIORITY_NORMAL);
+        registerConverter(new DoubleArrayConverter(mapper, converterLookup), PRIORITY_NORMAL);
+        registerConverter(new FloatArrayConverter(mapper, converterLookup), PRIORITY_NORMAL);
+        registerConverter(new BooleanArrayConverter(mapper, converterLookup), PRIORITY_NORMAL);
         registerConverter(new CollectionConverter(mapper), PRIORITY_NORMAL);
         registerConverter(new MapConverter(mapper), PRIORITY_NORMAL);
         registerConverter(new TreeMapConverter(mapper), PRIORITY_NORMAL);
@@ -812,32 +894,30 @@ public class XStream {
         registerConverter(new EnumMapConverter(mapper), PRIORITY_NORMAL);
 
         registerConverter(new FileConverter(), PRIORITY_NORMAL);
-        if (JVM.isSQLAvailable()) {
-            registerConverter(new SqlTimestampConverter(), PRIORITY_NORMAL);
-            registerConverter(new SqlTimeConverter(), PRIORITY_NORMAL);
-            registerConverter(new SqlDateConverter(), PRIORITY_NORMAL);
-        }
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.SqlTimestampConverter",
+            PRIORITY_NORMAL, null, null, "java.sql.Timestamp");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.SqlTimeConverter", PRIORITY_NORMAL,
+            null, null, "java.sql.Time");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.SqlDateConverter", PRIORITY_NORMAL,
+            null, null, "java.sql.Date");
         registerConverter(new DynamicProxyConverter(mapper, classLoaderReference), PRIORITY_NORMAL);
         registerConverter(new JavaClassConverter(classLoaderReference), PRIORITY_NORMAL);
         registerConverter(new JavaMethodConverter(classLoaderReference), PRIORITY_NORMAL);
         registerConverter(new JavaFieldConverter(classLoaderReference), PRIORITY_NORMAL);
-        if (JVM.isAWTAvailable()) {
-            registerConverter(new FontConverter(mapper), PRIORITY_NORMAL);
-            registerConverter(new ColorConverter(), PRIORITY_NORMAL);
-            registerConverter(new TextAttributeConverter(), PRIORITY_NORMAL);
-        }
-        if (JVM.isSwingAvailable()) {
-            registerConverter(new LookAndFeelConverter(mapper, reflectionProvider), PRIORITY_NORMAL);
-        }
-
-        if (JVM.loadClassForName("javax.security.auth.Subject") != null) {
-            registerConverterDynamically("com.thoughtworks.xstream.converters.extended.SubjectConverter",
-                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper});
-        }
-        if (JVM.loadClassForName("javax.xml.datatype.Duration") != null) {
-            registerConverterDynamically("com.thoughtworks.xstream.converters.extended.DurationConverter",
-                PRIORITY_NORMAL, null, null);
-        }
+        // optional types are neither loaded nor converted before they are used
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.FontConverter", PRIORITY_NORMAL,
+            new Class[]{Mapper.class}, new Object[]{mapper}, "java.awt.Font");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.ColorConverter", PRIORITY_NORMAL,
+            null, null, "java.awt.Color");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.TextAttributeConverter",
+            PRIORITY_NORMAL, null, null, "java.awt.font.TextAttribute");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.LookAndFeelConverter",
+            PRIORITY_NORMAL, new Class[]{Mapper.class, ReflectionProvider.class},
+            new Object[]{mapper, reflectionProvider}, "javax.swing.LookAndFeel");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.SubjectConverter", PRIORITY_NORMAL,
+            new Class[]{Mapper.class}, new Object[]{mapper}, "javax.security.auth.Subject");
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.DurationConverter", PRIORITY_NORMAL,
+            null, null, "javax.xml.datatype.Duration");
         if (JVM.is18()) {
             registerConverterDynamically("com.thoughtworks.xstream.converters.reflection.LambdaConverter",
                 PRIORITY_NORMAL, new Class[]{Mapper.class, ReflectionProvider.class, ClassLoaderReference.class},
@@ -865,6 +945,12 @@ public class XStream {
         }
     }
 
+    private void registerConverterLazily(final String className, final int priority,
+            final Class<?>[] constructorParamTypes, final Object[] constructorParamValues, final String... typeNames) {
+        registerConverter(new LazyConverter(className, constructorParamTypes, constructorParamValues,
+            classLoaderReference, typeNames), priority);
+    }
+
     protected void setupImmutableTypes() {
         if (immutableTypesMapper == null) {
             return;
@@ -905,16 +991,8 @@ public class XStream {
         addImmutableType(Collections.EMPTY_SET.getClass());
         addImmutableType(Collections.EMPTY_MAP.getClass());
 
-        if (JVM.isAWTAvailable()) {
-            addImmutableTypeDynamically("java.awt.font.TextAttribute");
-        }
-    }
-
-    private void addImmutableTypeDynamically(final String className) {
-        final Class<?> type = JVM.loadClassForName(className);
-        if (type != null) {
-            addImmutableType(type);
-        }
+        // optional types are marked by name, they are not loaded before they are used
+        immutableTypesMapper.addImmutableType("java.awt.font.TextAttribute");
     }
 
     /**
@@ -924,6 +1002,7 @@ public class XStream {
      * @see #setMode(int)
      */
     public void setMarshallingStrategy(final MarshallingStrategy marshallingStrategy) {
+        checkNotFrozen();
         this.marshallingStrategy = marshallingStrategy;
     }
 
@@ -1155,10 +1234,12 @@ public class XStream {
      * @throws InitializationException if no {@link ClassAliasingMapper} is available
      */
     public void alias(final String name, final Class<?> type) {
+        checkNotFrozen();
         if (classAliasingMapper == null) {
             throw new InitializationException("No " + ClassAliasingMapper.class.getName() + " available");
         }
         classAliasingMapper.addClassAlias(name, type);
+        flushMapperCache();
     }
 
     /**
@@ -1171,10 +1252,12 @@ public class XStream {
      * @throws InitializationException if no {@link ClassAliasingMapper} is available
      */
     public void aliasType(final String name, final Class<?> type) {
+        checkNotFrozen();
         if (classAliasingMapper == null) {
             throw new InitializationException("No " + ClassAliasingMapper.class.getName() + " available");
         }
         classAliasingMapper.addTypeAlias(name, type);
+        flushMapperCache();
     }
 
     /**
@@ -1201,10 +1284,12 @@ public class XStream {
      * @since 1.3.1
      */
     public void aliasPackage(final String name, final String pkgName) {
+        checkNotFrozen();
         if (packageAliasingMapper == null) {
             throw new InitializationException("No " + PackageAliasingMapper.class.getName() + " available");
         }
         packageAliasingMapper.addPackageAlias(name, pkgName);
+        flushMapperCache();
     }
 
     /**
@@ -1216,10 +1301,12 @@ public class XStream {
      * @throws InitializationException if no {@link FieldAliasingMapper} is available
      */
     public void aliasField(final String alias, final Class<?> definedIn, final String fieldName) {
+        checkNotFrozen();
         if (fieldAliasingMapper == null) {
             throw new InitializationException("No " + FieldAliasingMapper.class.getName() + " available");
         }
         fieldAliasingMapper.addFieldAlias(alias, definedIn, fieldName);
+        flushMapperCache();
     }
 
     /**
@@ -1230,16 +1317,26 @@ public class XStream {
      * @throws InitializationException if no {@link AttributeAliasingMapper} is available
      */
     public void aliasAttribute(final String alias, final String attributeName) {
+        checkNotFrozen();
         if (attributeAliasingMapper == null) {
             throw new InitializationException("No " + AttributeAliasingMapper.class.getName() + " available");
         }
         attributeAliasingMapper.addAliasFor(attributeName, alias);
+        flushMapperCache();
     }
 
     /**
      * Create an alias for a system attribute. XStream will not write a system attribute if its alias is set to
      * <code>null</code>. However, this is not reversible, i.e. deserialization of the result is likely to fail
      * afterwards and will not produce an object equal to the originally written one.
+     * <p>
+     * The system attributes <em>size</em> and <em>item-type</em> are an exception, they are not written unless they have
+     * an explicit alias. Set an alias for <em>size</em> to let the converters for collections, maps and arrays write the
+     * number of elements as size hint, e.g. <code>aliasSystemAttribute("size", "size")</code>. The hint is only used
+     * to presize the instances at deserialization and it is ignored by older versions of XStream. Set an alias for
+     * <em>item-type</em> to let the converters for collections and arrays write the type of the items only once at the
+     * collection if all items have the same type. Each item is then written with the fixed name <em>item</em>.
+     * </p>
      * 
      * @param alias the alias itself (may be <code>null</code>)
      * @param systemAttributeName the name of the system attribute
@@ -1247,10 +1344,12 @@ public class XStream {
      * @since 1.3.1
      */
     public void aliasSystemAttribute(final String alias, final String systemAttributeName) {
+        checkNotFrozen();
         if (systemAttributeAliasingMapper == null) {
             throw new InitializationException("No " + SystemAttributeAliasingMapper.class.getName() + " available");
         }
         systemAttributeAliasingMapper.addAliasFor(systemAttributeName, alias);
+        flushMapperCache();
     }
 
     /**
@@ -1276,10 +1375,12 @@ public class XStream {
      * @since 1.2
      */
     public void useAttributeFor(final String fieldName, final Class<?> type) {
+        checkNotFrozen();
         if (attributeMapper == null) {
             throw new InitializationException("No " + AttributeMapper.class.getName() + " available");
         }
         attributeMapper.addAttributeFor(fieldName, type);
+        flushMapperCache();
     }
 
     /**
@@ -1291,10 +1392,12 @@ public class XStream {
      * @since 1.2.2
      */
     public void useAttributeFor(final Class<?> definedIn, final String fieldName) {
+        checkNotFrozen();
         if (attributeMapper == null) {
             throw new InitializationException("No " + AttributeMapper.class.getName() + " available");
         }
         attributeMapper.addAttributeFor(definedIn, fieldName);
+        flushMapperCache();
     }
 
     /**
@@ -1305,10 +1408,12 @@ public class XStream {
      * @since 1.2
      */
     public void useAttributeFor(final Class<?> type) {
+        checkNotFrozen();
         if (attributeMapper == null) {
             throw new InitializationException("No " + AttributeMapper.class.getName() + " available");
         }
         attributeMapper.addAttributeFor(type);
+        flushMapperCache();
     }
 
     /**
@@ -1321,6 +1426,7 @@ public class XStream {
      * @throws InitializationException if no {@link DefaultImplementationsMapper} is available
      */
     public void addDefaultImplementation(final Class<?> defaultImplementation, final Class<?> ofType) {
+        checkNotFrozen();
         if (defaultImplementationsMapper == null) {
             throw new InitializationException("No " + DefaultImplementationsMapper.class.getName() + " available");
         }
@@ -1334,6 +1440,7 @@ public class XStream {
      * @throws InitializationException if no {@link ImmutableTypesMapper} is available
      */
     public void addImmutableType(final Class<?> type) {
+        checkNotFrozen();
         if (immutableTypesMapper == null) {
             throw new InitializationException("No " + ImmutableTypesMapper.class.getName() + " available");
         }
@@ -1356,8 +1463,12 @@ public class XStream {
      * @param priority the converter priority
      */
     public void registerConverter(final Converter converter, final int priority) {
+        checkNotFrozen();
         if (converterRegistry != null) {
             converterRegistry.registerConverter(converter, priority);
+            if (registeredConverters != null) {
+                registeredConverters.add(new ConverterRegistration(converter, priority));
+            }
         }
     }
 
@@ -1377,8 +1488,13 @@ public class XStream {
      * @param priority the converter priority
      */
     public void registerConverter(final SingleValueConverter converter, final int priority) {
+        checkNotFrozen();
         if (converterRegistry != null) {
-            converterRegistry.registerConverter(new SingleValueConverterWrapper(converter), priority);
+            final Converter wrapper = new SingleValueConverterWrapper(converter);
+            converterRegistry.registerConverter(wrapper, priority);
+            if (registeredConverters != null) {
+                registeredConverters.add(new ConverterRegistration(wrapper, priority));
+            }
         }
     }
 
@@ -1391,10 +1507,12 @@ public class XStream {
      * @since 1.3
      */
     public void registerLocalConverter(final Class<?> definedIn, final String fieldName, final Converter converter) {
+        checkNotFrozen();
         if (localConversionMapper == null) {
             throw new InitializationException("No " + LocalConversionMapper.class.getName() + " available");
         }
         localConversionMapper.registerLocalConverter(definedIn, fieldName, converter);
+        flushMapperCache();
     }
 
     /**
@@ -1579,10 +1697,12 @@ public class XStream {
      */
     public void addImplicitMap(final Class<?> ownerType, final String fieldName, final String itemName,
             final Class<?> itemType, final String keyFieldName) {
+        checkNotFrozen();
         if (implicitCollectionMapper == null) {
             throw new InitializationException("No " + ImplicitCollectionMapper.class.getName() + " available");
         }
         implicitCollectionMapper.add(ownerType, fieldName, itemName, itemType, keyFieldName);
+        flushMapperCache();
     }
 
     /**
@@ -1805,6 +1925,7 @@ public class XStream {
      * @since 1.1.1
      */
     public void setClassLoader(final ClassLoader classLoader) {
+        checkNotFrozen();
         classLoaderReference.setReference(classLoader);
     }
 
@@ -1836,10 +1957,12 @@ public class XStream {
      * @throws InitializationException if no {@link FieldAliasingMapper} is available
      */
     public void omitField(final Class<?> definedIn, final String fieldName) {
+        checkNotFrozen();
         if (fieldAliasingMapper == null) {
             throw new InitializationException("No " + FieldAliasingMapper.class.getName() + " available");
         }
         fieldAliasingMapper.omitField(definedIn, fieldName);
+        flushMapperCache();
     }
 
     /**
@@ -1868,10 +1991,12 @@ public class XStream {
      * @since 1.4.5
      */
     public void ignoreUnknownElements(final Pattern pattern) {
+        checkNotFrozen();
         if (fieldAliasingMapper == null) {
             throw new InitializationException("No " + FieldAliasingMapper.class.getName() + " available");
         }
         fieldAliasingMapper.addFieldsToIgnore(pattern);
+        flushMapperCache();
     }
 
     /**
@@ -1881,10 +2006,12 @@ public class XStream {
      * @since 1.3
      */
     public void processAnnotations(final Class<?>... types) {
+        checkNotFrozen();
         if (annotationMapper == null) {
             throw new InitializationException("No " + AnnotationMapper.class.getName() + " available");
         }
         annotationMapper.processAnnotations(types);
+        flushMapperCache();
     }
 
     /**
@@ -1896,9 +2023,231 @@ public class XStream {
      * @since 1.3
      */
     public void autodetectAnnotations(final boolean mode) {
+        checkNotFrozen();
         if (annotationMapper != null) {
             annotationMapper.autodetectAnnotations(mode);
         }
+        flushMapperCache();
+    }
+
+    /**
+     * Freeze the configuration of this XStream instance.
+     * <p>
+     * Any further call of a configuration method fails with an {@link InitializationException} and the default
+     * {@link ConverterLookup} switches to a lock-free cache. Publish the frozen instance safely to other threads, e.g.
+     * with a final or volatile field. An instance that auto-detects annotations cannot be frozen, since the detection
+     * changes the configuration at runtime. Process the annotations of the types in advance instead.
+     * </p>
+     * 
+     * @throws InitializationException if annotations are auto-detected
+     * @since upcoming
+     */
+    public void freeze() {
+        if (!frozen) {
+            if (annotationMapper != null && annotationMapper.isAutodetectingAnnotations()) {
+                throw new InitializationException(
+                    "Cannot freeze XStream configuration while annotations are auto-detected");
+            }
+            if (defaultConverterLookup != null) {
+                defaultConverterLookup.freeze();
+            } else if (converterLookup instanceof DefaultConverterLookup) {
+                ((DefaultConverterLookup)converterLookup).freeze();
+            }
+            frozen = true;
+        }
+    }
+
+    /**
+     * Check whether the configuration of this XStream instance is frozen.
+     * 
+     * @return <code>true</code> if {@link #freeze()} has been called
+     * @since upcoming
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Warm up the caches for the given types.
+     * <p>
+     * The types and all types reachable from them are resolved as they are at their first marshalling or
+     * unmarshalling: class and field aliases, the selected converters, implicit collections, attribute mappings, the
+     * serialization members and the encoded names of the driver. The fields of types handled by a reflection based
+     * converter are followed into their types, their declared type arguments and the item types of implicit
+     * collections. A type that cannot be processed is skipped and returned together with the cause, it will fail again
+     * at its first usage. The configuration is not changed, therefore a frozen instance can be warmed up, too.
+     * </p>
+     * 
+     * @param types the root types
+     * @return the types that could not be processed, mapped to the cause of their failure
+     * @since upcoming
+     */
+    public Map<Class<?>, Throwable> warmUp(final Class<?>... types) {
+        final Set<Class<?>> visited = new HashSet<Class<?>>();
+        final LinkedList<Class<?>> pending = new LinkedList<Class<?>>(Arrays.asList(types));
+        final Set<String> names = new LinkedHashSet<String>();
+        final Map<Class<?>, Throwable> failed = new LinkedHashMap<Class<?>, Throwable>();
+        while (!pending.isEmpty()) {
+            final Class<?> type = pending.removeFirst();
+            if (type != null && visited.add(type)) {
+                try {
+                    warmUpType(type, pending, names);
+                } catch (final XStreamException e) {
+                    failed.put(type, e);
+                } catch (final LinkageError e) {
+                    failed.put(type, e);
+                }
+            }
+        }
+        warmUpNames(names);
+        return failed;
+    }
+
+    /**
+     * Export the names of the types processed by this instance.
+     * <p>
+     * The names of all types this instance has looked up a converter for are written line by line, i.e. also the
+     * types that were only found at runtime. A new instance with the same configuration can
+     * {@linkplain #warmUp(Reader) warm up} these types, e.g. at the start of another JVM. Only the names are exported,
+     * any metadata is resolved again by the configured mappers and converters. Nothing is written for an instance with
+     * a custom {@link ConverterLookup}.
+     * </p>
+     * 
+     * @param writer the target of the names
+     * @throws IOException if the names cannot be written
+     * @since upcoming
+     */
+    public void exportWarmUpTypes(final Writer writer) throws IOException {
+        if (defaultConverterLookup != null) {
+            final Set<String> names = new TreeSet<String>();
+            for (final Class<?> type : defaultConverterLookup.getCachedTypes()) {
+                if (!type.isPrimitive()) {
+                    names.add(type.getName());
+                }
+            }
+            for (final String name : names) {
+                writer.write(name);
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Warm up the caches for the types listed by name.
+     * <p>
+     * Each line contains the name of a type as {@linkplain #exportWarmUpTypes(Writer) exported} by another instance.
+     * The name is resolved by the mapper like a type name found in the input, i.e. the security framework checks the
+     * type before it is {@linkplain #warmUp(Class...) warmed up} together with its reachable types. A name that cannot
+     * be resolved or is not permitted is skipped and returned together with the cause.
+     * </p>
+     * 
+     * @param reader the source of the names
+     * @return the names of the types that could not be processed, mapped to the cause of their failure
+     * @throws IOException if the names cannot be read
+     * @since upcoming
+     */
+    public Map<String, Throwable> warmUp(final Reader reader) throws IOException {
+        final BufferedReader in = new BufferedReader(reader);
+        final List<Class<?>> types = new ArrayList<Class<?>>();
+        final Map<String, Throwable> failed = new LinkedHashMap<String, Throwable>();
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            final String name = line.trim();
+            if (name.length() > 0) {
+                try {
+                    types.add(mapper.realClass(name));
+                } catch (final XStreamException e) {
+                    failed.put(name, e);
+                } catch (final LinkageError e) {
+                    failed.put(name, e);
+                }
+            }
+        }
+        for (final Map.Entry<Class<?>, Throwable> entry : warmUp(types.toArray(new Class<?>[types.size()]))
+            .entrySet()) {
+            failed.put(entry.getKey().getName(), entry.getValue());
+        }
+        return failed;
+    }
+
+    private void warmUpType(final Class<?> type, final List<Class<?>> pending, final Set<String> names) {
+        final String name = mapper.serializedClass(type);
+        names.add(name);
+        if (type.isArray()) {
+            pending.add(type.getComponentType());
+        }
+        final Converter converter = converterLookup.lookupConverterForType(type);
+        if (converter instanceof WarmUp) {
+            ((WarmUp)converter).warmUp(type);
+        }
+        if (converter instanceof AbstractReflectionConverter) {
+            for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+                for (final Field field : cls.getDeclaredFields()) {
+                    if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0) {
+                        warmUpField(type, field, pending, names);
+                    }
+                }
+            }
+        }
+        mapper.realClass(name);
+    }
+
+    private void warmUpField(final Class<?> type, final Field field, final List<Class<?>> pending,
+            final Set<String> names) {
+        final Class<?> definedIn = field.getDeclaringClass();
+        final String fieldName = field.getName();
+        if (!mapper.shouldSerializeMember(definedIn, fieldName)) {
+            return;
+        }
+        reflectionProvider.getFieldOrNull(type, fieldName);
+        final String member = mapper.serializedMember(definedIn, fieldName);
+        names.add(member);
+        mapper.realMember(type, member);
+        mapper.getLocalConverter(definedIn, fieldName);
+        final Class<?> fieldType = field.getType();
+        if (mapper.getConverterFromItemType(fieldName, fieldType, definedIn) != null) {
+            names.add(mapper.aliasForAttribute(member));
+        }
+        final Mapper.ImplicitCollectionMapping mapping = mapper.getImplicitCollectionDefForFieldName(type, fieldName);
+        if (mapping != null) {
+            pending.add(mapping.getItemType());
+            if (mapping.getItemFieldName() != null) {
+                names.add(mapping.getItemFieldName());
+                mapper.getItemTypeForItemFieldName(type, mapping.getItemFieldName());
+            }
+        }
+        pending.add(fieldType);
+        pending.add(mapper.defaultImplementationOf(fieldType));
+        addTypeArguments(field.getGenericType(), pending);
+    }
+
+    private static void addTypeArguments(final Type type, final List<Class<?>> pending) {
+        if (type instanceof ParameterizedType) {
+            for (final Type argument : ((ParameterizedType)type).getActualTypeArguments()) {
+                if (argument instanceof Class) {
+                    pending.add((Class<?>)argument);
+                } else if (argument instanceof ParameterizedType) {
+                    pending.add((Class<?>)((ParameterizedType)argument).getRawType());
+                    addTypeArguments(argument, pending);
+                }
+            }
+        }
+    }
+
+    private void warmUpNames(final Set<String> names) {
+        final HierarchicalStreamWriter writer;
+        try {
+            writer = hierarchicalStreamDriver.createWriter(new StringWriter());
+        } catch (final UnsupportedOperationException e) {
+            return;
+        }
+        if (writer.underlyingWriter() instanceof AbstractWriter) {
+            final AbstractWriter abstractWriter = (AbstractWriter)writer.underlyingWriter();
+            for (final String name : names) {
+                abstractWriter.encodeNode(name);
+                abstractWriter.encodeAttribute(name);
+            }
+        }
     }
 
     /**
@@ -1912,9 +2261,11 @@ public class XStream {
      * @since 1.4.7
      */
     public void addPermission(final TypePermission permission) {
+        checkNotFrozen();
         if (securityMapper != null) {
             securityMapper.addPermission(permission);
         }
+        flushMapperCache();
     }
 
     /**
@@ -2066,4 +2417,14 @@ public class XStream {
     public void denyTypesByWildcard(final String... patterns) {
         denyPermission(new WildcardTypePermission(patterns));
     }
+
+    private static final class ConverterRegistration {
+        private final Converter converter;
+        private final int priority;
+
+        ConverterRegistration(final Converter converter, final int priority) {
+            this.converter = converter;
+            this.priority = priority;
+        }
+    }
 }
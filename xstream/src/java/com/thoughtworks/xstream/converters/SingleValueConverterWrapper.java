@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -10,6 +10,11 @@
  */
 package com.thoughtworks.xstream.converters;
 
+import com.thoughtworks.xstream.converters.basic.ByteConverter;
+import com.thoughtworks.xstream.converters.basic.IntConverter;
+import com.thoughtworks.xstream.converters.basic.LongConverter;
+import com.thoughtworks.xstream.converters.basic.ShortConverter;
+import com.thoughtworks.xstream.io.ExtendedHierarchicalStreamWriterHelper;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 
@@ -25,9 +30,25 @@ import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 public class SingleValueConverterWrapper implements Converter, SingleValueConverter, ErrorReporter {
 
     private final SingleValueConverter wrapped;
+    private final boolean integral;
 
     public SingleValueConverterWrapper(final SingleValueConverter wrapped) {
         this.wrapped = wrapped;
+        final Class<?> type = wrapped == null ? null : wrapped.getClass();
+        integral = type == IntConverter.class
+            || type == LongConverter.class
+            || type == ShortConverter.class
+            || type == ByteConverter.class;
+    }
+
+    /**
+     * Retrieve the wrapped converter.
+     *
+     * @return the wrapped SingleValueConverter
+     * @since upcoming
+     */
+    public SingleValueConverter getWrapped() {
+        return wrapped;
     }
 
     @Override
@@ -47,7 +68,11 @@ public class SingleValueConverterWrapper implements Converter, SingleValueConver
 
     @Override
     public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
-        writer.setValue(toString(source));
+        if (integral) {
+            ExtendedHierarchicalStreamWriterHelper.setValue(writer, ((Number)source).longValue());
+        } else {
+            writer.setValue(toString(source));
+        }
     }
 
     @Override
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,9 @@
  */
 package com.thoughtworks.xstream.converters.basic;
 
+import com.thoughtworks.xstream.core.util.Numbers;
+
+
 /**
  * Converts a byte primitive or {@link Byte} wrapper to
  * a string.
@@ -26,7 +29,7 @@ public class ByteConverter extends AbstractSingleValueConverter {
 
     @Override
     public Object fromString(final String str) {
-        final int value = Integer.decode(str).intValue();
+        final int value = Numbers.isDecimal(str) ? Integer.parseInt(str) : Integer.decode(str).intValue();
         if(value < Byte.MIN_VALUE || value > 0xFF) {
             throw new NumberFormatException("For input string: \"" + str + '"');
         }
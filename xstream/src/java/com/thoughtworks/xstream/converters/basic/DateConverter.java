@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2012, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2012, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -24,6 +24,7 @@ import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.ErrorReporter;
 import com.thoughtworks.xstream.converters.ErrorWriter;
 import com.thoughtworks.xstream.core.JVM;
+import com.thoughtworks.xstream.core.util.Dates;
 import com.thoughtworks.xstream.core.util.ThreadSafeSimpleDateFormat;
 
 
@@ -92,6 +93,7 @@ public class DateConverter extends AbstractSingleValueConverter implements Error
     private final ThreadSafeSimpleDateFormat defaultFormat;
     private final ThreadSafeSimpleDateFormat defaultEraFormat;
     private final ThreadSafeSimpleDateFormat[] acceptableFormats;
+    private final boolean defaultUTC;
 
     /**
      * Construct a DateConverter with standard formats and lenient set off.
@@ -188,6 +190,10 @@ public class DateConverter extends AbstractSingleValueConverter implements Error
             this.defaultEraFormat = null;
         }
         this.defaultFormat = new ThreadSafeSimpleDateFormat(defaultFormat, timeZone, locale, 4, 20, lenient);
+        defaultUTC = DEFAULT_PATTERN.equals(defaultFormat)
+            && Locale.ENGLISH.equals(locale)
+            && timeZone != null
+            && UTC.getID().equals(timeZone.getID());
         this.acceptableFormats = acceptableFormats != null
             ? new ThreadSafeSimpleDateFormat[acceptableFormats.length]
             : new ThreadSafeSimpleDateFormat[0];
@@ -204,6 +210,12 @@ public class DateConverter extends AbstractSingleValueConverter implements Error
 
     @Override
     public Object fromString(final String str) {
+        if (defaultUTC) {
+            final long millis = parseDefaultUTC(str);
+            if (millis != Dates.INVALID) {
+                return new Date(millis);
+            }
+        }
         if (defaultEraFormat != null) {
             try {
                 return defaultEraFormat.parse(str);
@@ -232,13 +244,36 @@ public class DateConverter extends AbstractSingleValueConverter implements Error
     @Override
     public String toString(final Object obj) {
         final Date date = (Date)obj;
-        if (date.getTime() < ERA_START && defaultEraFormat != null) {
+        final long millis = date.getTime();
+        if (defaultUTC && millis >= Dates.GREGORIAN_START && millis < Dates.YEAR_10000) {
+            final StringBuilder buffer = new StringBuilder(25);
+            final int millisOfSecond = Dates.appendDateTime(buffer, millis, ' ');
+            buffer.append('.').append(millisOfSecond).append(" UTC");
+            return buffer.toString();
+        }
+        if (millis < ERA_START && defaultEraFormat != null) {
             return defaultEraFormat.format(date);
         } else {
             return defaultFormat.format(date);
         }
     }
 
+    /**
+     * Parse the default format at UTC directly. Anything the parser does not support is left to the date formats.
+     */
+    private static long parseDefaultUTC(final String str) {
+        final int length = str.length();
+        if (length < 25 || length > 27 || str.charAt(19) != '.' || !str.endsWith(" UTC")) {
+            return Dates.INVALID;
+        }
+        final long millis = Dates.parseDateTime(str, ' ');
+        final int fraction = Dates.parseDigits(str, 20, length - 4);
+        if (millis < Dates.GREGORIAN_START || fraction < 0) {
+            return Dates.INVALID;
+        }
+        return millis + fraction;
+    }
+
     @Override
     public void appendErrors(final ErrorWriter errorWriter) {
         errorWriter.add("Default date pattern", defaultFormat.toString());
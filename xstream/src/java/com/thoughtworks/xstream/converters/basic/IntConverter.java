@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004 Joe Walnes.
- * Copyright (C) 2006, 2007 XStream Committers.
+ * Copyright (C) 2006, 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,9 @@
  */
 package com.thoughtworks.xstream.converters.basic;
 
+import com.thoughtworks.xstream.core.util.Numbers;
+
+
 /**
  * Converts an int primitive or {@link Integer} wrapper to a string.
  * 
@@ -25,7 +28,7 @@ public class IntConverter extends AbstractSingleValueConverter {
 
     @Override
     public Object fromString(final String str) {
-        final long value = Long.decode(str).longValue();
+        final long value = Numbers.isDecimal(str) ? Long.parseLong(str) : Long.decode(str).longValue();
         if (value < Integer.MIN_VALUE || value > 0xFFFFFFFFl) {
             throw new NumberFormatException("For input string: \"" + str + '"');
         }
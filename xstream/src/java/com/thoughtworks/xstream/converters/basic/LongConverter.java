@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,9 @@
  */
 package com.thoughtworks.xstream.converters.basic;
 
+import com.thoughtworks.xstream.core.util.Numbers;
+
+
 /**
  * Converts a long primitive or {@link Long} wrapper to a string.
  * 
@@ -29,6 +32,9 @@ public class LongConverter extends AbstractSingleValueConverter {
         if (len == 0) {
             throw new NumberFormatException("For input string: \"\"");
         }
+        if (Numbers.isDecimal(str)) {
+            return Long.valueOf(Long.parseLong(str));
+        }
         if (len < 17) {
             return Long.decode(str);
         }
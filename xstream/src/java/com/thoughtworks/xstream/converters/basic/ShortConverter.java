@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,9 @@
  */
 package com.thoughtworks.xstream.converters.basic;
 
+import com.thoughtworks.xstream.core.util.Numbers;
+
+
 /**
  * Converts a short primitive or {@link Short} wrapper to a string.
  * 
@@ -25,7 +28,7 @@ public class ShortConverter extends AbstractSingleValueConverter {
 
     @Override
     public Object fromString(final String str) {
-        final int value = Integer.decode(str).intValue();
+        final int value = Numbers.isDecimal(str) ? Integer.parseInt(str) : Integer.decode(str).intValue();
         if (value < Short.MIN_VALUE || value > 0xFFFF) {
             throw new NumberFormatException("For input string: \"" + str + '"');
         }
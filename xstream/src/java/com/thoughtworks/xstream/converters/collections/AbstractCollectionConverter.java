@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,15 @@
  */
 package com.thoughtworks.xstream.converters.collections;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
@@ -34,12 +43,35 @@ import com.thoughtworks.xstream.mapper.Mapper;
 public abstract class AbstractCollectionConverter implements Converter {
 
     private final Mapper mapper;
+    private final boolean presizing;
 
     @Override
     public abstract boolean canConvert(Class<?> type);
 
     public AbstractCollectionConverter(final Mapper mapper) {
         this.mapper = mapper;
+        presizing = isPresizing(getClass());
+    }
+
+    private static boolean isPresizing(final Class<?> type) {
+        try {
+            // a subclass that overrides only createCollection(Class) must not be bypassed
+            return declaringClass(type, Class.class).isAssignableFrom(declaringClass(type, Class.class, int.class));
+        } catch (final SecurityException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> declaringClass(final Class<?> type, final Class<?>... parameterTypes) {
+        for (Class<?> cls = type; cls != AbstractCollectionConverter.class; cls = cls.getSuperclass()) {
+            try {
+                cls.getDeclaredMethod("createCollection", parameterTypes);
+                return cls;
+            } catch (final NoSuchMethodException e) {
+                // continue with super class
+            }
+        }
+        return AbstractCollectionConverter.class;
     }
 
     protected Mapper mapper() {
@@ -73,6 +105,93 @@ public abstract class AbstractCollectionConverter implements Converter {
         return context.convertAnother(current, type);
     }
 
+    /**
+     * Write the common type of all items for a homogeneous collection.
+     * <p>
+     * The homogeneous encoding is only used if the system attribute <em>item-type</em> has an alias and if all items
+     * are of the same type and not <code>null</code>. In this case the type is written once as attribute of the
+     * collection and every item is written with the fixed name <em>item</em>.
+     * </p>
+     *
+     * @param items the items of the collection
+     * @param writer the writer positioned at the node of the collection before any child has been written
+     * @return the common type of the items or <code>null</code> if the homogeneous encoding is not used
+     * @since upcoming
+     */
+    protected Class<?> writeItemType(final Iterable<?> items, final HierarchicalStreamWriter writer) {
+        final String attributeName = mapper().aliasForSystemAttribute("item-type");
+        if (attributeName == null) {
+            return null;
+        }
+        Class<?> itemType = null;
+        for (final Object item : items) {
+            if (item == null || itemType != null && item.getClass() != itemType) {
+                return null;
+            }
+            itemType = item.getClass();
+        }
+        if (itemType != null) {
+            writer.addAttribute(attributeName, mapper().serializedClass(itemType));
+        }
+        return itemType;
+    }
+
+    /**
+     * Write an item of a homogeneous collection.
+     *
+     * @param item the item
+     * @param itemType the common type of the items or <code>null</code> for the default encoding
+     * @param context the marshalling context
+     * @param writer the writer
+     * @see #writeItemType(Iterable, HierarchicalStreamWriter)
+     * @since upcoming
+     */
+    protected void writeItem(final Object item, final Class<?> itemType, final MarshallingContext context,
+            final HierarchicalStreamWriter writer) {
+        if (itemType == null) {
+            writeItem(item, context, writer);
+        } else {
+            ExtendedHierarchicalStreamWriterHelper.startNode(writer, "item", itemType);
+            context.convertAnother(item);
+            writer.endNode();
+        }
+    }
+
+    /**
+     * Read the common type of all items of a homogeneous collection.
+     *
+     * @param reader the reader positioned at the node of the collection
+     * @return the common type of the items or <code>null</code> if the collection does not use the homogeneous
+     *         encoding
+     * @since upcoming
+     */
+    protected Class<?> readItemType(final HierarchicalStreamReader reader) {
+        final String attributeName = mapper().aliasForSystemAttribute("item-type");
+        final String itemType = attributeName == null ? null : reader.getAttribute(attributeName);
+        return itemType == null ? null : mapper().realClass(itemType);
+    }
+
+    /**
+     * Read an item of a homogeneous collection. The type of the item is only determined by the node itself if it has a
+     * class attribute.
+     *
+     * @param reader the reader positioned at the node of the item
+     * @param context the unmarshalling context
+     * @param current the current object
+     * @param itemType the common type of the items or <code>null</code> for the default encoding
+     * @return the item
+     * @see #readItemType(HierarchicalStreamReader)
+     * @since upcoming
+     */
+    protected Object readItem(final HierarchicalStreamReader reader, final UnmarshallingContext context,
+            final Object current, final Class<?> itemType) {
+        if (itemType == null) {
+            return readItem(reader, context, current);
+        }
+        final String classAttribute = HierarchicalStreams.readClassAttribute(reader, mapper());
+        return context.convertAnother(current, classAttribute == null ? itemType : mapper().realClass(classAttribute));
+    }
+
     protected Object createCollection(final Class<?> type) {
         final Class<?> defaultType = mapper().defaultImplementationOf(type);
         try {
@@ -83,4 +202,44 @@ public abstract class AbstractCollectionConverter implements Converter {
             throw new ConversionException("Cannot instantiate " + defaultType.getName(), e);
         }
     }
+
+    /**
+     * Create a collection for an expected number of elements.
+     * <p>
+     * The JDK types {@link ArrayList}, {@link Vector}, {@link HashSet}, {@link LinkedHashSet}, {@link HashMap},
+     * {@link LinkedHashMap}, {@link Hashtable} and {@link ConcurrentHashMap} are presized. Any other type or a negative
+     * size hint is handled by {@link #createCollection(Class)}. The same applies to any type if a subclass overrides
+     * {@link #createCollection(Class)} without overriding this method.
+     * </p>
+     *
+     * @param type the type of the collection
+     * @param sizeHint the expected number of elements or -1 if unknown
+     * @return the new collection
+     * @see HierarchicalStreams#readSizeHint(HierarchicalStreamReader, Mapper)
+     * @since upcoming
+     */
+    protected Object createCollection(final Class<?> type, final int sizeHint) {
+        if (sizeHint >= 0 && presizing) {
+            final Class<?> defaultType = mapper().defaultImplementationOf(type);
+            final int capacity = sizeHint < 3 ? sizeHint + 1 : (int)(sizeHint / 0.75f + 1.0f);
+            if (defaultType == ArrayList.class) {
+                return new ArrayList<Object>(sizeHint);
+            } else if (defaultType == Vector.class) {
+                return new Vector<Object>(sizeHint);
+            } else if (defaultType == HashSet.class) {
+                return new HashSet<Object>(capacity);
+            } else if (defaultType == LinkedHashSet.class) {
+                return new LinkedHashSet<Object>(capacity);
+            } else if (defaultType == HashMap.class) {
+                return new HashMap<Object, Object>(capacity);
+            } else if (defaultType == LinkedHashMap.class) {
+                return new LinkedHashMap<Object, Object>(capacity);
+            } else if (defaultType == Hashtable.class) {
+                return new Hashtable<Object, Object>(capacity);
+            } else if (defaultType == ConcurrentHashMap.class) {
+                return new ConcurrentHashMap<Object, Object>(capacity);
+            }
+        }
+        return createCollection(type);
+    }
 }
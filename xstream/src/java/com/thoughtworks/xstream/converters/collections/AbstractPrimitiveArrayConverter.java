@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import java.lang.reflect.Array;
+
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.converters.SingleValueConverter;
+import com.thoughtworks.xstream.converters.SingleValueConverterWrapper;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
+import com.thoughtworks.xstream.io.ExtendedHierarchicalStreamWriterHelper;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Base class for converters of an array with a primitive component type.
+ * <p>
+ * The elements are formatted and parsed directly from and into the primitive array without boxing them and without
+ * collecting them in an intermediate list. By default the array is written with a nested child element for each item
+ * in the same format as the {@link ArrayConverter}. In compact mode the complete array is written as a single text
+ * value with comma separated elements instead. The converter reads both formats independent of the mode.
+ * </p>
+ * <p>
+ * If the converter registered for the wrapper type of the component type is not the default one, the elements are
+ * converted with this converter. If it is not even a {@link SingleValueConverter}, the conversion is delegated to an
+ * {@link ArrayConverter}.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public abstract class AbstractPrimitiveArrayConverter implements Converter {
+
+    private static final char SEPARATOR = ',';
+
+    private final Class<?> arrayType;
+    private final Class<?> wrapperType;
+    private final Class<? extends SingleValueConverter> defaultElementConverterType;
+    private final Mapper mapper;
+    private final ConverterLookup lookup;
+    private final boolean compact;
+    private final ArrayConverter fallback;
+
+    /**
+     * Constructs an AbstractPrimitiveArrayConverter.
+     *
+     * @param arrayType the handled array type
+     * @param wrapperType the wrapper type of the array's component type
+     * @param defaultElementConverterType the type of the default converter for the wrapper type
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the wrapper type
+     * @param compact <code>true</code> to write the array as single comma separated value
+     * @since upcoming
+     */
+    protected AbstractPrimitiveArrayConverter(
+            final Class<?> arrayType, final Class<?> wrapperType,
+            final Class<? extends SingleValueConverter> defaultElementConverterType, final Mapper mapper,
+            final ConverterLookup lookup, final boolean compact) {
+        this.arrayType = arrayType;
+        this.wrapperType = wrapperType;
+        this.defaultElementConverterType = defaultElementConverterType;
+        this.mapper = mapper;
+        this.lookup = lookup;
+        this.compact = compact;
+        fallback = new ArrayConverter(mapper);
+    }
+
+    @Override
+    public boolean canConvert(final Class<?> type) {
+        return type == arrayType;
+    }
+
+    @Override
+    public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
+        final SingleValueConverter elementConverter = getElementConverter();
+        if (elementConverter == null) {
+            fallback.marshal(source, writer, context);
+            return;
+        }
+        final boolean isDefault = isDefaultElementConverter(elementConverter);
+        final int length = Array.getLength(source);
+        if (compact) {
+            final StringBuilder buffer = new StringBuilder(length * 4);
+            for (int i = 0; i < length; ++i) {
+                if (i > 0) {
+                    buffer.append(SEPARATOR);
+                }
+                buffer.append(isDefault ? toString(source, i) : elementConverter.toString(Array.get(source, i)));
+            }
+            writer.setValue(buffer.toString());
+        } else {
+            HierarchicalStreams.writeSizeHint(writer, mapper, length);
+            final String name = mapper.serializedClass(wrapperType);
+            for (int i = 0; i < length; ++i) {
+                ExtendedHierarchicalStreamWriterHelper.startNode(writer, name, wrapperType);
+                writer.setValue(isDefault ? toString(source, i) : elementConverter.toString(Array.get(source, i)));
+                writer.endNode();
+            }
+        }
+    }
+
+    @Override
+    public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
+        final SingleValueConverter elementConverter = getElementConverter();
+        if (elementConverter == null) {
+            return fallback.unmarshal(reader, context);
+        }
+        final boolean isDefault = isDefaultElementConverter(elementConverter);
+        if (reader.hasMoreChildren()) {
+            // without size hint the number of elements is unknown, therefore grow the array while reading
+            final int sizeHint = HierarchicalStreams.readSizeHint(reader, mapper);
+            Object array = newArray(sizeHint < 0 ? 16 : sizeHint);
+            int length = 0;
+            while (reader.hasMoreChildren()) {
+                reader.moveDown();
+                if (length == Array.getLength(array)) {
+                    array = copyOf(array, length, length * 2 + 1);
+                }
+                setElement(array, length++, reader.getValue(), elementConverter, isDefault);
+                reader.moveUp();
+            }
+            return length == Array.getLength(array) ? array : copyOf(array, length, length);
+        } else {
+            final String value = reader.getValue();
+            if (value == null || value.length() == 0) {
+                return newArray(0);
+            }
+            int length = 1;
+            for (int pos = value.indexOf(SEPARATOR); pos >= 0; pos = value.indexOf(SEPARATOR, pos + 1)) {
+                ++length;
+            }
+            final Object array = newArray(length);
+            int start = 0;
+            for (int i = 0; i < length; ++i) {
+                int end = value.indexOf(SEPARATOR, start);
+                if (end < 0) {
+                    end = value.length();
+                }
+                setElement(array, i, value.substring(start, end).trim(), elementConverter, isDefault);
+                start = end + 1;
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Check whether the converter registered for the wrapper type of the component type is the default one. Only in
+     * this case the elements are formatted and parsed by the primitive implementation of the array converter.
+     *
+     * @param elementConverter the registered converter
+     * @return <code>true</code> if the converter is the default one
+     * @since upcoming
+     */
+    protected boolean isDefaultElementConverter(final SingleValueConverter elementConverter) {
+        return elementConverter.getClass() == defaultElementConverterType;
+    }
+
+    /**
+     * Create a new array.
+     *
+     * @param length the length of the array
+     * @return the new array
+     * @since upcoming
+     */
+    protected abstract Object newArray(int length);
+
+    /**
+     * Format an element of the array.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the formatted element
+     * @since upcoming
+     */
+    protected abstract String toString(Object array, int index);
+
+    /**
+     * Parse the value of an element and set it in the array.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the formatted element
+     * @since upcoming
+     */
+    protected abstract void fromString(Object array, int index, String value);
+
+    private SingleValueConverter getElementConverter() {
+        final Converter converter = lookup.lookupConverterForType(wrapperType);
+        return converter instanceof SingleValueConverterWrapper
+            ? ((SingleValueConverterWrapper)converter).getWrapped()
+            : converter instanceof SingleValueConverter ? (SingleValueConverter)converter : null;
+    }
+
+    private void setElement(final Object array, final int index, final String value,
+            final SingleValueConverter elementConverter, final boolean isDefault) {
+        if (isDefault) {
+            fromString(array, index, value);
+        } else {
+            Array.set(array, index, elementConverter.fromString(value));
+        }
+    }
+
+    private Object copyOf(final Object array, final int length, final int newLength) {
+        final Object copy = newArray(newLength);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,11 +12,11 @@
 package com.thoughtworks.xstream.converters.collections;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import com.thoughtworks.xstream.mapper.Mapper;
@@ -42,29 +42,41 @@ public class ArrayConverter extends AbstractCollectionConverter {
     @Override
     public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
         final int length = Array.getLength(source);
+        HierarchicalStreams.writeSizeHint(writer, mapper(), length);
+        final Class<?> itemType = source instanceof Object[]
+            ? writeItemType(Arrays.asList((Object[])source), writer)
+            : null;
         for (int i = 0; i < length; i++) {
             final Object item = Array.get(source, i);
-            writeItem(item, context, writer);
+            writeItem(item, itemType, context, writer);
         }
 
     }
 
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
-        // read the items from xml into a list (the array size is not known until all items have been read)
-        final List<Object> items = new ArrayList<Object>();
+        // the array size is only known in advance with a size hint, otherwise grow the array while reading
+        final Class<?> componentType = context.getRequiredType().getComponentType();
+        final int sizeHint = HierarchicalStreams.readSizeHint(reader, mapper());
+        final Class<?> itemType = readItemType(reader);
+        Object array = Array.newInstance(componentType, sizeHint < 0 ? 16 : sizeHint);
+        int length = 0;
         while (reader.hasMoreChildren()) {
             reader.moveDown();
-            final Object item = readItem(reader, context, null); // TODO: arg, what should replace null?
-            items.add(item);
+            final Object item = readItem(reader, context, null, itemType); // TODO: arg, what should replace null?
+            if (length == Array.getLength(array)) {
+                array = copyOf(array, componentType, length, length * 2 + 1);
+            }
+            Array.set(array, length++, item);
             reader.moveUp();
         }
-        // now convertAnother the list into an array
-        final Object array = Array.newInstance(context.getRequiredType().getComponentType(), items.size());
-        int i = 0;
-        for (final Object item : items) {
-            Array.set(array, i++, item);
-        }
-        return array;
+        return length == Array.getLength(array) ? array : copyOf(array, componentType, length, length);
+    }
+
+    private static Object copyOf(final Object array, final Class<?> componentType, final int length,
+            final int newLength) {
+        final Object copy = Array.newInstance(componentType, newLength);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
     }
 }
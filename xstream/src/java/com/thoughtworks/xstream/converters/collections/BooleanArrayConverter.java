@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.SingleValueConverter;
+import com.thoughtworks.xstream.converters.basic.BooleanConverter;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Converts a boolean[] without boxing the elements.
+ *
+ * @author agent
+ * @see AbstractPrimitiveArrayConverter
+ * @since upcoming
+ */
+public class BooleanArrayConverter extends AbstractPrimitiveArrayConverter {
+
+    /**
+     * Constructs a BooleanArrayConverter writing a nested element for each item.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @since upcoming
+     */
+    public BooleanArrayConverter(final Mapper mapper, final ConverterLookup lookup) {
+        this(mapper, lookup, false);
+    }
+
+    /**
+     * Constructs a BooleanArrayConverter.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @param compact <code>true</code> to write the array as single comma separated value
+     * @since upcoming
+     */
+    public BooleanArrayConverter(final Mapper mapper, final ConverterLookup lookup, final boolean compact) {
+        super(boolean[].class, Boolean.class, BooleanConverter.class, mapper, lookup, compact);
+    }
+
+    /**
+     * {@inheritDoc} A BooleanConverter is only the default one if it uses the case insensitive values
+     * <em>true</em> and <em>false</em>.
+     */
+    @Override
+    protected boolean isDefaultElementConverter(final SingleValueConverter elementConverter) {
+        return super.isDefaultElementConverter(elementConverter)
+            && "true".equals(elementConverter.toString(Boolean.TRUE))
+            && "false".equals(elementConverter.toString(Boolean.FALSE))
+            && Boolean.TRUE.equals(elementConverter.fromString("TRUE"));
+    }
+
+    @Override
+    protected Object newArray(final int length) {
+        return new boolean[length];
+    }
+
+    @Override
+    protected String toString(final Object array, final int index) {
+        return Boolean.toString(((boolean[])array)[index]);
+    }
+
+    @Override
+    protected void fromString(final Object array, final int index, final String value) {
+        ((boolean[])array)[index] = "true".equalsIgnoreCase(value);
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -20,6 +20,7 @@ import java.util.Vector;
 
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import com.thoughtworks.xstream.mapper.Mapper;
@@ -74,15 +75,18 @@ public class CollectionConverter extends AbstractCollectionConverter {
     @Override
     public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
         final Collection<?> collection = (Collection<?>)source;
+        HierarchicalStreams.writeSizeHint(writer, mapper(), collection.size());
+        final Class<?> itemType = writeItemType(collection, writer);
         for (final Object item : collection) {
-            writeItem(item, context, writer);
+            writeItem(item, itemType, context, writer);
         }
     }
 
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
         final Class<?> collectionType = context.getRequiredType();
-        final Collection<?> collection = createCollection(collectionType);
+        final Collection<?> collection = createCollection(collectionType, HierarchicalStreams.readSizeHint(reader,
+            mapper()));
         populateCollection(reader, context, collection);
         return collection;
     }
@@ -94,9 +98,10 @@ public class CollectionConverter extends AbstractCollectionConverter {
 
     protected void populateCollection(final HierarchicalStreamReader reader, final UnmarshallingContext context,
             final Collection<?> collection, final Collection<?> target) {
+        final Class<?> itemType = readItemType(reader);
         while (reader.hasMoreChildren()) {
             reader.moveDown();
-            addCurrentElementToCollection(reader, context, collection, target);
+            addCurrentElementToCollection(reader, context, collection, target, itemType);
             reader.moveUp();
         }
     }
@@ -109,8 +114,37 @@ public class CollectionConverter extends AbstractCollectionConverter {
         targetCollection.add(item);
     }
 
+    /**
+     * Add the current element of a collection that may use the homogeneous encoding.
+     *
+     * @param reader the reader positioned at the node of the element
+     * @param context the unmarshalling context
+     * @param collection the collection
+     * @param target the target collection for the element
+     * @param itemType the common type of the elements or <code>null</code> for the default encoding
+     * @see #readItemType(HierarchicalStreamReader)
+     * @since upcoming
+     */
+    protected void addCurrentElementToCollection(final HierarchicalStreamReader reader,
+            final UnmarshallingContext context, final Collection<?> collection, final Collection<?> target,
+            final Class<?> itemType) {
+        if (itemType == null) {
+            addCurrentElementToCollection(reader, context, collection, target);
+        } else {
+            final Object item = readItem(reader, context, collection, itemType);
+            @SuppressWarnings("unchecked")
+            final Collection<Object> targetCollection = (Collection<Object>)target;
+            targetCollection.add(item);
+        }
+    }
+
     @Override
     protected Collection<?> createCollection(final Class<?> type) {
         return (Collection<?>)super.createCollection(this.type != null ? this.type : type);
     }
+
+    @Override
+    protected Collection<?> createCollection(final Class<?> type, final int sizeHint) {
+        return (Collection<?>)super.createCollection(this.type != null ? this.type : type, sizeHint);
+    }
 }
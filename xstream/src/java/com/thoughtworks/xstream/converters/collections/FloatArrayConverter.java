@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.basic.FloatConverter;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Converts a float[] without boxing the elements.
+ *
+ * @author agent
+ * @see AbstractPrimitiveArrayConverter
+ * @since upcoming
+ */
+public class FloatArrayConverter extends AbstractPrimitiveArrayConverter {
+
+    /**
+     * Constructs a FloatArrayConverter writing a nested element for each item.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @since upcoming
+     */
+    public FloatArrayConverter(final Mapper mapper, final ConverterLookup lookup) {
+        this(mapper, lookup, false);
+    }
+
+    /**
+     * Constructs a FloatArrayConverter.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @param compact <code>true</code> to write the array as single comma separated value
+     * @since upcoming
+     */
+    public FloatArrayConverter(final Mapper mapper, final ConverterLookup lookup, final boolean compact) {
+        super(float[].class, Float.class, FloatConverter.class, mapper, lookup, compact);
+    }
+
+    @Override
+    protected Object newArray(final int length) {
+        return new float[length];
+    }
+
+    @Override
+    protected String toString(final Object array, final int index) {
+        return Float.toString(((float[])array)[index]);
+    }
+
+    @Override
+    protected void fromString(final Object array, final int index, final String value) {
+        ((float[])array)[index] = Float.parseFloat(value);
+    }
+}
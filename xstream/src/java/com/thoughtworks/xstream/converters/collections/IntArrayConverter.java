@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.basic.IntConverter;
+import com.thoughtworks.xstream.core.util.Numbers;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Converts a int[] without boxing the elements.
+ *
+ * @author agent
+ * @see AbstractPrimitiveArrayConverter
+ * @since upcoming
+ */
+public class IntArrayConverter extends AbstractPrimitiveArrayConverter {
+
+    /**
+     * Constructs an IntArrayConverter writing a nested element for each item.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @since upcoming
+     */
+    public IntArrayConverter(final Mapper mapper, final ConverterLookup lookup) {
+        this(mapper, lookup, false);
+    }
+
+    /**
+     * Constructs an IntArrayConverter.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @param compact <code>true</code> to write the array as single comma separated value
+     * @since upcoming
+     */
+    public IntArrayConverter(final Mapper mapper, final ConverterLookup lookup, final boolean compact) {
+        super(int[].class, Integer.class, IntConverter.class, mapper, lookup, compact);
+    }
+
+    @Override
+    protected Object newArray(final int length) {
+        return new int[length];
+    }
+
+    @Override
+    protected String toString(final Object array, final int index) {
+        return Integer.toString(((int[])array)[index]);
+    }
+
+    @Override
+    protected void fromString(final Object array, final int index, final String value) {
+        final long number = Numbers.isDecimal(value) ? Long.parseLong(value) : Long.decode(value).longValue();
+        if (number < Integer.MIN_VALUE || number > 0xFFFFFFFFl) {
+            throw new NumberFormatException("For input string: \"" + value + '"');
+        }
+        ((int[])array)[index] = (int)number;
+    }
+}
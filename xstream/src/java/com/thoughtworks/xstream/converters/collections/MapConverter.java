@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2012, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2012, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -19,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
 import com.thoughtworks.xstream.io.ExtendedHierarchicalStreamWriterHelper;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -80,6 +81,20 @@ public class MapConverter extends AbstractCollectionConverter {
     @Override
     public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
         final Map<?, ?> map = (Map<?, ?>)source;
+        HierarchicalStreams.writeSizeHint(writer, mapper(), map.size());
+        marshalEntries(map, writer, context);
+    }
+
+    /**
+     * Write the entries of the map.
+     *
+     * @param map the map
+     * @param writer the writer
+     * @param context the marshalling context
+     * @since upcoming
+     */
+    protected void marshalEntries(final Map<?, ?> map, final HierarchicalStreamWriter writer,
+            final MarshallingContext context) {
         final String entryName = mapper().serializedClass(Map.Entry.class);
         for (final Map.Entry<?, ?> entry : map.entrySet()) {
             ExtendedHierarchicalStreamWriterHelper.startNode(writer, entryName, entry.getClass());
@@ -94,7 +109,7 @@ public class MapConverter extends AbstractCollectionConverter {
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
         final Class<?> requiredType = context.getRequiredType();
-        final Map<?, ?> map = createCollection(requiredType);
+        final Map<?, ?> map = createCollection(requiredType, HierarchicalStreams.readSizeHint(reader, mapper()));
         populateMap(reader, context, map);
         return map;
     }
@@ -132,4 +147,9 @@ public class MapConverter extends AbstractCollectionConverter {
     protected Map<?, ?> createCollection(final Class<?> type) {
         return (Map<?, ?>)super.createCollection(this.type != null ? this.type : type);
     }
+
+    @Override
+    protected Map<?, ?> createCollection(final Class<?> type, final int sizeHint) {
+        return (Map<?, ?>)super.createCollection(this.type != null ? this.type : type, sizeHint);
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.basic.ShortConverter;
+import com.thoughtworks.xstream.core.util.Numbers;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Converts a short[] without boxing the elements.
+ *
+ * @author agent
+ * @see AbstractPrimitiveArrayConverter
+ * @since upcoming
+ */
+public class ShortArrayConverter extends AbstractPrimitiveArrayConverter {
+
+    /**
+     * Constructs a ShortArrayConverter writing a nested element for each item.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @since upcoming
+     */
+    public ShortArrayConverter(final Mapper mapper, final ConverterLookup lookup) {
+        this(mapper, lookup, false);
+    }
+
+    /**
+     * Constructs a ShortArrayConverter.
+     *
+     * @param mapper the mapper
+     * @param lookup the lookup for the converter of the element type
+     * @param compact <code>true</code> to write the array as single comma separated value
+     * @since upcoming
+     */
+    public ShortArrayConverter(final Mapper mapper, final ConverterLookup lookup, final boolean compact) {
+        super(short[].class, Short.class, ShortConverter.class, mapper, lookup, compact);
+    }
+
+    @Override
+    protected Object newArray(final int length) {
+        return new short[length];
+    }
+
+    @Override
+    protected String toString(final Object array, final int index) {
+        return Short.toString(((short[])array)[index]);
+    }
+
+    @Override
+    protected void fromString(final Object array, final int index, final String value) {
+        final int number = Numbers.isDecimal(value) ? Integer.parseInt(value) : Integer.decode(value).intValue();
+        if (number < Short.MIN_VALUE || number > 0xFFFF) {
+            throw new NumberFormatException("For input string: \"" + value + '"');
+        }
+        ((short[])array)[index] = (short)number;
+    }
+}
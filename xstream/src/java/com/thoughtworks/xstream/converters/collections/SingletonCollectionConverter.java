@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011, 2014 XStream Committers.
+ * Copyright (C) 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -49,8 +49,9 @@ public class SingletonCollectionConverter extends CollectionConverter {
 
     @Override
     public Collection<?> unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
+        final Class<?> itemType = readItemType(reader);
         reader.moveDown();
-        final Object item = readItem(reader, context, null);
+        final Object item = readItem(reader, context, null, itemType);
         reader.moveUp();
         return context.getRequiredType() == LIST ? Collections.singletonList(item) : Collections.singleton(item);
     }
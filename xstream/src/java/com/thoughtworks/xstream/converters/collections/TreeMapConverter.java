@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -58,8 +58,9 @@ public class TreeMapConverter extends MapConverter {
     @Override
     public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
         final SortedMap<?, ?> sortedMap = (SortedMap<?, ?>)source;
+        HierarchicalStreams.writeSizeHint(writer, mapper(), sortedMap.size());
         marshalComparator(sortedMap.comparator(), writer, context);
-        super.marshal(source, writer, context);
+        marshalEntries(sortedMap, writer, context);
     }
 
     protected void marshalComparator(final Comparator<?> comparator, final HierarchicalStreamWriter writer,
@@ -75,13 +76,14 @@ public class TreeMapConverter extends MapConverter {
 
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
+        final int sizeHint = HierarchicalStreams.readSizeHint(reader, mapper());
         TreeMap<Object, Object> result = comparatorField != null ? new TreeMap<Object, Object>() : null;
         @SuppressWarnings("unchecked")
         final Comparator<Object> comparator = (Comparator<Object>)unmarshalComparator(reader, context, result);
         if (result == null) {
             result = comparator == null ? new TreeMap<Object, Object>() : new TreeMap<Object, Object>(comparator);
         }
-        populateTreeMap(reader, context, result, comparator);
+        populateTreeMap(reader, context, result, comparator, sizeHint);
         return result;
     }
 
@@ -107,14 +109,32 @@ public class TreeMapConverter extends MapConverter {
     }
 
     protected void populateTreeMap(final HierarchicalStreamReader reader, final UnmarshallingContext context,
-            final TreeMap<?, ?> result, Comparator<?> comparator) {
+            final TreeMap<?, ?> result, final Comparator<?> comparator) {
+        populateTreeMap(reader, context, result, comparator, -1);
+    }
+
+    /**
+     * Populate the TreeMap with the entries of the reader.
+     *
+     * @param reader the reader
+     * @param context the unmarshalling context
+     * @param result the TreeMap to populate
+     * @param comparator the comparator of the TreeMap
+     * @param sizeHint the expected number of entries or -1 if unknown
+     * @since upcoming
+     */
+    protected void populateTreeMap(final HierarchicalStreamReader reader, final UnmarshallingContext context,
+            final TreeMap<?, ?> result, Comparator<?> comparator, final int sizeHint) {
         final boolean inFirstElement = comparator == NULL_MARKER;
         if (inFirstElement) {
             comparator = null;
         }
         @SuppressWarnings("unchecked")
-        final SortedMap<Object, Object> sortedMap = new PresortedMap<Object, Object>(
-            (Comparator<Object>)(comparator != null && JVM.hasOptimizedTreeMapPutAll() ? comparator : null));
+        final Comparator<Object> presortComparator = (Comparator<Object>)(comparator != null
+            && JVM.hasOptimizedTreeMapPutAll() ? comparator : null);
+        final SortedMap<Object, Object> sortedMap = sizeHint < 0
+            ? new PresortedMap<Object, Object>(presortComparator)
+            : new PresortedMap<Object, Object>(presortComparator, sizeHint);
         if (inFirstElement) {
             // we are already within the first entry
             putCurrentEntryIntoMap(reader, context, result, sortedMap);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -25,6 +25,7 @@ import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.core.JVM;
 import com.thoughtworks.xstream.core.util.Fields;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
 import com.thoughtworks.xstream.core.util.PresortedSet;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -87,12 +88,16 @@ public class TreeSetConverter extends CollectionConverter {
     @Override
     public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
         final SortedSet<?> sortedSet = (SortedSet<?>)source;
+        HierarchicalStreams.writeSizeHint(writer, mapper(), sortedSet.size());
         treeMapConverter.marshalComparator(sortedSet.comparator(), writer, context);
-        super.marshal(source, writer, context);
+        for (final Object item : sortedSet) {
+            writeItem(item, context, writer);
+        }
     }
 
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
+        final int sizeHint = HierarchicalStreams.readSizeHint(reader, mapper());
         TreeSet<Object> result = null;
         final TreeMap<?, ?> treeMap;
         final Comparator<?> unmarshalledComparator = treeMapConverter.unmarshalComparator(reader, context, null);
@@ -118,7 +123,9 @@ public class TreeSetConverter extends CollectionConverter {
             treeMap = null;
         }
         if (treeMap == null) {
-            final PresortedSet<Object> set = new PresortedSet<Object>(comparator);
+            final PresortedSet<Object> set = sizeHint < 0
+                ? new PresortedSet<Object>(comparator)
+                : new PresortedSet<Object>(comparator, sizeHint);
             result = comparator == null ? new TreeSet<Object>() : new TreeSet<Object>(comparator);
             if (inFirstElement) {
                 // we are already within the first element
@@ -130,7 +137,7 @@ public class TreeSetConverter extends CollectionConverter {
                 result.addAll(set); // comparator will not be called if internally optimized
             }
         } else {
-            treeMapConverter.populateTreeMap(reader, context, treeMap, unmarshalledComparator);
+            treeMapConverter.populateTreeMap(reader, context, treeMap, unmarshalledComparator, sizeHint);
         }
         return result;
     }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -47,27 +47,8 @@ public class EnumConverter implements Converter {
 
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
-        Class<?> type = context.getRequiredType();
-        if (type.getSuperclass() != Enum.class) {
-            type = type.getSuperclass(); // polymorphic enums
-        }
-        final String name = reader.getValue();
-        try {
-            @SuppressWarnings("rawtypes")
-            final Class rawType = type;
-            @SuppressWarnings("unchecked")
-            final Enum<?> enumValue = Enum.valueOf(rawType, name);
-            return enumValue;
-        } catch (final IllegalArgumentException e) {
-            // failed to find it, do a case insensitive match
-            for (final Enum<?> c : (Enum<?>[])type.getEnumConstants()) {
-                if (c.name().equalsIgnoreCase(name)) {
-                    return c;
-                }
-            }
-            // all else failed
-            throw e;
-        }
+        // polymorphic enums and case insensitive matches are handled by the lookup
+        return EnumLookup.forType(context.getRequiredType()).valueOfIgnoreCase(reader.getValue());
     }
 
 }
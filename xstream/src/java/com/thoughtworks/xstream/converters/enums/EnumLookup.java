@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.thoughtworks.xstream.core.util.ClassCache;
+
+
+/**
+ * Precomputed table of the constants of an enum type by name.
+ * <p>
+ * The table of a class of a constant with a specific body is the one of its enum type.
+ * </p>
+ *
+ * @author agent
+ */
+final class EnumLookup {
+
+    private static final ClassCache<EnumLookup> lookups = ClassCache.newInstance(new ClassCache.Factory<EnumLookup>() {
+        @Override
+        public EnumLookup create(final Class<?> type) {
+            return new EnumLookup(type);
+        }
+    });
+
+    private final Class<?> enumType;
+    private final Enum<?>[] values;
+    private final Map<String, Enum<?>> constants;
+
+    private EnumLookup(final Class<?> type) {
+        final Class<?> superclass = type.getSuperclass();
+        enumType = superclass != null && superclass.isEnum() ? superclass : type; // polymorphic enums
+        values = (Enum<?>[])enumType.getEnumConstants();
+        if (values != null) {
+            constants = new HashMap<String, Enum<?>>(values.length * 4 / 3 + 1);
+            for (final Enum<?> value : values) {
+                constants.put(value.name(), value);
+            }
+        } else {
+            constants = null;
+        }
+    }
+
+    static EnumLookup forType(final Class<?> type) {
+        return lookups.get(type);
+    }
+
+    /**
+     * Look up a constant by its name.
+     *
+     * @param name the name of the constant
+     * @return the constant
+     * @throws IllegalArgumentException if the enum type has no constant with the name
+     */
+    Enum<?> valueOf(final String name) {
+        final Enum<?> value = constants != null ? constants.get(name) : null;
+        return value != null ? value : fail(name);
+    }
+
+    /**
+     * Look up a constant by its name. If the enum type has no constant with the name, a constant with a name that
+     * differs in case only is selected.
+     *
+     * @param name the name of the constant
+     * @return the constant
+     * @throws IllegalArgumentException if the enum type has no matching constant
+     */
+    Enum<?> valueOfIgnoreCase(final String name) {
+        final Enum<?> value = constants != null ? constants.get(name) : null;
+        if (value != null) {
+            return value;
+        }
+        if (values != null && name != null) {
+            for (final Enum<?> c : values) {
+                if (c.name().equalsIgnoreCase(name)) {
+                    return c;
+                }
+            }
+        }
+        return fail(name);
+    }
+
+    private Enum<?> fail(final String name) {
+        // let the JDK report the missing constant
+        @SuppressWarnings("rawtypes")
+        final Class rawType = enumType;
+        @SuppressWarnings("unchecked")
+        final Enum<?> enumValue = Enum.valueOf(rawType, name);
+        return enumValue;
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -88,12 +88,16 @@ public class EnumSetConverter implements Converter {
     }
 
     private <T extends Enum<T>> EnumSet<T> create(final Class<T> type, final String s) {
-        final String[] enumValues = s.split(",");
+        final EnumLookup lookup = EnumLookup.forType(type);
         final EnumSet<T> set = EnumSet.noneOf(type);
-        for (final String enumValue : enumValues) {
-            if (enumValue.length() > 0) {
-                final T value = Enum.valueOf(type, enumValue);
-                set.add(value);
+        final int length = s.length();
+        for (int start = 0, end; start < length; start = end + 1) {
+            end = s.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                set.add(type.cast(lookup.valueOf(s.substring(start, end))));
             }
         }
         return set;
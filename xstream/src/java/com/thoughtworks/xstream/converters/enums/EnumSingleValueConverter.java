@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2008, 2009, 2010, 2013, 2014 XStream Committers.
+ * Copyright (C) 2008, 2009, 2010, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -42,6 +42,6 @@ public class EnumSingleValueConverter<T extends Enum<T>> extends AbstractSingleV
 
     @Override
     public Object fromString(final String str) {
-        return Enum.valueOf(enumType, str);
+        return enumType.cast(EnumLookup.forType(enumType).valueOf(str));
     }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2011, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2011, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -22,6 +22,7 @@ import org.joda.time.format.ISODateTimeFormat;
 
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.basic.AbstractSingleValueConverter;
+import com.thoughtworks.xstream.core.util.Dates;
 
 
 /**
@@ -90,6 +91,12 @@ public class ISO8601GregorianCalendarConverter extends AbstractSingleValueConver
 
     @Override
     public Object fromString(final String str) {
+        final long millis = parseDateTime(str);
+        if (millis != Dates.INVALID) {
+            final GregorianCalendar calendar = new GregorianCalendar(TimeZone.getDefault());
+            calendar.setTimeInMillis(millis);
+            return calendar;
+        }
         for (final DateTimeFormatter formatter : formattersUTC) {
             try {
                 final DateTime dt = formatter.parseDateTime(str);
@@ -115,6 +122,35 @@ public class ISO8601GregorianCalendarConverter extends AbstractSingleValueConver
         throw new ConversionException("Cannot parse date " + str);
     }
 
+    /**
+     * Parse the layout of the default format directly. Anything else is left to the formatters.
+     */
+    private static long parseDateTime(final String str) {
+        final int length = str.length();
+        if ((length != 24 && length != 29) || str.charAt(19) != '.') {
+            return Dates.INVALID;
+        }
+        final long millis = Dates.parseDateTime(str, 'T');
+        final int fraction = Dates.parseDigits(str, 20, 23);
+        if (millis == Dates.INVALID || fraction < 0) {
+            return Dates.INVALID;
+        }
+        final char sign = str.charAt(23);
+        if (length == 24) {
+            return sign == 'Z' ? millis + fraction : Dates.INVALID;
+        }
+        if ((sign != '+' && sign != '-') || str.charAt(26) != ':') {
+            return Dates.INVALID;
+        }
+        final int hours = Dates.parseDigits(str, 24, 26);
+        final int minutes = Dates.parseDigits(str, 27, 29);
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return Dates.INVALID;
+        }
+        final long offset = (hours * 60L + minutes) * 60000;
+        return millis + fraction + (sign == '+' ? -offset : offset);
+    }
+
     @Override
     public String toString(final Object obj) {
         final DateTime dt = new DateTime(obj);
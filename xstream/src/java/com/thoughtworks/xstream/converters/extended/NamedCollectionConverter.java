@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013, 2014 XStream Committers.
+ * Copyright (C) 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -65,6 +65,11 @@ public class NamedCollectionConverter extends CollectionConverter {
         this.type = itemType;
     }
 
+    @Override
+    protected Class<?> writeItemType(final Iterable<?> items, final HierarchicalStreamWriter writer) {
+        return null; // items have already a fixed name
+    }
+
     @Override
     protected void writeItem(final Object item, final MarshallingContext context, final HierarchicalStreamWriter writer) {
         final Class<?> itemType = item == null ? Mapper.Null.class : item.getClass();
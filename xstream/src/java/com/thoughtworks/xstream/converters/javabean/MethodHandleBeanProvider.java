@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.javabean;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
+import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.util.ClassCache;
+
+
+/**
+ * A {@link BeanProvider} that calls the getters and setters of the bean properties with cached method handles.
+ * <p>
+ * The accessors are created once per type and kept in a cache that does not prevent the bean types from being
+ * unloaded. Properties whose accessors cannot be looked up as method handles are handled by reflection as in the
+ * {@link BeanProvider}. The provider requires Java 7 or higher.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class MethodHandleBeanProvider extends BeanProvider implements Caching {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private transient ClassCache<Accessors> accessorCache;
+
+    /**
+     * Construct a MethodHandleBeanProvider that will process the bean properties in their natural order.
+     *
+     * @since upcoming
+     */
+    public MethodHandleBeanProvider() {
+        this(new PropertyDictionary(new NativePropertySorter()));
+    }
+
+    /**
+     * Construct a MethodHandleBeanProvider with a comparator to sort the bean properties by name in the dictionary.
+     *
+     * @param propertyNameComparator the comparator
+     * @since upcoming
+     */
+    public MethodHandleBeanProvider(final Comparator<String> propertyNameComparator) {
+        this(new PropertyDictionary(new ComparingPropertySorter(propertyNameComparator)));
+    }
+
+    /**
+     * Construct a MethodHandleBeanProvider with a provided property dictionary.
+     *
+     * @param propertyDictionary the property dictionary to use
+     * @since upcoming
+     */
+    public MethodHandleBeanProvider(final PropertyDictionary propertyDictionary) {
+        super(propertyDictionary);
+        readResolve();
+    }
+
+    @Override
+    public void visitSerializableProperties(final Object object, final JavaBeanProvider.Visitor visitor) {
+        for (final Accessor accessor : accessorCache.get(object.getClass()).serializable) {
+            if (visitor.shouldVisit(accessor.name, accessor.definedIn)) {
+                final Object value;
+                try {
+                    if (accessor.getter != null) {
+                        value = accessor.getter.invokeExact(object);
+                    } else {
+                        value = accessor.readMethod.invoke(object);
+                    }
+                } catch (final Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw new ObjectAccessException("Could not get property "
+                        + object.getClass()
+                        + "."
+                        + accessor.name, e);
+                }
+                visitor.visit(accessor.name, accessor.type, accessor.definedIn, value);
+            }
+        }
+    }
+
+    @Override
+    public void writeProperty(final Object object, final String propertyName, final Object value) {
+        final Accessor accessor = accessorCache.get(object.getClass()).writable.get(propertyName);
+        if (accessor == null) {
+            super.writeProperty(object, propertyName, value);
+            return;
+        }
+        try {
+            accessor.setter.invokeExact(object, value);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectAccessException("Could not set property " + object.getClass() + "." + propertyName, e);
+        }
+    }
+
+    @Override
+    public void flushCache() {
+        accessorCache.clear();
+        propertyDictionary.flushCache();
+    }
+
+    private Accessors createAccessors(final Class<?> type) {
+        final List<Accessor> serializable = new ArrayList<Accessor>();
+        final Map<String, Accessor> writable = new HashMap<String, Accessor>();
+        for (final Iterator<PropertyDescriptor> iter = propertyDictionary.propertiesFor(type); iter.hasNext();) {
+            final PropertyDescriptor descriptor = iter.next();
+            final MethodHandle getter = unreflect(descriptor.getReadMethod(), GETTER_TYPE);
+            final MethodHandle setter = unreflect(descriptor.getWriteMethod(), SETTER_TYPE);
+            final Accessor accessor = new Accessor(descriptor, getter, setter);
+            if (canStreamProperty(descriptor)) {
+                serializable.add(accessor);
+            }
+            if (setter != null) {
+                writable.put(accessor.name, accessor);
+            }
+        }
+        return new Accessors(serializable.toArray(new Accessor[serializable.size()]), writable);
+    }
+
+    private static MethodHandle unreflect(final Method method, final MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private Object readResolve() {
+        accessorCache = ClassCache.newInstance(new ClassCache.Factory<Accessors>() {
+            @Override
+            public Accessors create(final Class<?> type) {
+                return createAccessors(type);
+            }
+        });
+        return this;
+    }
+
+    private static class Accessors {
+        final Accessor[] serializable;
+        final Map<String, Accessor> writable;
+
+        Accessors(final Accessor[] serializable, final Map<String, Accessor> writable) {
+            this.serializable = serializable;
+            this.writable = writable;
+        }
+    }
+
+    private static class Accessor {
+        final String name;
+        final Class<?> type;
+        final Class<?> definedIn;
+        final Method readMethod;
+        final MethodHandle getter;
+        final MethodHandle setter;
+
+        Accessor(final PropertyDescriptor descriptor, final MethodHandle getter, final MethodHandle setter) {
+            name = descriptor.getName();
+            type = descriptor.getPropertyType();
+            readMethod = descriptor.getReadMethod();
+            definedIn = readMethod != null ? readMethod.getDeclaringClass() : null;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -17,8 +17,6 @@ import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -26,6 +24,7 @@ import java.util.Map;
 import com.thoughtworks.xstream.converters.reflection.MissingFieldException;
 import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
 import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.util.ClassCache;
 
 
 /**
@@ -35,8 +34,7 @@ import com.thoughtworks.xstream.core.Caching;
  * @author J&ouml;rg Schaible
  */
 public class PropertyDictionary implements Caching {
-    private transient Map<Class<?>, Map<String, PropertyDescriptor>> propertyNameCache = Collections
-        .synchronizedMap(new HashMap<Class<?>, Map<String, PropertyDescriptor>>());
+    private transient ClassCache<Map<String, PropertyDescriptor>> propertyNameCache;
     private final PropertySorter sorter;
 
     public PropertyDictionary() {
@@ -45,6 +43,7 @@ public class PropertyDictionary implements Caching {
 
     public PropertyDictionary(final PropertySorter sorter) {
         this.sorter = sorter;
+        readResolve();
     }
 
     /**
@@ -101,27 +100,36 @@ public class PropertyDictionary implements Caching {
     }
 
     private Map<String, PropertyDescriptor> buildMap(final Class<?> type) {
-        Map<String, PropertyDescriptor> nameMap = propertyNameCache.get(type);
-        if (nameMap == null) {
-            BeanInfo beanInfo;
-            try {
-                beanInfo = Introspector.getBeanInfo(type, Object.class);
-            } catch (final IntrospectionException e) {
-                throw new ObjectAccessException("Cannot get BeanInfo of type " + type.getName(), e);
-            }
-            nameMap = new LinkedHashMap<String, PropertyDescriptor>();
-            final PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-            for (final PropertyDescriptor descriptor : propertyDescriptors) {
-                nameMap.put(descriptor.getName(), descriptor);
-            }
-            nameMap = sorter.sort(type, nameMap);
-            propertyNameCache.put(type, nameMap);
+        return propertyNameCache.get(type);
+    }
+
+    private Map<String, PropertyDescriptor> createMap(final Class<?> type) {
+        final BeanInfo beanInfo;
+        try {
+            beanInfo = Introspector.getBeanInfo(type, Object.class);
+        } catch (final IntrospectionException e) {
+            throw new ObjectAccessException("Cannot get BeanInfo of type " + type.getName(), e);
         }
-        return nameMap;
+        final Map<String, PropertyDescriptor> nameMap = new LinkedHashMap<String, PropertyDescriptor>();
+        final PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
+        for (final PropertyDescriptor descriptor : propertyDescriptors) {
+            nameMap.put(descriptor.getName(), descriptor);
+        }
+        return sorter.sort(type, nameMap);
     }
 
     @Override
     public void flushCache() {
         propertyNameCache.clear();
     }
+
+    private Object readResolve() {
+        propertyNameCache = ClassCache.newInstance(new ClassCache.Factory<Map<String, PropertyDescriptor>>() {
+            @Override
+            public Map<String, PropertyDescriptor> create(final Class<?> type) {
+                return createMap(type);
+            }
+        });
+        return this;
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -32,6 +32,7 @@ import com.thoughtworks.xstream.converters.SingleValueConverter;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.core.Caching;
 import com.thoughtworks.xstream.core.ReferencingMarshallingContext;
+import com.thoughtworks.xstream.core.WarmUp;
 import com.thoughtworks.xstream.core.util.ArrayIterator;
 import com.thoughtworks.xstream.core.util.FastField;
 import com.thoughtworks.xstream.core.util.HierarchicalStreams;
@@ -44,7 +45,7 @@ import com.thoughtworks.xstream.mapper.CannotResolveClassException;
 import com.thoughtworks.xstream.mapper.Mapper;
 
 
-public abstract class AbstractReflectionConverter implements Converter, Caching {
+public abstract class AbstractReflectionConverter implements Converter, Caching, WarmUp {
 
     protected final ReflectionProvider reflectionProvider;
     protected final Mapper mapper;
@@ -430,6 +431,10 @@ public abstract class AbstractReflectionConverter implements Converter, Caching
                     implicitCollectionsForCurrentObject = new HashMap<String, Collection<? super Object>>();
                 }
                 writeValueToImplicitCollection(value, implicitCollectionsForCurrentObject, result, implicitFieldName);
+            } else {
+                // element has been ignored, skip its content
+                HierarchicalStreams.skipNode(reader);
+                continue;
             }
 
             reader.moveUp();
@@ -539,6 +544,14 @@ public abstract class AbstractReflectionConverter implements Converter, Caching
         serializationMethodInvoker.flushCache();
     }
 
+    /**
+     * @since upcoming
+     */
+    @Override
+    public void warmUp(final Class<?> type) {
+        serializationMembers.warmUp(type);
+    }
+
     protected Object readResolve() {
         serializationMethodInvoker = new SerializationMethodInvoker();
         serializationMembers = serializationMethodInvoker.serializationMembers;
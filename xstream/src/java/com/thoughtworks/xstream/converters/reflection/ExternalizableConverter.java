@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -26,6 +26,7 @@ import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.core.ClassLoaderReference;
 import com.thoughtworks.xstream.core.JVM;
 import com.thoughtworks.xstream.core.ReferencingMarshallingContext;
+import com.thoughtworks.xstream.core.WarmUp;
 import com.thoughtworks.xstream.core.util.CustomObjectInputStream;
 import com.thoughtworks.xstream.core.util.CustomObjectOutputStream;
 import com.thoughtworks.xstream.core.util.HierarchicalStreams;
@@ -42,7 +43,7 @@ import com.thoughtworks.xstream.mapper.Mapper;
  *
  * @author Joe Walnes
  */
-public class ExternalizableConverter implements Converter {
+public class ExternalizableConverter implements Converter, WarmUp {
 
     private final Mapper mapper;
     private final ClassLoaderReference classLoaderReference;
@@ -58,7 +59,7 @@ public class ExternalizableConverter implements Converter {
     public ExternalizableConverter(final Mapper mapper, final ClassLoaderReference classLoaderReference) {
         this.mapper = mapper;
         this.classLoaderReference = classLoaderReference;
-        serializationMembers = new SerializationMembers();
+        readResolve();
     }
 
     /**
@@ -134,8 +135,11 @@ public class ExternalizableConverter implements Converter {
                 };
                 @SuppressWarnings("resource")
                 final CustomObjectOutputStream objectOutput = CustomObjectOutputStream.getInstance(context, callback);
-                externalizable.writeExternal(objectOutput);
-                objectOutput.popCallback();
+                try {
+                    externalizable.writeExternal(objectOutput);
+                } finally {
+                    objectOutput.popCallback();
+                }
             } catch (final IOException e) {
                 throw new ConversionException("Cannot serialize "
                     + source.getClass().getName()
@@ -190,8 +194,11 @@ public class ExternalizableConverter implements Converter {
                 @SuppressWarnings("resource")
                 final CustomObjectInputStream objectInput = CustomObjectInputStream.getInstance(context, callback,
                     classLoaderReference);
-                externalizable.readExternal(objectInput);
-                objectInput.popCallback();
+                try {
+                    externalizable.readExternal(objectInput);
+                } finally {
+                    objectInput.popCallback();
+                }
             }
             return serializationMembers.callReadResolve(externalizable);
         } catch (final NoSuchMethodException e) {
@@ -209,6 +216,14 @@ public class ExternalizableConverter implements Converter {
         }
     }
 
+    /**
+     * @since upcoming
+     */
+    @Override
+    public void warmUp(final Class<?> type) {
+        serializationMembers.warmUp(type);
+    }
+
     private Object readResolve() {
         serializationMembers = new SerializationMembers();
         return this;
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -13,17 +13,15 @@ package com.thoughtworks.xstream.converters.reflection;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.thoughtworks.xstream.core.Caching;
 import com.thoughtworks.xstream.core.JVM;
+import com.thoughtworks.xstream.core.util.ClassCache;
 
 
 /**
@@ -35,8 +33,9 @@ import com.thoughtworks.xstream.core.JVM;
  */
 public class FieldDictionary implements Caching {
 
-    private transient Map<Class<?>, Map<String, Field>> keyedByFieldNameCache;
-    private transient Map<Class<?>, Map<FieldKey, Field>> keyedByFieldKeyCache;
+    private static final FieldMaps OBJECT_TYPE_FIELDS = new FieldMaps(Collections.<String, Field>emptyMap(),
+        Collections.<FieldKey, Field>emptyMap());
+    private transient ClassCache<FieldMaps> cache;
     private final FieldKeySorter sorter;
 
     public FieldDictionary() {
@@ -49,10 +48,12 @@ public class FieldDictionary implements Caching {
     }
 
     private void init() {
-        keyedByFieldNameCache = new HashMap<Class<?>, Map<String, Field>>();
-        keyedByFieldKeyCache = new HashMap<Class<?>, Map<FieldKey, Field>>();
-        keyedByFieldNameCache.put(Object.class, Collections.<String, Field>emptyMap());
-        keyedByFieldKeyCache.put(Object.class, Collections.<FieldKey, Field>emptyMap());
+        cache = ClassCache.newInstance(new ClassCache.Factory<FieldMaps>() {
+            @Override
+            public FieldMaps create(final Class<?> type) {
+                return buildMaps(type);
+            }
+        });
     }
 
     /**
@@ -103,69 +104,53 @@ public class FieldDictionary implements Caching {
     }
 
     private Map<?, Field> buildMap(final Class<?> type, final boolean tupleKeyed) {
-        Class<?> cls = type;
-        synchronized (this) {
-            if (!keyedByFieldNameCache.containsKey(type)) {
-                final List<Class<?>> superClasses = new ArrayList<Class<?>>();
-                while (!Object.class.equals(cls) && cls != null) {
-                    superClasses.add(0, cls);
-                    cls = cls.getSuperclass();
-                }
-                Map<String, Field> lastKeyedByFieldName = Collections.emptyMap();
-                Map<FieldKey, Field> lastKeyedByFieldKey = Collections.emptyMap();
-                for (final Class<?> element : superClasses) {
-                    cls = element;
-                    if (!keyedByFieldNameCache.containsKey(cls)) {
-                        final Map<String, Field> keyedByFieldName = new HashMap<String, Field>(lastKeyedByFieldName);
-                        final Map<FieldKey, Field> keyedByFieldKey = new LinkedHashMap<FieldKey, Field>(
-                            lastKeyedByFieldKey);
-                        final Field[] fields = cls.getDeclaredFields();
-                        if (JVM.reverseFieldDefinition()) {
-                            for (int i = fields.length >> 1; i-- > 0;) {
-                                final int idx = fields.length - i - 1;
-                                final Field field = fields[i];
-                                fields[i] = fields[idx];
-                                fields[idx] = field;
-                            }
-                        }
-                        for (int i = 0; i < fields.length; i++) {
-                            final Field field = fields[i];
-                            if (!field.isAccessible()) {
-                                field.setAccessible(true);
-                            }
-                            final FieldKey fieldKey = new FieldKey(field.getName(), field.getDeclaringClass(), i);
-                            final Field existent = keyedByFieldName.get(field.getName());
-                            if (existent == null
-                            // do overwrite statics
-                                || (existent.getModifiers() & Modifier.STATIC) != 0
-                                // overwrite non-statics with non-statics only
-                                || existent != null
-                                && (field.getModifiers() & Modifier.STATIC) == 0) {
-                                keyedByFieldName.put(field.getName(), field);
-                            }
-                            keyedByFieldKey.put(fieldKey, field);
-                        }
-                        final Map<FieldKey, Field> sortedFieldKeys = sorter.sort(cls, keyedByFieldKey);
-                        keyedByFieldNameCache.put(cls, keyedByFieldName);
-                        keyedByFieldKeyCache.put(cls, sortedFieldKeys);
-                        lastKeyedByFieldName = keyedByFieldName;
-                        lastKeyedByFieldKey = sortedFieldKeys;
-                    } else {
-                        lastKeyedByFieldName = keyedByFieldNameCache.get(cls);
-                        lastKeyedByFieldKey = keyedByFieldKeyCache.get(cls);
-                    }
-                }
-                return tupleKeyed ? lastKeyedByFieldKey : lastKeyedByFieldName;
+        if (type == null) {
+            return Collections.emptyMap();
+        }
+        final FieldMaps maps = cache.get(type);
+        return tupleKeyed ? maps.keyedByFieldKey : maps.keyedByFieldName;
+    }
+
+    private FieldMaps buildMaps(final Class<?> cls) {
+        final Class<?> superClass = cls.getSuperclass();
+        if (Object.class.equals(cls) || superClass == null && cls.getDeclaredFields().length == 0) {
+            return OBJECT_TYPE_FIELDS;
+        }
+        final FieldMaps superMaps = superClass == null ? OBJECT_TYPE_FIELDS : cache.get(superClass);
+        final Map<String, Field> keyedByFieldName = new HashMap<String, Field>(superMaps.keyedByFieldName);
+        final Map<FieldKey, Field> keyedByFieldKey = new LinkedHashMap<FieldKey, Field>(superMaps.keyedByFieldKey);
+        final Field[] fields = cls.getDeclaredFields();
+        if (JVM.reverseFieldDefinition()) {
+            for (int i = fields.length >> 1; i-- > 0;) {
+                final int idx = fields.length - i - 1;
+                final Field field = fields[i];
+                fields[i] = fields[idx];
+                fields[idx] = field;
+            }
+        }
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            if (!field.isAccessible()) {
+                field.setAccessible(true);
+            }
+            final FieldKey fieldKey = new FieldKey(field.getName(), field.getDeclaringClass(), i);
+            final Field existent = keyedByFieldName.get(field.getName());
+            if (existent == null
+            // do overwrite statics
+                || (existent.getModifiers() & Modifier.STATIC) != 0
+                // overwrite non-statics with non-statics only
+                || existent != null
+                && (field.getModifiers() & Modifier.STATIC) == 0) {
+                keyedByFieldName.put(field.getName(), field);
             }
+            keyedByFieldKey.put(fieldKey, field);
         }
-        return tupleKeyed ? keyedByFieldKeyCache.get(type) : keyedByFieldNameCache.get(type);
+        return new FieldMaps(keyedByFieldName, sorter.sort(cls, keyedByFieldKey));
     }
 
     @Override
-    public synchronized void flushCache() {
-        final Set<Class<?>> objectTypeSet = Collections.<Class<?>>singleton(Object.class);
-        keyedByFieldNameCache.keySet().retainAll(objectTypeSet);
-        keyedByFieldKeyCache.keySet().retainAll(objectTypeSet);
+    public void flushCache() {
+        cache.clear();
         if (sorter instanceof Caching) {
             ((Caching)sorter).flushCache();
         }
@@ -175,4 +160,14 @@ public class FieldDictionary implements Caching {
         init();
         return this;
     }
+
+    private static final class FieldMaps {
+        final Map<String, Field> keyedByFieldName;
+        final Map<FieldKey, Field> keyedByFieldKey;
+
+        FieldMaps(final Map<String, Field> keyedByFieldName, final Map<FieldKey, Field> keyedByFieldKey) {
+            this.keyedByFieldName = keyedByFieldName;
+            this.keyedByFieldKey = keyedByFieldKey;
+        }
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2012, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2012, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -29,6 +29,7 @@ import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.core.ClassLoaderReference;
 import com.thoughtworks.xstream.core.JVM;
+import com.thoughtworks.xstream.core.util.ClassCache;
 import com.thoughtworks.xstream.core.util.CustomObjectInputStream;
 import com.thoughtworks.xstream.core.util.CustomObjectOutputStream;
 import com.thoughtworks.xstream.core.util.HierarchicalStreams;
@@ -68,6 +69,7 @@ public class SerializableConverter extends AbstractReflectionConverter {
     private static final String ATTRIBUTE_NAME = "name";
 
     private final ClassLoaderReference classLoaderReference;
+    private transient ClassCache<HierarchyLevel[]> plans;
 
     /**
      * Construct a SerializableConverter.
@@ -82,6 +84,7 @@ public class SerializableConverter extends AbstractReflectionConverter {
             final ClassLoaderReference classLoaderReference) {
         super(mapper, new UnserializableParentsReflectionProvider(reflectionProvider));
         this.classLoaderReference = classLoaderReference;
+        plans = createPlans();
     }
 
     /**
@@ -112,8 +115,8 @@ public class SerializableConverter extends AbstractReflectionConverter {
             && !type.isInterface()
             && (serializationMembers.supportsReadObject(type, true) || serializationMembers.supportsWriteObject(type,
                 true))) {
-            for (final Class<?> clazz : hierarchyFor(type)) {
-                if (!Serializable.class.isAssignableFrom(clazz)) {
+            for (final HierarchyLevel level : planFor(type)) {
+                if (!level.serializable) {
                     return canAccess(type);
                 }
             }
@@ -130,7 +133,7 @@ public class SerializableConverter extends AbstractReflectionConverter {
         }
 
         // this is an array as it's a non final value that's accessed from an anonymous inner class.
-        final Class<?>[] currentTypeRef = new Class<?>[1];
+        final HierarchyLevel[] currentLevelRef = new HierarchyLevel[1];
         final boolean[] writtenClassWrapper = {false};
 
         final CustomObjectOutputStream.StreamCallback callback = new CustomObjectOutputStream.StreamCallback() {
@@ -150,8 +153,8 @@ public class SerializableConverter extends AbstractReflectionConverter {
 
             @Override
             public void writeFieldsToStream(final Map<String, Object> fields) {
-                final Class<?> currentType = currentTypeRef[0];
-                final ObjectStreamClass objectStreamClass = ObjectStreamClass.lookup(currentType);
+                final Class<?> currentType = currentLevelRef[0].type;
+                final ObjectStreamClass objectStreamClass = currentLevelRef[0].objectStreamClass;
 
                 writer.startNode(ELEMENT_DEFAULT);
                 for (final String name : fields.keySet()) {
@@ -187,14 +190,15 @@ public class SerializableConverter extends AbstractReflectionConverter {
             public void defaultWriteObject() {
                 boolean writtenDefaultFields = false;
 
-                final Class<?> currentType = currentTypeRef[0];
-                final ObjectStreamClass objectStreamClass = ObjectStreamClass.lookup(currentType);
-                if (objectStreamClass == null) {
+                final HierarchyLevel level = currentLevelRef[0];
+                final Class<?> currentType = level.type;
+                if (level.objectStreamClass == null) {
                     return;
                 }
 
-                for (final ObjectStreamField field : objectStreamClass.getFields()) {
-                    final Object value = readField(field, currentType, source);
+                for (int i = 0; i < level.javaFields.length; ++i) {
+                    final Object value = readField(level, i, source);
+                    final ObjectStreamField field = level.fields[i];
                     if (value != null) {
                         if (!writtenClassWrapper[0]) {
                             writer.startNode(mapper.serializedClass(currentType));
@@ -246,9 +250,10 @@ public class SerializableConverter extends AbstractReflectionConverter {
 
         try {
             boolean mustHandleUnserializableParent = false;
-            for (final Class<?> currentType : hierarchyFor(source.getClass())) {
-                currentTypeRef[0] = currentType;
-                if (!Serializable.class.isAssignableFrom(currentType)) {
+            for (final HierarchyLevel level : planFor(source.getClass())) {
+                final Class<?> currentType = level.type;
+                currentLevelRef[0] = level;
+                if (!level.serializable) {
                     mustHandleUnserializableParent = true;
                     continue;
                 } else {
@@ -256,7 +261,7 @@ public class SerializableConverter extends AbstractReflectionConverter {
                         marshalUnserializableParent(writer, context, source);
                         mustHandleUnserializableParent = false;
                     }
-                    if (serializationMembers.supportsWriteObject(currentType, false)) {
+                    if (level.customWrite) {
                         writtenClassWrapper[0] = true;
                         writer.startNode(mapper.serializedClass(currentType));
                         if (currentType != mapper.defaultImplementationOf(currentType)) {
@@ -268,10 +273,13 @@ public class SerializableConverter extends AbstractReflectionConverter {
                         @SuppressWarnings("resource")
                         final CustomObjectOutputStream objectOutputStream = CustomObjectOutputStream.getInstance(
                             context, callback);
-                        serializationMembers.callWriteObject(currentType, source, objectOutputStream);
-                        objectOutputStream.popCallback();
+                        try {
+                            serializationMembers.callWriteObject(currentType, source, objectOutputStream);
+                        } finally {
+                            objectOutputStream.popCallback();
+                        }
                         writer.endNode();
-                    } else if (serializationMembers.supportsReadObject(currentType, false)) {
+                    } else if (level.customRead) {
                         // Special case for objects that have readObject(), but not writeObject().
                         // The class wrapper is always written, whether or not this class in the hierarchy has
                         // serializable fields. This guarantees that readObject() will be called upon deserialization.
@@ -306,6 +314,22 @@ public class SerializableConverter extends AbstractReflectionConverter {
         writer.endNode();
     }
 
+    private Object readField(final HierarchyLevel level, final int index, final Object instance) {
+        final Field javaField = level.javaFields[index];
+        if (javaField == null) {
+            return readField(level.fields[index], level.type, instance);
+        }
+        try {
+            return javaField.get(instance);
+        } catch (final IllegalArgumentException e) {
+            throw new ObjectAccessException("Could not get field " + level.type.getName() + "." + javaField.getName(),
+                e);
+        } catch (final IllegalAccessException e) {
+            throw new ObjectAccessException("Could not get field " + level.type.getName() + "." + javaField.getName(),
+                e);
+        }
+    }
+
     private Object readField(final ObjectStreamField field, final Class<?> type, final Object instance) {
         try {
             final Field javaField = type.getDeclaredField(field.getName());
@@ -342,6 +366,8 @@ public class SerializableConverter extends AbstractReflectionConverter {
             final UnmarshallingContext context) {
         // this is an array as it's a non final value that's accessed from an anonymous inner class.
         final Class<?>[] currentType = new Class<?>[1];
+        final HierarchyLevel[] currentLevel = new HierarchyLevel[1];
+        final HierarchyLevel[] plan = planFor(result.getClass());
 
         final String attributeName = mapper.aliasForSystemAttribute(ATTRIBUTE_SERIALIZATION);
         if (attributeName != null && !ATTRIBUTE_VALUE_CUSTOM.equals(reader.getAttribute(attributeName))) {
@@ -381,7 +407,7 @@ public class SerializableConverter extends AbstractReflectionConverter {
                     }
                 } else if (reader.getNodeName().equals(ELEMENT_DEFAULT)) {
                     // New format introduced in XStream 1.1.1
-                    final ObjectStreamClass objectStreamClass = ObjectStreamClass.lookup(currentType[0]);
+                    final ObjectStreamClass objectStreamClass = currentLevel[0].objectStreamClass;
                     while (reader.hasMoreChildren()) {
                         reader.moveDown();
                         final String name = mapper.realMember(currentType[0], reader.getNodeName());
@@ -415,7 +441,7 @@ public class SerializableConverter extends AbstractReflectionConverter {
 
             @Override
             public void defaultReadObject() {
-                if (serializationMembers.getSerializablePersistentFields(currentType[0]) != null) {
+                if (currentLevel[0].persistentFields) {
                     readFieldsFromStream();
                     return;
                 }
@@ -482,12 +508,16 @@ public class SerializableConverter extends AbstractReflectionConverter {
                 } else {
                     currentType[0] = mapper.realClass(classAttribute);
                 }
-                if (serializationMembers.supportsReadObject(currentType[0], false)) {
+                currentLevel[0] = levelFor(plan, currentType[0]);
+                if (currentLevel[0].customRead) {
                     @SuppressWarnings("resource")
-                    final CustomObjectInputStream objectInputStream = CustomObjectInputStream.getInstance(context,
-                        callback, classLoaderReference);
-                    serializationMembers.callReadObject(currentType[0], result, objectInputStream);
-                    objectInputStream.popCallback();
+                    final CustomObjectInputStream objectInputStream = CustomObjectInputStream.getInstance(
+                        context, callback, classLoaderReference);
+                    try {
+                        serializationMembers.callReadObject(currentType[0], result, objectInputStream);
+                    } finally {
+                        objectInputStream.popCallback();
+                    }
                 } else {
                     try {
                         callback.defaultReadObject();
@@ -517,6 +547,107 @@ public class SerializableConverter extends AbstractReflectionConverter {
             reader, context);
     }
 
+    @Override
+    protected Object readResolve() {
+        super.readResolve();
+        plans = createPlans();
+        return this;
+    }
+
+    @Override
+    public void flushCache() {
+        super.flushCache();
+        plans.clear();
+    }
+
+    private ClassCache<HierarchyLevel[]> createPlans() {
+        return ClassCache.newInstance(new ClassCache.Factory<HierarchyLevel[]>() {
+            @Override
+            public HierarchyLevel[] create(final Class<?> type) {
+                final List<Class<?>> hierarchy = hierarchyFor(type);
+                final HierarchyLevel[] plan = new HierarchyLevel[hierarchy.size()];
+                for (int i = 0; i < plan.length; ++i) {
+                    plan[i] = createLevel(hierarchy.get(i));
+                }
+                return plan;
+            }
+        });
+    }
+
+    private HierarchyLevel[] planFor(final Class<?> type) {
+        return plans.get(type);
+    }
+
+    private HierarchyLevel levelFor(final HierarchyLevel[] plan, final Class<?> type) {
+        for (final HierarchyLevel level : plan) {
+            if (level.type == type) {
+                return level;
+            }
+        }
+        return createLevel(type);
+    }
+
+    private HierarchyLevel createLevel(final Class<?> type) {
+        if (!Serializable.class.isAssignableFrom(type)) {
+            return new HierarchyLevel(type, false, false, false, false, null, null, null);
+        }
+        final ObjectStreamClass objectStreamClass = ObjectStreamClass.lookup(type);
+        final ObjectStreamField[] fields;
+        final Field[] javaFields;
+        if (objectStreamClass != null) {
+            // getFields() clones the array with every call
+            fields = objectStreamClass.getFields();
+            javaFields = new Field[fields.length];
+            for (int i = 0; i < fields.length; ++i) {
+                try {
+                    final Field javaField = type.getDeclaredField(fields[i].getName());
+                    if (!javaField.isAccessible()) {
+                        javaField.setAccessible(true);
+                    }
+                    javaFields[i] = javaField;
+                } catch (final NoSuchFieldException e) {
+                    // reported when the field is accessed
+                } catch (final SecurityException e) {
+                    // reported when the field is accessed
+                }
+            }
+        } else {
+            fields = null;
+            javaFields = null;
+        }
+        return new HierarchyLevel(type, true, serializationMembers.supportsWriteObject(type, false),
+            serializationMembers.supportsReadObject(type, false), serializationMembers
+                .getSerializablePersistentFields(type) != null, objectStreamClass, fields, javaFields);
+    }
+
+    /**
+     * The cached serialization plan for one class in the hierarchy of a serializable type.
+     */
+    private static final class HierarchyLevel {
+        final Class<?> type;
+        final boolean serializable;
+        final boolean customWrite;
+        final boolean customRead;
+        final boolean persistentFields;
+        final ObjectStreamClass objectStreamClass;
+        final ObjectStreamField[] fields;
+        final Field[] javaFields;
+
+        HierarchyLevel(
+                final Class<?> type, final boolean serializable, final boolean customWrite, final boolean customRead,
+                final boolean persistentFields, final ObjectStreamClass objectStreamClass,
+                final ObjectStreamField[] fields, final Field[] javaFields) {
+            this.type = type;
+            this.serializable = serializable;
+            this.customWrite = customWrite;
+            this.customRead = customRead;
+            this.persistentFields = persistentFields;
+            this.objectStreamClass = objectStreamClass;
+            this.fields = fields;
+            this.javaFields = javaFields;
+        }
+    }
+
     private static class UnserializableParentsReflectionProvider extends ReflectionProviderWrapper {
 
         public UnserializableParentsReflectionProvider(final ReflectionProvider reflectionProvider) {
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,19 +12,28 @@
 package com.thoughtworks.xstream.core;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 
+import com.thoughtworks.xstream.InitializationException;
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.ConverterLookup;
 import com.thoughtworks.xstream.converters.ConverterRegistry;
+import com.thoughtworks.xstream.core.util.ClassCache;
+import com.thoughtworks.xstream.core.util.LazyConverter;
 import com.thoughtworks.xstream.core.util.PrioritizedList;
 
 
 /**
  * The default implementation of converters lookup.
+ * <p>
+ * The converter found for a type is cached. The cache keeps the types only weakly. Normally it is synchronized, a
+ * {@link #freeze() frozen} lookup does no longer accept new converters and uses a lock-free cache instead.
+ * </p>
  * 
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
@@ -34,6 +43,8 @@ public class DefaultConverterLookup implements ConverterLookup, ConverterRegistr
 
     private final PrioritizedList<Converter> converters = new PrioritizedList<Converter>();
     private transient Map<Class<?>, Converter> typeToConverterMap;
+    private transient ClassCache<Converter> frozenCache;
+    private boolean frozen;
 
     public DefaultConverterLookup() {
         readResolve();
@@ -41,13 +52,24 @@ public class DefaultConverterLookup implements ConverterLookup, ConverterRegistr
 
     @Override
     public Converter lookupConverterForType(final Class<?> type) {
-        final Converter cachedConverter = typeToConverterMap.get(type);
-        if (cachedConverter != null) {
-            return cachedConverter;
+        if (type == null) {
+            return findConverter(type);
         }
+        if (frozenCache != null) {
+            return frozenCache.get(type);
+        }
+        Converter converter = typeToConverterMap.get(type);
+        if (converter == null) {
+            converter = findConverter(type);
+            typeToConverterMap.put(type, converter);
+        }
+        return converter;
+    }
+
+    private Converter findConverter(final Class<?> type) {
         for (final Converter converter : converters) {
             if (converter.canConvert(type)) {
-                return converter;
+                return converter instanceof LazyConverter ? ((LazyConverter)converter).getConverter() : converter;
             }
         }
         throw new ConversionException("No converter specified for " + type);
@@ -55,6 +77,9 @@ public class DefaultConverterLookup implements ConverterLookup, ConverterRegistr
 
     @Override
     public void registerConverter(final Converter converter, final int priority) {
+        if (frozen) {
+            throw new InitializationException("Cannot register converter, the lookup is frozen");
+        }
         converters.add(converter, priority);
         for (final Iterator<Class<?>> iter = typeToConverterMap.keySet().iterator(); iter.hasNext();) {
             final Class<?> type = iter.next();
@@ -67,6 +92,9 @@ public class DefaultConverterLookup implements ConverterLookup, ConverterRegistr
     @Override
     public void flushCache() {
         typeToConverterMap.clear();
+        if (frozenCache != null) {
+            frozenCache.clear();
+        }
         for (final Converter converter : converters) {
             if (converter instanceof Caching) {
                 ((Caching)converter).flushCache();
@@ -74,9 +102,52 @@ public class DefaultConverterLookup implements ConverterLookup, ConverterRegistr
         }
     }
 
+    /**
+     * Retrieve the types a converter has been looked up for since the last flush of the cache.
+     * 
+     * @return a copy of the types
+     * @since upcoming
+     */
+    public Set<Class<?>> getCachedTypes() {
+        synchronized (typeToConverterMap) {
+            return new HashSet<Class<?>>(typeToConverterMap.keySet());
+        }
+    }
+
+    /**
+     * Freeze the lookup.
+     * <p>
+     * A frozen lookup rejects any further converter and caches the converters in a lock-free map that keeps the types
+     * only weakly.
+     * </p>
+     * 
+     * @since upcoming
+     */
+    public void freeze() {
+        if (!frozen) {
+            frozen = true;
+            createFrozenCache();
+        }
+    }
+
+    private void createFrozenCache() {
+        // the converters reference this lookup, a ClassValue would keep it alive as long as the types
+        frozenCache = ClassCache.newWeakInstance(new ClassCache.Factory<Converter>() {
+            @Override
+            public Converter create(final Class<?> type) {
+                final Converter converter = findConverter(type);
+                // the synchronized map is only used to record the type, once per type
+                typeToConverterMap.put(type, converter);
+                return converter;
+            }
+        });
+    }
+
     private Object readResolve() {
-        // TODO: Use ConcurrentMap
         typeToConverterMap = Collections.synchronizedMap(new WeakHashMap<Class<?>, Converter>());
+        if (frozen) {
+            createFrozenCache();
+        }
         return this;
     }
 }
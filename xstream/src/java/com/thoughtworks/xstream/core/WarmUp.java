@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ * 
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core;
+
+/**
+ * Interface for implementations that can populate their caches for a type ahead of its first usage.
+ * 
+ * @author agent
+ * @since upcoming
+ */
+public interface WarmUp {
+    void warmUp(Class<?> type);
+}
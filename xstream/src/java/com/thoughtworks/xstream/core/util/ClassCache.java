@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.thoughtworks.xstream.core.JVM;
+
+
+/**
+ * A cache for values computed per type that does not prevent the type from being unloaded.
+ * <p>
+ * On Java 7 or higher the values are kept with a {@link ClassValue} and are released together with their type, even
+ * if the value references the type itself. On older runtimes the types are kept with weak references in a lock-free
+ * map and the values with soft references, i.e. a value that references its type is released when the JVM clears the
+ * soft references.
+ * </p>
+ * <p>
+ * A {@link ClassValue} stores its values in the type itself. A value must therefore not reference the owner of a cache
+ * created with {@link #newInstance(Factory)}, otherwise the owner is kept alive as long as the type. Such values are
+ * kept in a cache created with {@link #newWeakInstance(Factory)}.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public abstract class ClassCache<V> {
+
+    private static final Constructor<?> classValueCacheConstructor;
+    static {
+        Constructor<?> constructor = null;
+        if (JVM.is17()) {
+            final Class<?> type = JVM.loadClassForName("com.thoughtworks.xstream.core.util.ClassValueCache");
+            if (type != null) {
+                try {
+                    constructor = type.getConstructor(Factory.class);
+                } catch (final NoSuchMethodException e) {
+                    // use fallback
+                }
+            }
+        }
+        classValueCacheConstructor = constructor;
+    }
+
+    /**
+     * Factory for the cached values.
+     *
+     * @since upcoming
+     */
+    public interface Factory<V> {
+        /**
+         * Create the value for a type.
+         *
+         * @param type the type
+         * @return the value, never <code>null</code>
+         * @since upcoming
+         */
+        V create(Class<?> type);
+    }
+
+    protected final Factory<V> factory;
+
+    protected ClassCache(final Factory<V> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Create a new cache for the best available implementation.
+     *
+     * @param factory the factory for the values
+     * @return the new cache
+     * @since upcoming
+     */
+    public static <V> ClassCache<V> newInstance(final Factory<V> factory) {
+        if (classValueCacheConstructor != null) {
+            try {
+                @SuppressWarnings("unchecked")
+                final ClassCache<V> cache = (ClassCache<V>)classValueCacheConstructor.newInstance(factory);
+                return cache;
+            } catch (final Exception e) {
+                // use fallback
+            }
+        }
+        return new WeakClassCache<V>(factory);
+    }
+
+    /**
+     * Create a new cache that keeps the types in a weak map of its own. The values may reference the owner of the
+     * cache, they are released together with the cache.
+     *
+     * @param factory the factory for the values
+     * @return the new cache
+     * @since upcoming
+     */
+    public static <V> ClassCache<V> newWeakInstance(final Factory<V> factory) {
+        return new WeakClassCache<V>(factory);
+    }
+
+    /**
+     * Get the value for a type. It is created at first access.
+     *
+     * @param type the type
+     * @return the value
+     * @since upcoming
+     */
+    public abstract V get(Class<?> type);
+
+    /**
+     * Drop all cached values.
+     *
+     * @since upcoming
+     */
+    public abstract void clear();
+
+    private static class WeakClassCache<V> extends ClassCache<V> {
+        private final ConcurrentMap<TypeReference, Reference<V>> map;
+        private final ReferenceQueue<Class<?>> queue = new ReferenceQueue<Class<?>>();
+
+        WeakClassCache(final Factory<V> factory) {
+            super(factory);
+            map = new ConcurrentHashMap<TypeReference, Reference<V>>();
+        }
+
+        @Override
+        public V get(final Class<?> type) {
+            expungeStaleEntries();
+            final Reference<V> reference = map.get(new TypeReference(type, null));
+            V value = reference != null ? reference.get() : null;
+            if (value == null) {
+                value = factory.create(type);
+                // a value referencing the type would keep the weak key alive
+                final Reference<V> newReference = new SoftReference<V>(value);
+                final TypeReference key = new TypeReference(type, queue);
+                for (;;) {
+                    final Reference<V> existing = map.putIfAbsent(key, newReference);
+                    if (existing == null) {
+                        break;
+                    }
+                    final V existingValue = existing.get();
+                    if (existingValue != null) {
+                        return existingValue;
+                    }
+                    if (map.replace(key, existing, newReference)) {
+                        break;
+                    }
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+
+        private void expungeStaleEntries() {
+            for (Reference<?> reference; (reference = queue.poll()) != null;) {
+                map.remove(reference);
+            }
+        }
+    }
+
+    private static class TypeReference extends WeakReference<Class<?>> {
+        private final int hashCode;
+
+        TypeReference(final Class<?> type, final ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            hashCode = System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof TypeReference) {
+                final Class<?> type = get();
+                return type != null && type == ((TypeReference)obj).get();
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+/**
+ * A {@link ClassCache} based on {@link ClassValue}. Requires Java 7 or higher.
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class ClassValueCache<V> extends ClassCache<V> {
+
+    private volatile ClassValue<V> values;
+
+    public ClassValueCache(final Factory<V> factory) {
+        super(factory);
+        values = createValues();
+    }
+
+    @Override
+    public V get(final Class<?> type) {
+        return values.get(type);
+    }
+
+    @Override
+    public void clear() {
+        values = createValues();
+    }
+
+    private ClassValue<V> createValues() {
+        return new ClassValue<V>() {
+            @Override
+            protected V computeValue(final Class<?> type) {
+                return factory.create(type);
+            }
+        };
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2010, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -58,12 +58,12 @@ public class CustomObjectInputStream extends ObjectInputStream {
      * @deprecated As of 1.4.5 use {@link #getInstance(DataHolder, StreamCallback, ClassLoaderReference)}
      */
     @Deprecated
-    public static synchronized CustomObjectInputStream getInstance(final DataHolder whereFrom,
+    public static CustomObjectInputStream getInstance(final DataHolder whereFrom,
             final CustomObjectInputStream.StreamCallback callback, final ClassLoader classLoader) {
         return getInstance(whereFrom, callback, new ClassLoaderReference(classLoader));
     }
 
-    public static synchronized CustomObjectInputStream getInstance(final DataHolder whereFrom,
+    public static CustomObjectInputStream getInstance(final DataHolder whereFrom,
             final CustomObjectInputStream.StreamCallback callback, final ClassLoaderReference classLoaderReference) {
         try {
             CustomObjectInputStream result = (CustomObjectInputStream)whereFrom.get(DATA_HOLDER_KEY);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -28,8 +28,7 @@ public class CustomObjectOutputStream extends ObjectOutputStream {
 
     private static final String DATA_HOLDER_KEY = CustomObjectOutputStream.class.getName();
 
-    public static synchronized CustomObjectOutputStream getInstance(final DataHolder whereFrom,
-            final StreamCallback callback) {
+    public static CustomObjectOutputStream getInstance(final DataHolder whereFrom, final StreamCallback callback) {
         try {
             CustomObjectOutputStream result = (CustomObjectOutputStream)whereFrom.get(DATA_HOLDER_KEY);
             if (result == null) {
@@ -75,7 +74,14 @@ public class CustomObjectOutputStream extends ObjectOutputStream {
     }
 
     public StreamCallback popCallback() {
-        return callbacks.pop();
+        final StreamCallback callback = callbacks.pop();
+        if (!callbacks.hasStuff()) {
+            // drop fields of a writeObject implementation that never called writeFields
+            while (customFields.hasStuff()) {
+                customFields.popSilently();
+            }
+        }
+        return callback;
     }
 
     public StreamCallback peekCallback() {
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+/**
+ * Utility functions for dates in the proleptic Gregorian calendar at UTC.
+ * <p>
+ * The functions parse and format the fixed date and time layout <code>yyyy-MM-dd?HH:mm:ss</code> without any
+ * intermediate objects. They are meant as fast path in front of a general date format and signal unsupported input
+ * by a return value instead of an exception.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public final class Dates {
+
+    /**
+     * Return value of the parse functions for an unsupported input.
+     *
+     * @since upcoming
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * The milliseconds of 1583-01-01T00:00:00Z, the first complete year of the Gregorian calendar.
+     *
+     * @since upcoming
+     */
+    public static final long GREGORIAN_START = toMillis(1583, 1, 1, 0, 0, 0, 0);
+
+    /**
+     * The milliseconds of 10000-01-01T00:00:00Z, the first date that cannot be expressed with four digits for the year.
+     *
+     * @since upcoming
+     */
+    public static final long YEAR_10000 = toMillis(10000, 1, 1, 0, 0, 0, 0);
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private Dates() {
+    }
+
+    /**
+     * Calculate the milliseconds since the epoch for the given fields at UTC.
+     *
+     * @param year the year
+     * @param month the month (1-12)
+     * @param day the day of the month
+     * @param hour the hour of the day
+     * @param minute the minute
+     * @param second the second
+     * @param millis the milliseconds
+     * @return the milliseconds since 1970-01-01T00:00:00Z
+     * @since upcoming
+     */
+    public static long toMillis(
+            final int year, final int month, final int day, final int hour, final int minute, final int second,
+            final int millis) {
+        return epochDay(year, month, day) * MILLIS_PER_DAY + ((hour * 60L + minute) * 60 + second) * 1000 + millis;
+    }
+
+    /**
+     * Parse the date and time in the layout <code>yyyy-MM-dd?HH:mm:ss</code> at the beginning of a string.
+     *
+     * @param str the string
+     * @param separator the character between date and time
+     * @return the milliseconds since the epoch at UTC or {@link #INVALID} if the string does not start with a valid
+     *         date and time
+     * @since upcoming
+     */
+    public static long parseDateTime(final String str, final char separator) {
+        if (str.length() < 19
+            || str.charAt(4) != '-'
+            || str.charAt(7) != '-'
+            || str.charAt(10) != separator
+            || str.charAt(13) != ':'
+            || str.charAt(16) != ':') {
+            return INVALID;
+        }
+        final int year = parseDigits(str, 0, 4);
+        final int month = parseDigits(str, 5, 7);
+        final int day = parseDigits(str, 8, 10);
+        final int hour = parseDigits(str, 11, 13);
+        final int minute = parseDigits(str, 14, 16);
+        final int second = parseDigits(str, 17, 19);
+        if (year < 0
+            || month < 1
+            || month > 12
+            || day < 1
+            || day > daysInMonth(year, month)
+            || hour < 0
+            || hour > 23
+            || minute < 0
+            || minute > 59
+            || second < 0
+            || second > 59) {
+            return INVALID;
+        }
+        return toMillis(year, month, day, hour, minute, second, 0);
+    }
+
+    /**
+     * Parse a non-negative decimal number.
+     *
+     * @param str the string
+     * @param start the index of the first digit
+     * @param end the index after the last digit
+     * @return the number or -1 if the range contains anything else than ASCII digits
+     * @since upcoming
+     */
+    public static int parseDigits(final String str, final int start, final int end) {
+        int value = 0;
+        for (int i = start; i < end; ++i) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            value = value * 10 + ch - '0';
+        }
+        return value;
+    }
+
+    /**
+     * Append the date and time in the layout <code>yyyy-MM-dd?HH:mm:ss</code>.
+     *
+     * @param buffer the buffer to append to
+     * @param millis the milliseconds since the epoch, must be between 0000-01-01T00:00:00Z and {@link #YEAR_10000}
+     * @param separator the character between date and time
+     * @return the remaining milliseconds of the second
+     * @since upcoming
+     */
+    public static int appendDateTime(final StringBuilder buffer, final long millis, final char separator) {
+        final long epochDay = floorDiv(millis, MILLIS_PER_DAY);
+        int millisOfDay = (int)(millis - epochDay * MILLIS_PER_DAY);
+
+        // see http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        final long z = epochDay + 719468;
+        final long era = (z >= 0 ? z : z - 146096) / 146097;
+        final int doe = (int)(z - era * 146097);
+        final int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final int mp = (5 * doy + 2) / 153;
+        final int day = doy - (153 * mp + 2) / 5 + 1;
+        final int month = mp < 10 ? mp + 3 : mp - 9;
+        final int year = (int)(yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+        appendDigits(buffer, year, 4);
+        buffer.append('-');
+        appendDigits(buffer, month, 2);
+        buffer.append('-');
+        appendDigits(buffer, day, 2);
+        buffer.append(separator);
+        appendDigits(buffer, millisOfDay / 3600000, 2);
+        millisOfDay %= 3600000;
+        buffer.append(':');
+        appendDigits(buffer, millisOfDay / 60000, 2);
+        millisOfDay %= 60000;
+        buffer.append(':');
+        appendDigits(buffer, millisOfDay / 1000, 2);
+        return millisOfDay % 1000;
+    }
+
+    /**
+     * Append a non-negative number with leading zeros.
+     *
+     * @param buffer the buffer to append to
+     * @param value the number
+     * @param digits the minimum number of digits
+     * @since upcoming
+     */
+    public static void appendDigits(final StringBuilder buffer, final int value, final int digits) {
+        for (int limit = 10, i = 1; i < digits; limit *= 10, ++i) {
+            if (value < limit) {
+                buffer.append('0');
+            }
+        }
+        buffer.append(value);
+    }
+
+    private static long epochDay(final int year, final int month, final int day) {
+        // see http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = (y >= 0 ? y : y - 399) / 400;
+        final int yoe = (int)(y - era * 400);
+        final int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int daysInMonth(final int year, final int month) {
+        if (month == 2 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month - 1];
+    }
+
+    private static long floorDiv(final long x, final long y) {
+        final long q = x / y;
+        return (x % y != 0 && (x ^ y) < 0) ? q - 1 : q;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2008, 2014 XStream Committers.
+ * Copyright (C) 2008, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,6 +12,7 @@ package com.thoughtworks.xstream.core.util;
 
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.SkippingHierarchicalStreamReader;
 import com.thoughtworks.xstream.mapper.Mapper;
 
 
@@ -23,6 +24,14 @@ import com.thoughtworks.xstream.mapper.Mapper;
  */
 public class HierarchicalStreams {
 
+    /**
+     * The maximum number of elements a collection or array is presized with for a size hint. A hint in the input cannot
+     * enforce an arbitrary large allocation, a bigger collection simply grows beyond this capacity.
+     *
+     * @since upcoming
+     */
+    public static final int MAX_SIZE_HINT = 0x10000;
+
     public static Class<?> readClassType(final HierarchicalStreamReader reader, final Mapper mapper) {
         final String classAttribute = readClassAttribute(reader, mapper);
         Class<?> type;
@@ -46,4 +55,76 @@ public class HierarchicalStreams {
         return classAttribute;
     }
 
+    /**
+     * Write the number of elements of a collection or array as size hint. The hint is written as system attribute
+     * <em>size</em> unless its alias is <code>null</code>.
+     *
+     * @param writer the writer positioned at the node of the collection before any child has been written
+     * @param mapper the mapper
+     * @param size the number of elements
+     * @since upcoming
+     */
+    public static void writeSizeHint(final HierarchicalStreamWriter writer, final Mapper mapper, final int size) {
+        final String attributeName = mapper.aliasForSystemAttribute("size");
+        if (attributeName != null) {
+            writer.addAttribute(attributeName, String.valueOf(size));
+        }
+    }
+
+    /**
+     * Read the size hint of a collection or array. The hint is limited to {@link #MAX_SIZE_HINT}.
+     *
+     * @param reader the reader positioned at the node of the collection
+     * @param mapper the mapper
+     * @return the size hint or -1 if no valid hint is available
+     * @since upcoming
+     */
+    public static int readSizeHint(final HierarchicalStreamReader reader, final Mapper mapper) {
+        final String attributeName = mapper.aliasForSystemAttribute("size");
+        final String value = attributeName == null ? null : reader.getAttribute(attributeName);
+        if (value != null) {
+            try {
+                final int size = Integer.parseInt(value);
+                if (size >= 0) {
+                    return Math.min(size, MAX_SIZE_HINT);
+                }
+            } catch (final NumberFormatException e) {
+                // ignore invalid hint
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skip all remaining children of the current node.
+     * 
+     * @param reader the reader
+     * @see SkippingHierarchicalStreamReader#skipChildren()
+     * @since upcoming
+     */
+    public static void skipChildren(final HierarchicalStreamReader reader) {
+        if (reader instanceof SkippingHierarchicalStreamReader) {
+            ((SkippingHierarchicalStreamReader)reader).skipChildren();
+        } else {
+            while (reader.hasMoreChildren()) {
+                reader.moveDown();
+                reader.moveUp();
+            }
+        }
+    }
+
+    /**
+     * Skip the remaining content of the current node and move up to its parent.
+     * 
+     * @param reader the reader
+     * @see SkippingHierarchicalStreamReader#skipNode()
+     * @since upcoming
+     */
+    public static void skipNode(final HierarchicalStreamReader reader) {
+        if (reader instanceof SkippingHierarchicalStreamReader) {
+            ((SkippingHierarchicalStreamReader)reader).skipNode();
+        } else {
+            reader.moveUp();
+        }
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.thoughtworks.xstream.InitializationException;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.converters.SingleValueConverter;
+import com.thoughtworks.xstream.converters.SingleValueConverterWrapper;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+
+
+/**
+ * A converter that is instantiated on first demand.
+ * <p>
+ * The converter is registered with its class name, its constructor arguments and the names of the types it can handle.
+ * A type is only passed to the real converter if the name of the type itself, one of its super classes or one of its
+ * interfaces is one of the handled type names. Therefore neither the converter class nor the handled types are loaded
+ * before a matching type is marshalled or unmarshalled. A {@link SingleValueConverter} is wrapped automatically.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class LazyConverter implements Converter, Caching {
+
+    private final String className;
+    private final Class<?>[] constructorParamTypes;
+    private final Object[] constructorParamValues;
+    private final Set<String> typeNames;
+    private final ClassLoaderReference classLoaderReference;
+    private transient volatile Converter converter;
+
+    /**
+     * Constructs a LazyConverter.
+     *
+     * @param className the name of the converter class
+     * @param constructorParamTypes the parameter types of the converter's constructor (may be <code>null</code>)
+     * @param constructorParamValues the argument values for the converter's constructor (may be <code>null</code>)
+     * @param classLoaderReference the reference to the class loader used to load the converter
+     * @param typeNames the names of the types the converter can handle
+     * @since upcoming
+     */
+    public LazyConverter(
+            final String className, final Class<?>[] constructorParamTypes, final Object[] constructorParamValues,
+            final ClassLoaderReference classLoaderReference, final String... typeNames) {
+        this.className = className;
+        this.constructorParamTypes = constructorParamTypes;
+        this.constructorParamValues = constructorParamValues;
+        this.classLoaderReference = classLoaderReference;
+        this.typeNames = new HashSet<String>(Arrays.asList(typeNames));
+    }
+
+    @Override
+    public boolean canConvert(final Class<?> type) {
+        return type != null && isHandledType(type) && getConverter().canConvert(type);
+    }
+
+    @Override
+    public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
+        getConverter().marshal(source, writer, context);
+    }
+
+    @Override
+    public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
+        return getConverter().unmarshal(reader, context);
+    }
+
+    @Override
+    public void flushCache() {
+        final Converter instance = converter;
+        if (instance instanceof Caching) {
+            ((Caching)instance).flushCache();
+        }
+    }
+
+    /**
+     * Retrieve the real converter. It is instantiated at the first call.
+     *
+     * @return the converter
+     * @throws InitializationException if the converter cannot be instantiated
+     * @since upcoming
+     */
+    public Converter getConverter() {
+        Converter instance = converter;
+        if (instance == null) {
+            synchronized (this) {
+                instance = converter;
+                if (instance == null) {
+                    instance = createConverter();
+                    converter = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    private boolean isHandledType(final Class<?> type) {
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            if (typeNames.contains(cls.getName()) || isHandledInterface(cls.getInterfaces())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isHandledInterface(final Class<?>[] interfaces) {
+        for (final Class<?> type : interfaces) {
+            if (typeNames.contains(type.getName()) || isHandledInterface(type.getInterfaces())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Converter createConverter() {
+        final Object instance;
+        try {
+            final Class<?> type = Class.forName(className, false, classLoaderReference.getReference());
+            final Constructor<?> constructor = type.getConstructor(constructorParamTypes);
+            instance = constructor.newInstance(constructorParamValues);
+        } catch (final InvocationTargetException e) {
+            throw new InitializationException("Could not instantiate converter : " + className, e.getCause());
+        } catch (final Exception e) {
+            throw new InitializationException("Could not instantiate converter : " + className, e);
+        } catch (final LinkageError e) {
+            throw new InitializationException("Could not instantiate converter : " + className, e);
+        }
+        if (instance instanceof Converter) {
+            return (Converter)instance;
+        } else if (instance instanceof SingleValueConverter) {
+            return new SingleValueConverterWrapper((SingleValueConverter)instance);
+        }
+        throw new InitializationException("Type is not a converter : " + className);
+    }
+}
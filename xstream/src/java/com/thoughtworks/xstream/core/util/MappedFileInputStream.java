@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+
+/**
+ * An InputStream reading a file by mapping it into memory.
+ * <p>
+ * The stream reads the bytes directly from a {@link MappedByteBuffer} without any intermediate buffer copies done by a
+ * {@link java.io.FileInputStream} and a {@link java.io.BufferedInputStream}. Since a single mapping is limited to 2GB,
+ * larger files are mapped in consecutive segments. A new segment is mapped only when the reading position reaches its
+ * start.
+ * </p>
+ * <p>
+ * The JDK releases a mapping only when its buffer is garbage collected, even if the file is closed. By default the
+ * stream leaves the mapped memory to the garbage collector. A caller can request to unmap a segment as soon as it is
+ * no longer used and at the latest when the stream is closed. This requires the unsupported
+ * <code>sun.misc.Unsafe.invokeCleaner</code> method (Java 9 and later) or the cleaner of a direct buffer (Java 8 and
+ * earlier), on other JVMs the request is ignored. An unmapped buffer must never be accessed again, therefore the
+ * stream must not be closed while another thread is reading from it, and the file must not be truncated while it is
+ * mapped. Otherwise the JVM may crash. The stream cannot be used anymore after it has been closed.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafe = unsafeField.get(null);
+        } catch (final Exception e) {
+            invokeCleaner = null;
+        } catch (final Error e) {
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long size;
+    private final long segmentSize;
+    private final boolean unmap;
+    private long segmentStart;
+    private MappedByteBuffer buffer;
+    private long mark;
+
+    /**
+     * Constructs a MappedFileInputStream.
+     *
+     * @param file the file to read
+     * @throws IOException if the file cannot be opened or mapped
+     * @since upcoming
+     */
+    public MappedFileInputStream(final File file) throws IOException {
+        this(file, false);
+    }
+
+    /**
+     * Constructs a MappedFileInputStream that may unmap its segments explicitly.
+     * <p>
+     * Set <code>unmap</code> only if the stream is read and closed by the same thread and the file is not modified
+     * while it is read.
+     * </p>
+     *
+     * @param file the file to read
+     * @param unmap <code>true</code> if a segment should be unmapped as soon as it is no longer used
+     * @throws IOException if the file cannot be opened or mapped
+     * @since upcoming
+     */
+    public MappedFileInputStream(final File file, final boolean unmap) throws IOException {
+        this(file, MAX_SEGMENT_SIZE, unmap);
+    }
+
+    MappedFileInputStream(final File file, final long segmentSize, final boolean unmap) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        this.segmentSize = segmentSize;
+        this.unmap = unmap;
+        try {
+            channel = this.file.getChannel();
+            size = channel.size();
+            map(0);
+        } catch (final IOException e) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    private void map(final long position) throws IOException {
+        final long start = position - position % segmentSize;
+        final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, size
+            - start));
+        if (unmap) {
+            unmap(buffer);
+        }
+        segmentStart = start;
+        buffer = mapped;
+        buffer.position((int)(position - segmentStart));
+    }
+
+    private static void unmap(final MappedByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                final Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (final Exception e) {
+            // leave it to the garbage collector
+        } catch (final Error e) {
+            // leave it to the garbage collector
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        ensureOpen();
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        final long position = segmentStart + buffer.limit();
+        if (position >= size) {
+            return false;
+        }
+        map(position);
+        return true;
+    }
+
+    private long position() {
+        return segmentStart + buffer.position();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return ensureAvailable() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        final int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        final long position = position();
+        final long skipped = Math.min(n, size - position);
+        if (skipped <= buffer.remaining()) {
+            buffer.position(buffer.position() + (int)skipped);
+        } else {
+            map(position + skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return (int)Math.min(Integer.MAX_VALUE, size - position());
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+        if (buffer != null) {
+            mark = position();
+        }
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        ensureOpen();
+        if (mark >= segmentStart && mark <= segmentStart + buffer.limit()) {
+            buffer.position((int)(mark - segmentStart));
+        } else {
+            map(mark);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        final MappedByteBuffer mapped = buffer;
+        buffer = null;
+        try {
+            file.close();
+        } finally {
+            if (unmap) {
+                unmap(mapped);
+            }
+        }
+    }
+}
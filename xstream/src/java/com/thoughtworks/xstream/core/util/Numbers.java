@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+/**
+ * Helper methods for the textual representation of numbers.
+ * 
+ * @author agent
+ * @since upcoming
+ */
+public class Numbers {
+
+    /**
+     * Check whether a string is a plain decimal integral number.
+     * <p>
+     * Such a number can be parsed with {@link Long#parseLong(String)} or {@link Integer#parseInt(String)} instead of
+     * {@link Long#decode(String)}. The parse methods run a digit loop over the string without creating any object, while
+     * decode creates a substring and a wrapper. A number with a leading zero is not plain decimal, decode interprets it
+     * as octal number.
+     * </p>
+     * 
+     * @param str the string
+     * @return <code>true</code> if the string is an optional minus sign followed by decimal digits without leading zero
+     * @since upcoming
+     */
+    public static boolean isDecimal(final String str) {
+        final int length = str.length();
+        int i = length > 0 && str.charAt(0) == '-' ? 1 : 0;
+        if (i == length) {
+            return false;
+        }
+        char c = str.charAt(i);
+        if (c == '0') {
+            return i + 1 == length;
+        }
+        for (; i < length; ++i) {
+            c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+
+/**
+ * Utility class for regular expressions.
+ *
+ * @author agent
+ * @since upcoming
+ */
+public final class Patterns {
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+    private static final int[] INLINE_FLAGS = {
+        Pattern.CASE_INSENSITIVE, Pattern.UNIX_LINES, Pattern.MULTILINE, Pattern.DOTALL, Pattern.UNICODE_CASE};
+    private static final char[] INLINE_FLAG_CHARS = {'i', 'd', 'm', 's', 'u'};
+
+    private Patterns() {
+    }
+
+    /**
+     * Combine patterns into a single one that matches if any of the patterns matches.
+     * <p>
+     * The patterns are joined as alternation with their flags inlined. This is not possible for patterns with back
+     * references, with flags that have no inline representation or if the joined pattern is invalid, e.g. because of
+     * duplicate group names.
+     * </p>
+     *
+     * @param patterns the patterns to combine
+     * @return the combined pattern, the single pattern itself or <code>null</code> if the patterns cannot be combined
+     * @since upcoming
+     */
+    public static Pattern combine(final Pattern... patterns) {
+        if (patterns.length < 2) {
+            return patterns.length == 0 ? null : patterns[0];
+        }
+        final StringBuilder regex = new StringBuilder();
+        for (final Pattern pattern : patterns) {
+            final String flags = inlineFlags(pattern.flags());
+            if (flags == null || BACK_REFERENCE.matcher(pattern.pattern()).find()) {
+                return null;
+            }
+            if (regex.length() > 0) {
+                regex.append('|');
+            }
+            regex.append("(?").append(flags).append(':').append(pattern.pattern()).append(')');
+        }
+        try {
+            return Pattern.compile(regex.toString());
+        } catch (final PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static String inlineFlags(int flags) {
+        final StringBuilder inline = new StringBuilder();
+        for (int i = 0; i < INLINE_FLAGS.length; ++i) {
+            if ((flags & INLINE_FLAGS[i]) != 0) {
+                inline.append(INLINE_FLAG_CHARS[i]);
+                flags &= ~INLINE_FLAGS[i];
+            }
+        }
+        return flags == 0 ? inline.toString() : null;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2007, 2014 XStream Committers.
+ * Copyright (c) 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -10,11 +10,18 @@
  */
 package com.thoughtworks.xstream.core.util;
 
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 
 /**
  * A simple pool implementation.
+ * <p>
+ * The pool never blocks. It creates its instances on demand up to the maximum pool size. If all of them are in use, an
+ * additional instance is created that is dropped again when it is returned to the full pool. The pool is lock-free.
+ * </p>
  * 
  * @author J&ouml;rg Schaible
  * @author Joe Walnes
@@ -25,11 +32,14 @@ public class Pool<T> {
         public T newInstance();
     }
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Pool, State> STATE = AtomicReferenceFieldUpdater.newUpdater(
+        Pool.class, State.class, "state");
+
     private final int initialPoolSize;
     private final int maxPoolSize;
     private final Factory<T> factory;
-    private transient T[] pool;
-    private transient int nextAvailable;
+    private transient volatile State<T> state;
 
     public Pool(final int initialPoolSize, final int maxPoolSize, final Factory<T> factory) {
         this.initialPoolSize = initialPoolSize;
@@ -37,58 +47,75 @@ public class Pool<T> {
         this.factory = factory;
     }
 
-    private T[] newArray(final int capacity, final T... t) {
-        return Arrays.copyOf(t, capacity);
-    }
-
     public T fetchFromPool() {
-        T result;
-        synchronized (this) {
-            if (pool == null) {
-                @SuppressWarnings("unchecked")
-                final T[] all = newArray(maxPoolSize);
-                pool = all;
-                for (nextAvailable = initialPoolSize; nextAvailable > 0;) {
-                    putInPool(factory.newInstance());
-                }
-            }
-            while (nextAvailable == maxPoolSize) {
-                try {
-                    wait();
-                } catch (final InterruptedException e) {
-                    throw new RuntimeException("Interrupted whilst waiting for a free item in the pool: "
-                        + e.getMessage());
+        final State<T> state = getState();
+        final AtomicReferenceArray<T> pool = state.pool;
+        for (int i = 0; i < maxPoolSize; ++i) {
+            if (pool.get(i) != null) {
+                final T result = pool.getAndSet(i, null);
+                if (result != null) {
+                    return result;
                 }
             }
-            result = pool[nextAvailable++];
-            if (result == null) {
-                result = factory.newInstance();
-                putInPool(result);
-                ++nextAvailable;
-            }
         }
-        return result;
+        if (state.size.incrementAndGet() > maxPoolSize) {
+            state.overflowCount.incrementAndGet();
+        }
+        return factory.newInstance();
     }
 
     protected void putInPool(final T object) {
-        synchronized (this) {
-            if (nextAvailable == 0) {
-                throw new IllegalStateException("Cannot put more objects than "
-                    + maxPoolSize
-                    + " elements into this pool");
-            }
-            pool[--nextAvailable] = object;
-            if (object == null) {
-                for (int i = maxPoolSize; i > nextAvailable;) {
-                    if (pool[--i] != null) {
-                        pool[nextAvailable] = pool[i];
-                        pool[i] = null;
-                        break;
-                    }
+        final State<T> state = getState();
+        final AtomicReferenceArray<T> pool = state.pool;
+        if (object != null) {
+            for (int i = 0; i < maxPoolSize; ++i) {
+                if (pool.get(i) == null && pool.compareAndSet(i, null, object)) {
+                    return;
                 }
             }
+        }
+        state.size.decrementAndGet();
+    }
+
+    /**
+     * Retrieve the number of instances that have been created additionally, because the maximum number of instances
+     * was already in use. A steadily growing number indicates a maximum pool size that is too small for the load.
+     * 
+     * @return the number of additional instances
+     * @since upcoming
+     */
+    public long getOverflowCount() {
+        final State<T> state = this.state;
+        return state == null ? 0 : state.overflowCount.get();
+    }
+
+    private State<T> getState() {
+        final State<T> state = this.state;
+        if (state != null) {
+            return state;
+        }
+        // the instances are created lazily, a thread losing the race drops its initial instances
+        final State<T> newState = new State<T>(maxPoolSize);
+        final int initialSize = Math.min(initialPoolSize, maxPoolSize);
+        for (int i = 0; i < initialSize; ++i) {
+            newState.pool.set(i, factory.newInstance());
+        }
+        newState.size.set(initialSize);
+        if (STATE.compareAndSet(this, null, newState)) {
+            return newState;
+        }
+        @SuppressWarnings("unchecked")
+        final State<T> winner = STATE.get(this);
+        return winner;
+    }
+
+    private static class State<T> {
+        final AtomicReferenceArray<T> pool;
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicLong overflowCount = new AtomicLong();
 
-            notify();
+        State(final int maxPoolSize) {
+            pool = new AtomicReferenceArray<T>(maxPoolSize);
         }
     }
 }
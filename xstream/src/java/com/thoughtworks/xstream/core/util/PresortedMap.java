@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2010, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2010, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 12.10.2010 by Joerg Schaible, extracted from TreeMapConverter.
@@ -19,7 +19,14 @@ import java.util.SortedMap;
  */
 public class PresortedMap<K, V> implements SortedMap<K, V> {
 
-    private static class ArraySet<T> extends ArrayList<T> implements Set<T> {}
+    private static class ArraySet<T> extends ArrayList<T> implements Set<T> {
+        ArraySet() {
+        }
+
+        ArraySet(final int initialCapacity) {
+            super(initialCapacity);
+        }
+    }
 
     private final PresortedMap.ArraySet<Map.Entry<K, V>> set;
     private final Comparator<K> comparator;
@@ -32,6 +39,17 @@ public class PresortedMap<K, V> implements SortedMap<K, V> {
         this(comparator, new ArraySet<Map.Entry<K, V>>());
     }
 
+    /**
+     * Constructs a PresortedMap for an expected number of entries.
+     *
+     * @param comparator the comparator (may be <code>null</code>)
+     * @param initialCapacity the expected number of entries
+     * @since upcoming
+     */
+    public PresortedMap(final Comparator<K> comparator, final int initialCapacity) {
+        this(comparator, new ArraySet<Map.Entry<K, V>>(initialCapacity));
+    }
+
     private PresortedMap(final Comparator<K> comparator, final PresortedMap.ArraySet<Map.Entry<K, V>> set) {
         this.comparator = comparator != null ? comparator : new ArraySetComparator<K, V>(set);
         this.set = set;
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2010, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2010, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 12.10.2010 by Joerg Schaible, extracted from TreeSetConverter.
@@ -18,7 +18,7 @@ import java.util.SortedSet;
  * @author J&ouml;rg Schaible
  */
 public class PresortedSet<E> implements SortedSet<E> {
-    private final List<E> list = new ArrayList<E>();
+    private final List<E> list;
     private final Comparator<E> comparator;
 
     public PresortedSet() {
@@ -30,12 +30,24 @@ public class PresortedSet<E> implements SortedSet<E> {
     }
 
     public PresortedSet(final Comparator<E> comparator, final Collection<E> c) {
-        this.comparator = comparator;
+        this(comparator, c != null ? c.size() : 10);
         if (c != null) {
             addAll(c);
         }
     }
 
+    /**
+     * Constructs a PresortedSet for an expected number of elements.
+     *
+     * @param comparator the comparator (may be <code>null</code>)
+     * @param initialCapacity the expected number of elements
+     * @since upcoming
+     */
+    public PresortedSet(final Comparator<E> comparator, final int initialCapacity) {
+        this.comparator = comparator;
+        list = new ArrayList<E>(initialCapacity);
+    }
+
     @Override
     public boolean add(final E e) {
         return this.list.add(e);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -70,6 +70,40 @@ public class QuickWriter implements Closeable {
         pointer += len;
     }
 
+    /**
+     * Write the decimal representation of a number.
+     * 
+     * @param value the number
+     * @since upcoming
+     */
+    public void write(final long value) {
+        if (pointer + 20 >= buffer.length) {
+            flush();
+            if (buffer.length <= 20) {
+                raw(String.valueOf(value).toCharArray());
+                return;
+            }
+        }
+        if (value == Long.MIN_VALUE) {
+            write("-9223372036854775808");
+            return;
+        }
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[pointer++] = '-';
+            remaining = -remaining;
+        }
+        int end = pointer;
+        for (long rest = remaining; rest >= 10; rest /= 10) {
+            ++end;
+        }
+        pointer = end + 1;
+        do {
+            buffer[end--] = (char)('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+    }
+
     public void flush() {
         try {
             writer.write(buffer, 0, pointer);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -14,6 +14,7 @@ package com.thoughtworks.xstream.core.util;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamField;
+import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -28,6 +29,7 @@ import java.util.concurrent.ConcurrentMap;
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
 import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.WarmUp;
 
 
 /**
@@ -36,7 +38,7 @@ import com.thoughtworks.xstream.core.Caching;
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
  */
-public class SerializationMembers implements Caching {
+public class SerializationMembers implements Caching, WarmUp {
 
     private static final Method NO_METHOD = new Object() {
         @SuppressWarnings("unused")
@@ -45,19 +47,31 @@ public class SerializationMembers implements Caching {
     }.getClass().getDeclaredMethods()[0];
     private static final Map<String, ObjectStreamField> NO_FIELDS = Collections.emptyMap();
     private static final int PERSISTENT_FIELDS_MODIFIER = Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL;
-    private static final FastField[] OBJECT_TYPE_FIELDS = {
-        new FastField(Object.class, "readResolve"), new FastField(Object.class, "writeReplace"),
-        new FastField(Object.class, "readObject"), new FastField(Object.class, "writeObject")};
-    private final ConcurrentMap<FastField, Method> declaredCache = new ConcurrentHashMap<FastField, Method>();
-    private final ConcurrentMap<FastField, Method> resRepCache = new ConcurrentHashMap<FastField, Method>();
-    private final ConcurrentMap<String, Map<String, ObjectStreamField>> fieldCache = new ConcurrentHashMap<String, Map<String, ObjectStreamField>>();
-    {
-        for (final FastField element : OBJECT_TYPE_FIELDS) {
-            declaredCache.put(element, NO_METHOD);
-        }
-        for (final FastField element : Arrays.copyOf(OBJECT_TYPE_FIELDS, 2)) {
-            resRepCache.put(element, NO_METHOD);
-        }
+    private static final String[] OBJECT_TYPE_METHODS = {"readResolve", "writeReplace", "readObject", "writeObject"};
+    private final ClassCache<ConcurrentMap<String, Method>> declaredCache = createMethodCache(OBJECT_TYPE_METHODS);
+    private final ClassCache<ConcurrentMap<String, Method>> resRepCache = createMethodCache(Arrays.copyOf(
+        OBJECT_TYPE_METHODS, 2));
+    private final ClassCache<Map<String, ObjectStreamField>> fieldCache = ClassCache
+        .newInstance(new ClassCache.Factory<Map<String, ObjectStreamField>>() {
+            @Override
+            public Map<String, ObjectStreamField> create(final Class<?> type) {
+                return findSerializablePersistentFields(type);
+            }
+        });
+
+    private static ClassCache<ConcurrentMap<String, Method>> createMethodCache(final String[] objectTypeMethods) {
+        return ClassCache.newInstance(new ClassCache.Factory<ConcurrentMap<String, Method>>() {
+            @Override
+            public ConcurrentMap<String, Method> create(final Class<?> type) {
+                final ConcurrentMap<String, Method> methods = new ConcurrentHashMap<String, Method>();
+                if (type == Object.class) {
+                    for (final String name : objectTypeMethods) {
+                        methods.put(name, NO_METHOD);
+                    }
+                }
+                return methods;
+            }
+        });
     }
 
     /**
@@ -147,8 +161,8 @@ public class SerializationMembers implements Caching {
         if (type == null) {
             return null;
         }
-        final FastField method = new FastField(type, name);
-        Method result = declaredCache.get(method);
+        final ConcurrentMap<String, Method> methods = declaredCache.get(type);
+        Method result = methods.get(name);
 
         if (result == null) {
             try {
@@ -158,15 +172,18 @@ public class SerializationMembers implements Caching {
                 }
             } catch (final NoSuchMethodException e) {
                 result = getMethod(type.getSuperclass(), name, parameterTypes);
+                if (result == null) {
+                    result = NO_METHOD;
+                }
             }
-            declaredCache.put(method, result);
+            methods.put(name, result);
         }
         return result;
     }
 
     private Method getRRMethod(final Class<?> type, final String name) {
-        final FastField method = new FastField(type, name);
-        Method result = resRepCache.get(method);
+        final ConcurrentMap<String, Method> methods = resRepCache.get(type);
+        Method result = methods.get(name);
         if (result == null) {
             result = getMethod(type, name, true);
             if (result != null && result.getDeclaringClass() != type) {
@@ -179,7 +196,7 @@ public class SerializationMembers implements Caching {
             } else if (result == null) {
                 result = NO_METHOD;
             }
-            resRepCache.putIfAbsent(method, result);
+            methods.putIfAbsent(name, result);
         }
         return result == NO_METHOD ? null : result;
     }
@@ -188,37 +205,58 @@ public class SerializationMembers implements Caching {
         if (type == null) {
             return null;
         }
-        Map<String, ObjectStreamField> result = fieldCache.get(type.getName());
-        if (result == null) {
-            try {
-                final Field field = type.getDeclaredField("serialPersistentFields");
-                if ((field.getModifiers() & PERSISTENT_FIELDS_MODIFIER) == PERSISTENT_FIELDS_MODIFIER) {
-                    field.setAccessible(true);
-                    final ObjectStreamField[] fields = (ObjectStreamField[])field.get(null);
-                    if (fields != null) {
-                        result = new HashMap<String, ObjectStreamField>();
-                        for (final ObjectStreamField f : fields) {
-                            result.put(f.getName(), f);
-                        }
+        final Map<String, ObjectStreamField> result = fieldCache.get(type);
+        return result == NO_FIELDS ? null : result;
+    }
+
+    private static Map<String, ObjectStreamField> findSerializablePersistentFields(final Class<?> type) {
+        try {
+            final Field field = type.getDeclaredField("serialPersistentFields");
+            if ((field.getModifiers() & PERSISTENT_FIELDS_MODIFIER) == PERSISTENT_FIELDS_MODIFIER) {
+                field.setAccessible(true);
+                final ObjectStreamField[] fields = (ObjectStreamField[])field.get(null);
+                if (fields != null) {
+                    final Map<String, ObjectStreamField> result = new HashMap<String, ObjectStreamField>();
+                    for (final ObjectStreamField f : fields) {
+                        result.put(f.getName(), f);
                     }
+                    return result;
                 }
-            } catch (final NoSuchFieldException e) {
-            } catch (final IllegalAccessException e) {
-                throw new ObjectAccessException("Cannot get " + type.getName() + ".serialPersistentFields.", e);
-            } catch (final ClassCastException e) {
-                throw new ObjectAccessException("Cannot get " + type.getName() + ".serialPersistentFields.", e);
             }
-            if (result == null) {
-                result = NO_FIELDS;
+        } catch (final NoSuchFieldException e) {
+        } catch (final IllegalAccessException e) {
+            throw new ObjectAccessException("Cannot get " + type.getName() + ".serialPersistentFields.", e);
+        } catch (final ClassCastException e) {
+            throw new ObjectAccessException("Cannot get " + type.getName() + ".serialPersistentFields.", e);
+        }
+        return NO_FIELDS;
+    }
+
+    /**
+     * Resolves all serialization members of a type and its super classes.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void warmUp(final Class<?> type) {
+        if (type.isInterface() || type.isPrimitive()) {
+            return;
+        }
+        getRRMethod(type, "readResolve");
+        getRRMethod(type, "writeReplace");
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            supportsReadObject(cls, false);
+            supportsWriteObject(cls, false);
+            if (Serializable.class.isAssignableFrom(cls)) {
+                getSerializablePersistentFields(cls);
             }
-            fieldCache.putIfAbsent(type.getName(), result);
         }
-        return result == NO_FIELDS ? null : result;
     }
 
     @Override
     public void flushCache() {
-        declaredCache.keySet().retainAll(Arrays.asList(OBJECT_TYPE_FIELDS));
-        resRepCache.keySet().retainAll(Arrays.asList(OBJECT_TYPE_FIELDS));
+        declaredCache.clear();
+        resRepCache.clear();
+        fieldCache.clear();
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2007, 2008, 2014 XStream Committers.
+ * Copyright (c) 2007, 2008, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -23,7 +23,7 @@ import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
  * </p>
  * <p>
  * The pool has a maximum capacity, to limit overhead. If all instances in the pool are in use and another is required,
- * it shall block until one becomes available.
+ * a new instance is created that is dropped again after use.
  * </p>
  * 
  * @author J&ouml;rg Schaible
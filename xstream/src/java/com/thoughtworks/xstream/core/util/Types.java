@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015 XStream Committers.
+ * Copyright (C) 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 17. January 2015 by Joerg Schaible
@@ -22,4 +22,27 @@ public class Types {
         return type != null && type.isSynthetic() && lambdaPattern.matcher(type.getSimpleName()).matches();
     }
 
+    /**
+     * Check whether a type or one of its super classes below a base class declares a method.
+     *
+     * @param type the type to check
+     * @param base the base class that is not examined
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return <code>true</code> if the method is declared between the type and the base class
+     * @since upcoming
+     */
+    public static boolean declaresMethod(
+            final Class<?> type, final Class<?> base, final String name, final Class<?>... parameterTypes) {
+        for (Class<?> cls = type; cls != null && cls != base; cls = cls.getSuperclass()) {
+            try {
+                cls.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // continue with super class
+            }
+        }
+        return false;
+    }
+
 }
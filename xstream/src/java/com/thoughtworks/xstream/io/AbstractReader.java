@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2009, 2011, 2014 XStream Committers.
+ * Copyright (C) 2009, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -22,7 +22,7 @@ import com.thoughtworks.xstream.io.naming.NoNameCoder;
  * @author J&ouml;rg Schaible
  * @since 1.4
  */
-public abstract class AbstractReader implements ExtendedHierarchicalStreamReader {
+public abstract class AbstractReader implements ExtendedHierarchicalStreamReader, SkippingHierarchicalStreamReader {
 
     private final NameCoder nameCoder;
 
@@ -98,4 +98,27 @@ public abstract class AbstractReader implements ExtendedHierarchicalStreamReader
     public String peekNextChild() {
         throw new UnsupportedOperationException("peekNextChild");
     }
+
+    /**
+     * {@inheritDoc} The default implementation walks over the remaining children.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void skipChildren() {
+        while (hasMoreChildren()) {
+            moveDown();
+            moveUp();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The default implementation simply calls {@link #moveUp()}.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void skipNode() {
+        moveUp();
+    }
 }
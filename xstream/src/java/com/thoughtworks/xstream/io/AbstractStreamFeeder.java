@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+
+
+/**
+ * Abstract base class for a non-blocking, push-based input of documents.
+ * <p>
+ * A {@link HierarchicalStreamReader} pulls its data from a blocking stream. A feeder accepts instead the data in
+ * arbitrary chunks as they arrive e.g. from a non-blocking network channel. Any fed chunk is scanned incrementally for
+ * the end of the current document. As soon as a document is complete, it is available as
+ * {@link HierarchicalStreamReader} that can be used for unmarshalling without ever blocking the current thread for
+ * additional input:
+ * </p>
+ *
+ * <pre>
+ * feeder.feed(bytes, 0, length);
+ * HierarchicalStreamReader reader;
+ * while ((reader = feeder.nextReader()) != null) {
+ *     Object object = xstream.unmarshal(reader);
+ *     // ...
+ * }
+ * </pre>
+ * <p>
+ * A feeder keeps the state of a single input connection and is not thread-safe. The feeder only detects the end of a
+ * document, the reader parses it afterwards from memory, i.e. the parsing itself is not incremental. Therefore the
+ * feeder buffers the data of a document until it is complete, copies it into an own array and a document is limited
+ * to the size of a byte array. An application that receives data from an
+ * untrusted source should limit the number of pending bytes itself, e.g. by closing the connection if
+ * {@link #getPendingBytes()} exceeds a threshold.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public abstract class AbstractStreamFeeder {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private byte[] buffer = new byte[DEFAULT_CAPACITY];
+    private int start;
+    private int limit;
+    private final LinkedList<byte[]> documents = new LinkedList<byte[]>();
+
+    /**
+     * Feed a chunk of input data.
+     *
+     * @param bytes the array with the data
+     * @param offset the offset of the first byte in the array
+     * @param length the number of bytes to feed
+     * @throws StreamException if the data is invalid for the format
+     * @since upcoming
+     */
+    public void feed(final byte[] bytes, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, limit, length);
+        process(length);
+    }
+
+    /**
+     * Feed the remaining input data of a buffer.
+     *
+     * @param bytes the buffer with the data, its position is moved to its limit
+     * @throws StreamException if the data is invalid for the format
+     * @since upcoming
+     */
+    public void feed(final ByteBuffer bytes) {
+        final int length = bytes.remaining();
+        ensureCapacity(length);
+        bytes.get(buffer, limit, length);
+        process(length);
+    }
+
+    /**
+     * Retrieve the number of buffered bytes that do not yet belong to a complete document.
+     *
+     * @return the number of pending bytes
+     * @since upcoming
+     */
+    public int getPendingBytes() {
+        return limit - start;
+    }
+
+    /**
+     * Check for a complete document.
+     *
+     * @return <code>true</code> if a document is available
+     * @since upcoming
+     */
+    public boolean hasDocument() {
+        return !documents.isEmpty();
+    }
+
+    /**
+     * Retrieve a reader for the next complete document.
+     *
+     * @return the reader or <code>null</code> if no complete document is available yet
+     * @since upcoming
+     */
+    public HierarchicalStreamReader nextReader() {
+        final byte[] document = documents.poll();
+        return document == null ? null : createReader(document);
+    }
+
+    private void ensureCapacity(final int length) {
+        if (limit + length > buffer.length) {
+            final int pending = limit - start;
+            final byte[] target = pending + length > buffer.length
+                ? new byte[Math.max(buffer.length * 2, pending + length)]
+                : buffer;
+            System.arraycopy(buffer, start, target, 0, pending);
+            buffer = target;
+            start = 0;
+            limit = pending;
+        }
+    }
+
+    private void process(final int length) {
+        int offset = limit;
+        limit += length;
+        while (offset < limit) {
+            final int end = scan(buffer, offset, limit);
+            if (end < 0) {
+                break;
+            }
+            documents.add(Arrays.copyOfRange(buffer, start, end));
+            start = offset = end;
+        }
+        if (start == limit) {
+            start = limit = 0;
+        }
+    }
+
+    /**
+     * Scan the data for the end of the current document. All the provided bytes are considered as processed unless the
+     * end of the document is found. The implementation has to keep its state between two calls and has to reset it at
+     * the end of a document.
+     *
+     * @param bytes the buffer with the data
+     * @param offset the index of the first byte that has not been scanned yet
+     * @param limit the index after the last available byte
+     * @return the index after the last byte of the current document or -1 if the document is not yet complete
+     * @throws StreamException if the data is invalid for the format
+     * @since upcoming
+     */
+    protected abstract int scan(byte[] bytes, int offset, int limit);
+
+    /**
+     * Create the reader for a complete document.
+     *
+     * @param document the data of the document
+     * @return the reader
+     * @since upcoming
+     */
+    protected abstract HierarchicalStreamReader createReader(byte[] document);
+}
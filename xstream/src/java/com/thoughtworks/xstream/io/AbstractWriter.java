@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2009, 2011, 2014 XStream Committers.
+ * Copyright (C) 2009, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -22,7 +22,7 @@ import com.thoughtworks.xstream.io.naming.NoNameCoder;
  * @author J&ouml;rg Schaible
  * @since 1.4
  */
-public abstract class AbstractWriter implements ExtendedHierarchicalStreamWriter {
+public abstract class AbstractWriter implements ExtendedHierarchicalStreamWriter, NumericHierarchicalStreamWriter {
 
     private final NameCoder nameCoder;
 
@@ -50,6 +50,19 @@ public abstract class AbstractWriter implements ExtendedHierarchicalStreamWriter
         startNode(name);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The default implementation calls {@link #setValue(String)} with the decimal representation of the number.
+     * </p>
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void setValue(final long value) {
+        setValue(String.valueOf(value));
+    }
+
     @Override
     public HierarchicalStreamWriter underlyingWriter() {
         return this;
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -19,4 +19,19 @@ public class ExtendedHierarchicalStreamWriterHelper {
             writer.startNode(name);
         }
     }
+
+    /**
+     * Write an integral number as value of the current node.
+     * 
+     * @param writer the writer
+     * @param value the number
+     * @since upcoming
+     */
+    public static void setValue(final HierarchicalStreamWriter writer, final long value) {
+        if (writer instanceof NumericHierarchicalStreamWriter) {
+            ((NumericHierarchicalStreamWriter)writer).setValue(value);
+        } else {
+            writer.setValue(String.valueOf(value));
+        }
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io;
+
+/**
+ * Optional interface of a {@link HierarchicalStreamWriter} that can write numbers without their textual representation.
+ * <p>
+ * Use {@link ExtendedHierarchicalStreamWriterHelper#setValue(HierarchicalStreamWriter, long)} to write a number with
+ * any writer, it falls back to the decimal string if the writer does not implement this interface.
+ * </p>
+ * 
+ * @author agent
+ * @since upcoming
+ */
+public interface NumericHierarchicalStreamWriter extends HierarchicalStreamWriter {
+
+    /**
+     * Write an integral number as value of the current node. The result is the same as with a call of
+     * {@link #setValue(String)} with the decimal representation of the number, but the writer may write the digits
+     * directly into its target.
+     * 
+     * @param value the number
+     * @since upcoming
+     */
+    void setValue(long value);
+}
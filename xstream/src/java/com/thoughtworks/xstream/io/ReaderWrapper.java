@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -14,6 +14,7 @@ package com.thoughtworks.xstream.io;
 import java.util.Iterator;
 
 import com.thoughtworks.xstream.converters.ErrorWriter;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
 
 
 /**
@@ -21,7 +22,7 @@ import com.thoughtworks.xstream.converters.ErrorWriter;
  * 
  * @author Joe Walnes
  */
-public abstract class ReaderWrapper implements ExtendedHierarchicalStreamReader {
+public abstract class ReaderWrapper implements ExtendedHierarchicalStreamReader, SkippingHierarchicalStreamReader {
 
     protected HierarchicalStreamReader wrapped;
 
@@ -97,6 +98,16 @@ public abstract class ReaderWrapper implements ExtendedHierarchicalStreamReader
         return ((ExtendedHierarchicalStreamReader)wrapped).peekNextChild();
     }
 
+    @Override
+    public void skipChildren() {
+        HierarchicalStreams.skipChildren(wrapped);
+    }
+
+    @Override
+    public void skipNode() {
+        HierarchicalStreams.skipNode(wrapped);
+    }
+
     @Override
     public HierarchicalStreamReader underlyingReader() {
         return wrapped.underlyingReader();
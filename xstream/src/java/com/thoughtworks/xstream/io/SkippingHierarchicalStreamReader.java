@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io;
+
+/**
+ * Optional interface of a {@link HierarchicalStreamReader} that can skip content without processing it.
+ * <p>
+ * Use the helper methods of {@link com.thoughtworks.xstream.core.util.HierarchicalStreams} to skip content with any
+ * reader, they fall back to walking the nodes if the reader does not implement this interface.
+ * </p>
+ * 
+ * @author agent
+ * @since upcoming
+ */
+public interface SkippingHierarchicalStreamReader extends HierarchicalStreamReader {
+
+    /**
+     * Skip all remaining children of the current node. The current node stays selected and {@link #hasMoreChildren()}
+     * will return false afterwards. A reader should implement this operation without processing the skipped content,
+     * e.g. by scanning over it.
+     * 
+     * @since upcoming
+     */
+    void skipChildren();
+
+    /**
+     * Skip the remaining content of the current node and select the parent node as current node. The result is the
+     * same as with a call of {@link #moveUp()}, but the reader may skip the content without processing it.
+     * 
+     * @since upcoming
+     */
+    void skipNode();
+}
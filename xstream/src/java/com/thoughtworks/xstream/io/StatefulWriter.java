@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -127,6 +127,16 @@ public class StatefulWriter extends WriterWrapper {
         super.setValue(text);
     }
 
+    @Override
+    public void setValue(final long value) {
+        checkClosed();
+        if (state != STATE_NODE_START) {
+            throw new StreamException(new IllegalStateException("Writing text without an opened node"));
+        }
+        state = STATE_VALUE;
+        super.setValue(value);
+    }
+
     @Override
     public void endNode() {
         checkClosed();
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,12 +11,36 @@
  */
 package com.thoughtworks.xstream.io;
 
+import com.thoughtworks.xstream.core.util.ClassCache;
+import com.thoughtworks.xstream.core.util.Types;
+
+
 /**
  * Base class to make it easy to create wrappers (decorators) for HierarchicalStreamWriter.
+ * <p>
+ * A number passed to {@link #setValue(long)} is forwarded as number to the wrapped writer. If a derived wrapper
+ * overrides {@link #setValue(String)}, but not {@link #setValue(long)}, the number is passed as text to
+ * {@link #setValue(String)} instead, therefore such a wrapper sees every value. This decision is made once per wrapper
+ * type by looking up the declared methods. A wrapper that intercepts the values in any other way, e.g. by delegating
+ * to a method of another object, must override {@link #setValue(long)} as well.
+ * </p>
  * 
  * @author Joe Walnes
  */
-public abstract class WriterWrapper implements ExtendedHierarchicalStreamWriter {
+public abstract class WriterWrapper implements ExtendedHierarchicalStreamWriter, NumericHierarchicalStreamWriter {
+
+    // wrappers that only override setValue(String) have to see every value
+    private static final ClassCache<Boolean> textOnly = ClassCache.newInstance(new ClassCache.Factory<Boolean>() {
+        @Override
+        public Boolean create(final Class<?> type) {
+            try {
+                return Boolean.valueOf(Types.declaresMethod(type, WriterWrapper.class, "setValue", String.class)
+                    && !Types.declaresMethod(type, WriterWrapper.class, "setValue", long.class));
+            } catch (final SecurityException e) {
+                return Boolean.TRUE;
+            }
+        }
+    });
 
     protected HierarchicalStreamWriter wrapped;
 
@@ -50,6 +74,15 @@ public abstract class WriterWrapper implements ExtendedHierarchicalStreamWriter
         wrapped.setValue(text);
     }
 
+    @Override
+    public void setValue(final long value) {
+        if (textOnly.get(getClass()).booleanValue()) {
+            setValue(String.valueOf(value));
+        } else {
+            ExtendedHierarchicalStreamWriterHelper.setValue(wrapped, value);
+        }
+    }
+
     @Override
     public void flush() {
         wrapped.flush();
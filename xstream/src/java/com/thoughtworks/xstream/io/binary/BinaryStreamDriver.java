@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011, 2014 XStream Committers.
+ * Copyright (C) 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -30,6 +30,27 @@ import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
  */
 public class BinaryStreamDriver extends AbstractDriver {
 
+    private final boolean skipIndex;
+
+    /**
+     * Constructs a BinaryStreamDriver.
+     */
+    public BinaryStreamDriver() {
+        this(false);
+    }
+
+    /**
+     * Constructs a BinaryStreamDriver that may write a skip index.
+     * 
+     * @param skipIndex <code>true</code> to write a skip index that allows the reader to skip nodes without reading
+     *            their content
+     * @see BinaryStreamWriter#BinaryStreamWriter(OutputStream, boolean)
+     * @since upcoming
+     */
+    public BinaryStreamDriver(final boolean skipIndex) {
+        this.skipIndex = skipIndex;
+    }
+
     /**
      * @throws UnsupportedOperationException if called
      */
@@ -53,6 +74,6 @@ public class BinaryStreamDriver extends AbstractDriver {
 
     @Override
     public HierarchicalStreamWriter createWriter(final OutputStream out) {
-        return new BinaryStreamWriter(out);
+        return new BinaryStreamWriter(out, skipIndex);
     }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.thoughtworks.xstream.io.AbstractStreamFeeder;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.StreamException;
+
+
+/**
+ * A feeder for a sequence of binary documents.
+ * <p>
+ * The feeder detects the end of a document by tracking the {@link Token} sequence, i.e. a document is complete with
+ * the end node token of its root node. Every document must have been written with its own {@link BinaryStreamWriter},
+ * since the ids of the node names are not shared between the documents.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class BinaryStreamFeeder extends AbstractStreamFeeder {
+
+    private static final int HEADER = 0;
+    private static final int ID = 1;
+    private static final int STRING_LENGTH = 2;
+    private static final int STRING_MARKER = 3;
+    private static final int SPLITTED_LENGTH = 4;
+    private static final int STRING = 5;
+    private static final int SKIP_INDEX = 6;
+    private static final byte[] SPLITTED_MARKER;
+
+    static {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            new DataOutputStream(out).writeUTF(Token.ID_SPLITTED);
+        } catch (final IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        final byte[] bytes = out.toByteArray();
+        SPLITTED_MARKER = Arrays.copyOfRange(bytes, 2, bytes.length);
+    }
+
+    private int state;
+    private byte type;
+    private long remaining;
+    private int length;
+    private int depth;
+    private final byte[] marker = new byte[SPLITTED_MARKER.length];
+
+    @Override
+    protected int scan(final byte[] bytes, final int offset, final int limit) {
+        int i = offset;
+        while (i < limit) {
+            final byte b = bytes[i];
+            switch (state) {
+            case HEADER:
+                type = (byte)(b & Token.TYPE_MASK);
+                ++i;
+                switch (type) {
+                case Token.TYPE_MAP_ID_TO_VALUE:
+                case Token.TYPE_START_NODE:
+                case Token.TYPE_INDEXED_START_NODE:
+                case Token.TYPE_ATTRIBUTE:
+                    state = ID;
+                    remaining = idLength((byte)(b & Token.ID_MASK));
+                    break;
+                case Token.TYPE_VALUE:
+                    startString();
+                    break;
+                case Token.TYPE_END_NODE:
+                    if (--depth == 0) {
+                        return i;
+                    }
+                    break;
+                default:
+                    throw new StreamException("Unknown token type");
+                }
+                break;
+            case ID:
+                i = skip(i, limit);
+                if (remaining == 0) {
+                    if (type == Token.TYPE_START_NODE) {
+                        ++depth;
+                        state = HEADER;
+                    } else if (type == Token.TYPE_INDEXED_START_NODE) {
+                        state = SKIP_INDEX;
+                        remaining = 8;
+                    } else {
+                        startString();
+                    }
+                }
+                break;
+            case STRING_LENGTH:
+                length = length << 8 | b & 0xff;
+                ++i;
+                if (--remaining == 0) {
+                    if (length == SPLITTED_MARKER.length) {
+                        state = STRING_MARKER;
+                    } else {
+                        state = STRING;
+                        remaining = length;
+                    }
+                    length = 0;
+                }
+                break;
+            case STRING_MARKER:
+                marker[length++] = b;
+                ++i;
+                if (length == marker.length) {
+                    length = 0;
+                    if (Arrays.equals(marker, SPLITTED_MARKER)) {
+                        state = SPLITTED_LENGTH;
+                        remaining = 4;
+                    } else {
+                        state = HEADER;
+                    }
+                }
+                break;
+            case SPLITTED_LENGTH:
+                length = length << 8 | b & 0xff;
+                ++i;
+                if (--remaining == 0) {
+                    state = STRING;
+                    remaining = length;
+                    length = 0;
+                }
+                break;
+            case STRING:
+                i = skip(i, limit);
+                break;
+            case SKIP_INDEX:
+                i = skip(i, limit);
+                if (remaining == 0) {
+                    ++depth;
+                    state = HEADER;
+                }
+                break;
+            }
+            if (state == STRING && remaining == 0) {
+                state = HEADER;
+            }
+        }
+        return -1;
+    }
+
+    private void startString() {
+        state = STRING_LENGTH;
+        remaining = 2;
+        length = 0;
+    }
+
+    private int skip(final int offset, final int limit) {
+        final int count = (int)Math.min(remaining, limit - offset);
+        remaining -= count;
+        return offset + count;
+    }
+
+    private static int idLength(final byte idType) {
+        switch (idType) {
+        case Token.ID_ONE_BYTE:
+            return 1;
+        case Token.ID_TWO_BYTES:
+            return 2;
+        case Token.ID_FOUR_BYTES:
+            return 4;
+        case Token.ID_EIGHT_BYTES:
+            return 8;
+        default:
+            throw new StreamException("Unknown id type " + idType);
+        }
+    }
+
+    @Override
+    protected HierarchicalStreamReader createReader(final byte[] document) {
+        return new BinaryStreamReader(new ByteArrayInputStream(document));
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,8 +12,11 @@
 package com.thoughtworks.xstream.io.binary;
 
 import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -21,27 +24,38 @@ import java.util.Map;
 import com.thoughtworks.xstream.converters.ErrorWriter;
 import com.thoughtworks.xstream.io.ExtendedHierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.SkippingHierarchicalStreamReader;
 import com.thoughtworks.xstream.io.StreamException;
 
 
 /**
  * A HierarchicalStreamReader that reads from a binary stream created by {@link BinaryStreamWriter}.
+ * <p>
+ * If the stream has been written with a skip index, the reader skips a node in {@link #skipNode()} or
+ * {@link #skipChildren()} without reading the node's content.
+ * </p>
  * 
  * @author Joe Walnes
  * @see BinaryStreamReader
  * @since 1.2
  */
-public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
+public class BinaryStreamReader implements ExtendedHierarchicalStreamReader, SkippingHierarchicalStreamReader {
 
+    private final CountingInputStream counter;
     private final DataInputStream in;
     private final ReaderDepthState depthState = new ReaderDepthState();
     private final IdRegistry idRegistry = new IdRegistry();
 
     private Token pushback;
     private final Token.Formatter tokenFormatter = new Token.Formatter();
+    // stream positions after the end of the nodes or -1 if unknown
+    private long[] nodeEnds = new long[16];
+    private int nodeDepth;
+    private long nextNodeEnd;
 
     public BinaryStreamReader(final InputStream inputStream) {
-        in = new DataInputStream(inputStream);
+        counter = new CountingInputStream(inputStream);
+        in = new DataInputStream(counter);
         moveDown();
     }
 
@@ -91,7 +105,12 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
         final Token firstToken = readToken();
         switch (firstToken.getType()) {
         case Token.TYPE_START_NODE:
+        case Token.TYPE_INDEXED_START_NODE:
             depthState.setName(idRegistry.get(firstToken.getId()));
+            if (nodeDepth == nodeEnds.length) {
+                nodeEnds = Arrays.copyOf(nodeEnds, nodeDepth * 2);
+            }
+            nodeEnds[nodeDepth++] = nextNodeEnd;
             break;
         default:
             throw new StreamException("Expected StartNode");
@@ -110,6 +129,7 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
                 pushBack(nextToken);
                 return;
             case Token.TYPE_START_NODE:
+            case Token.TYPE_INDEXED_START_NODE:
                 depthState.setHasMoreChildren(true);
                 pushBack(nextToken);
                 return;
@@ -122,6 +142,7 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
     @Override
     public void moveUp() {
         depthState.pop();
+        --nodeDepth;
         // We're done with this depth. Skip over all tokens until we get to the end.
         int depth = 0;
         slurp:
@@ -136,12 +157,62 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
                 }
                 break;
             case Token.TYPE_START_NODE:
+            case Token.TYPE_INDEXED_START_NODE:
                 depth++;
                 break;
             default:
                 // Ignore other tokens
             }
         }
+        peekNextSibling();
+    }
+
+    /**
+     * {@inheritDoc} A stream with skip index is not read for this operation.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void skipChildren() {
+        final long end = nodeEnds[nodeDepth - 1];
+        if (end < 0) {
+            while (hasMoreChildren()) {
+                moveDown();
+                moveUp();
+            }
+        } else if (depthState.hasMoreChildren()) {
+            pushback = null;
+            // the end node token has a single byte
+            skipTo(end - 1);
+            final Token nextToken = readToken();
+            if (nextToken.getType() != Token.TYPE_END_NODE) {
+                throw new StreamException("Expected EndNode at skip index position");
+            }
+            depthState.setHasMoreChildren(false);
+            pushBack(nextToken);
+        }
+    }
+
+    /**
+     * {@inheritDoc} A stream with skip index is not read for this operation.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void skipNode() {
+        final long end = nodeEnds[nodeDepth - 1];
+        if (end < 0) {
+            moveUp();
+        } else {
+            depthState.pop();
+            --nodeDepth;
+            pushback = null;
+            skipTo(end);
+            peekNextSibling();
+        }
+    }
+
+    private void peekNextSibling() {
         // Peek ahead to determine if there are any more kids at this level.
         final Token nextToken = readToken();
         switch (nextToken.getType()) {
@@ -149,6 +220,7 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
             depthState.setHasMoreChildren(false);
             break;
         case Token.TYPE_START_NODE:
+        case Token.TYPE_INDEXED_START_NODE:
             depthState.setHasMoreChildren(true);
             break;
         default:
@@ -157,6 +229,24 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
         pushBack(nextToken);
     }
 
+    private void skipTo(final long position) {
+        try {
+            long remaining = position - counter.position;
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    if (in.read() < 0) {
+                        throw new EOFException();
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+    }
+
     private Token readToken() {
         if (pushback == null) {
             try {
@@ -165,6 +255,13 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
                 case Token.TYPE_MAP_ID_TO_VALUE:
                     idRegistry.put(token.getId(), token.getValue());
                     return readToken(); // Next one please.
+                case Token.TYPE_START_NODE:
+                    nextNodeEnd = -1;
+                    return token;
+                case Token.TYPE_INDEXED_START_NODE:
+                    final long length = ((Token.IndexedStartNode)token).getLength();
+                    nextNodeEnd = length < 0 ? -1 : counter.position + length;
+                    return token;
                 default:
                     return token;
                 }
@@ -214,6 +311,45 @@ public class BinaryStreamReader implements ExtendedHierarchicalStreamReader {
         // TODO: When things go bad, it would be good to know where!
     }
 
+    private static class CountingInputStream extends FilterInputStream {
+
+        long position;
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                ++position;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int count = super.read(b, off, len);
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long count = super.skip(n);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     private static class IdRegistry {
 
         private final Map<Long, String> map = new HashMap<Long, String>();
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,9 +11,11 @@
  */
 package com.thoughtworks.xstream.io.binary;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,6 +25,16 @@ import com.thoughtworks.xstream.io.StreamException;
 
 
 /**
+ * A HierarchicalStreamWriter that writes a binary stream to be read by {@link BinaryStreamReader}.
+ * <p>
+ * The writer can optionally create a skip index. In this case every start node token contains the length of the
+ * node's content in bytes and the {@link BinaryStreamReader} can skip a node without reading its content. Since the
+ * length is known only at the end of the node, the writer buffers the content of the indexed nodes. The buffer is
+ * limited, if it exceeds the limit, the writer marks the length of all open nodes as unknown and writes the buffer.
+ * Therefore a node with more content than the limit has no skip index and the reader has to walk over it. All mappings
+ * of node and attribute names are written in front of the buffered content.
+ * </p>
+ * 
  * @since 1.2
  */
 public class BinaryStreamWriter implements ExtendedHierarchicalStreamWriter {
@@ -30,14 +42,70 @@ public class BinaryStreamWriter implements ExtendedHierarchicalStreamWriter {
     private final IdRegistry idRegistry = new IdRegistry();
     private final DataOutputStream out;
     private final Token.Formatter tokenFormatter = new Token.Formatter();
+    private final DocumentBuffer buffer;
+    private final DataOutputStream bufferOut;
+    private final int bufferLimit;
+    private int[] lengthOffsets;
+    private int depth;
+    private int firstIndexed;
+
+    /**
+     * The default limit for the buffered content of a writer with skip index.
+     * 
+     * @since upcoming
+     */
+    public static final int DEFAULT_BUFFER_LIMIT = 1024 * 1024;
 
     public BinaryStreamWriter(final OutputStream outputStream) {
+        this(outputStream, false);
+    }
+
+    /**
+     * Constructs a BinaryStreamWriter.
+     * 
+     * @param outputStream the target stream
+     * @param skipIndex <code>true</code> to write a skip index into the start node tokens
+     * @since upcoming
+     */
+    public BinaryStreamWriter(final OutputStream outputStream, final boolean skipIndex) {
+        this(outputStream, skipIndex ? DEFAULT_BUFFER_LIMIT : 0);
+    }
+
+    /**
+     * Constructs a BinaryStreamWriter with a skip index and a limit for the buffered content.
+     * 
+     * @param outputStream the target stream
+     * @param bufferLimit the maximum number of buffered bytes, nodes with more content are not indexed; 0 to write no
+     *            skip index at all
+     * @since upcoming
+     */
+    public BinaryStreamWriter(final OutputStream outputStream, final int bufferLimit) {
         out = new DataOutputStream(outputStream);
+        this.bufferLimit = bufferLimit;
+        if (bufferLimit > 0) {
+            buffer = new DocumentBuffer();
+            bufferOut = new DataOutputStream(buffer);
+            lengthOffsets = new int[16];
+        } else {
+            buffer = null;
+            bufferOut = null;
+        }
     }
 
     @Override
     public void startNode(final String name) {
-        write(new Token.StartNode(idRegistry.getId(name)));
+        final long id = idRegistry.getId(name);
+        if (buffer == null) {
+            write(new Token.StartNode(id));
+        } else {
+            writeBuffered(new Token.IndexedStartNode(id, 0));
+            if (depth == lengthOffsets.length) {
+                lengthOffsets = Arrays.copyOf(lengthOffsets, depth * 2);
+            }
+            // the length is the last field of the token
+            lengthOffsets[depth++] = buffer.size();
+            checkBufferLimit();
+        }
     }
 
     @Override
@@ -47,17 +115,49 @@ public class BinaryStreamWriter implements ExtendedHierarchicalStreamWriter {
 
     @Override
     public void addAttribute(final String name, final String value) {
-        write(new Token.Attribute(idRegistry.getId(name), value));
+        writeBuffered(new Token.Attribute(idRegistry.getId(name), value));
     }
 
     @Override
     public void setValue(final String text) {
-        write(new Token.Value(text));
+        writeBuffered(new Token.Value(text));
     }
 
     @Override
     public void endNode() {
-        write(new Token.EndNode());
+        writeBuffered(new Token.EndNode());
+        if (buffer != null) {
+            final int offset = lengthOffsets[--depth];
+            if (depth >= firstIndexed) {
+                buffer.patchLong(offset - 8, buffer.size() - offset);
+            }
+            if (depth <= firstIndexed) {
+                // no open node is indexed anymore
+                firstIndexed = depth;
+                writeBuffer();
+            } else {
+                checkBufferLimit();
+            }
+        }
+    }
+
+    private void checkBufferLimit() {
+        if (buffer.size() > bufferLimit) {
+            for (int i = firstIndexed; i < depth; ++i) {
+                buffer.patchLong(lengthOffsets[i] - 8, -1);
+            }
+            firstIndexed = depth;
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() {
+        try {
+            buffer.writeTo(out);
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+        buffer.reset();
     }
 
     @Override
@@ -91,6 +191,30 @@ public class BinaryStreamWriter implements ExtendedHierarchicalStreamWriter {
         }
     }
 
+    private void writeBuffered(final Token token) {
+        if (bufferOut == null) {
+            write(token);
+        } else {
+            try {
+                tokenFormatter.write(bufferOut, token);
+            } catch (final IOException e) {
+                throw new StreamException(e);
+            }
+            if (token.getType() != Token.TYPE_END_NODE && token.getType() != Token.TYPE_INDEXED_START_NODE) {
+                checkBufferLimit();
+            }
+        }
+    }
+
+    private static class DocumentBuffer extends ByteArrayOutputStream {
+
+        void patchLong(final int offset, final long value) {
+            for (int i = 0; i < 8; ++i) {
+                buf[offset + i] = (byte)(value >>> (56 - 8 * i));
+            }
+        }
+    }
+
     private class IdRegistry {
 
         private long nextId = 0;
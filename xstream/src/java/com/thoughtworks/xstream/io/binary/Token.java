@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -35,21 +35,25 @@ import com.thoughtworks.xstream.io.StreamException;
  */
 public abstract class Token {
 
-    private static final byte TYPE_MASK = 0x7;
+    static final byte TYPE_MASK = 0x7;
     public static final byte TYPE_VERSION = 0x1;
     public static final byte TYPE_MAP_ID_TO_VALUE = 0x2;
     public static final byte TYPE_START_NODE = 0x3;
     public static final byte TYPE_END_NODE = 0x4;
     public static final byte TYPE_ATTRIBUTE = 0x5;
     public static final byte TYPE_VALUE = 0x6;
-
-    private static final byte ID_MASK = 0x38;
-    private static final byte ID_ONE_BYTE = 0x08;
-    private static final byte ID_TWO_BYTES = 0x10;
-    private static final byte ID_FOUR_BYTES = 0x18;
-    private static final byte ID_EIGHT_BYTES = 0x20;
-
-    private static final String ID_SPLITTED = "\u0000\u2021\u0000";
+    /**
+     * @since upcoming
+     */
+    public static final byte TYPE_INDEXED_START_NODE = 0x7;
+
+    static final byte ID_MASK = 0x38;
+    static final byte ID_ONE_BYTE = 0x08;
+    static final byte ID_TWO_BYTES = 0x10;
+    static final byte ID_FOUR_BYTES = 0x18;
+    static final byte ID_EIGHT_BYTES = 0x20;
+
+    static final String ID_SPLITTED = "\u0000\u2021\u0000";
     private static final int MAX_UTF8_LENGTH = 0xffff;
 
     private final byte type;
@@ -210,6 +214,8 @@ public abstract class Token {
                 return new EndNode();
             case Token.TYPE_VALUE:
                 return new Value();
+            case Token.TYPE_INDEXED_START_NODE:
+                return new IndexedStartNode();
             default:
                 throw new StreamException("Unknown token type");
             }
@@ -265,6 +271,44 @@ public abstract class Token {
 
     }
 
+    /**
+     * Start node with a skip index. The token contains the number of bytes of the node's remaining content, i.e. of all
+     * subsequent tokens up to and including the node's end node token, or -1 if the length is unknown.
+     * 
+     * @since upcoming
+     */
+    public static class IndexedStartNode extends Token {
+
+        private long length;
+
+        public IndexedStartNode(final long id, final long length) {
+            super(TYPE_INDEXED_START_NODE);
+            this.id = id;
+            this.length = length;
+        }
+
+        public IndexedStartNode() {
+            super(TYPE_INDEXED_START_NODE);
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        @Override
+        public void writeTo(final DataOutput out, final byte idType) throws IOException {
+            writeId(out, id, idType);
+            out.writeLong(length);
+        }
+
+        @Override
+        public void readFrom(final DataInput in, final byte idType) throws IOException {
+            id = readId(in, idType);
+            length = in.readLong();
+        }
+
+    }
+
     public static class EndNode extends Token {
 
         public EndNode() {
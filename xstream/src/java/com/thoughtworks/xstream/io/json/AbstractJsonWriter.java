@@ -15,12 +15,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import com.thoughtworks.xstream.converters.ConversionException;
-import com.thoughtworks.xstream.core.util.FastStack;
 import com.thoughtworks.xstream.io.AbstractWriter;
 import com.thoughtworks.xstream.io.naming.NameCoder;
 import com.thoughtworks.xstream.io.naming.NoNameCoder;
@@ -142,16 +139,6 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
         public static Type BOOLEAN = new Type();
     }
 
-    private static class StackElement {
-        final Class<?> type;
-        int status;
-
-        public StackElement(final Class<?> type, final int status) {
-            this.type = type;
-            this.status = status;
-        }
-    }
-
     private static class IllegalWriterStateException extends IllegalStateException {
         public IllegalWriterStateException(final int from, final int to, final String element) {
             super("Cannot turn from state "
@@ -202,11 +189,12 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
     private static final int STATE_END_ELEMENTS = 1 << 8;
     private static final int STATE_SET_VALUE = 1 << 9;
 
-    private static final Set<Class<?>> NUMBER_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(byte.class,
-        Byte.class, short.class, Short.class, int.class, Integer.class, long.class, Long.class, float.class,
-        Float.class, double.class, Double.class, BigInteger.class, BigDecimal.class));
     private final int mode;
-    private final FastStack<StackElement> stack = new FastStack<StackElement>(16);
+    // the node stack is kept in parallel arrays, index 0 is the root
+    private Class<?>[] types = new Class<?>[16];
+    private int[] states = new int[16];
+    private boolean[] arrays = new boolean[16];
+    private int size;
     private int expectedStates;
 
     /**
@@ -248,7 +236,8 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
     public AbstractJsonWriter(final int mode, final NameCoder nameCoder) {
         super(nameCoder);
         this.mode = (mode & EXPLICIT_MODE) > 0 ? EXPLICIT_MODE : mode;
-        stack.push(new StackElement(null, STATE_ROOT));
+        states[0] = STATE_ROOT;
+        size = 1;
         expectedStates = STATE_START_OBJECT;
     }
 
@@ -257,7 +246,15 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
         if (name == null) {
             throw new NullPointerException("name");
         }
-        stack.push(new StackElement(clazz, stack.peek().status));
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+            arrays = Arrays.copyOf(arrays, size * 2);
+        }
+        types[size] = clazz;
+        states[size] = states[size - 1];
+        arrays[size] = isArray(clazz);
+        ++size;
         handleCheckedStateTransition(STATE_START_OBJECT, name, null);
         expectedStates = STATE_SET_VALUE | STATE_NEXT_ATTRIBUTE | STATE_START_OBJECT | STATE_NEXT_ELEMENT | STATE_ROOT;
     }
@@ -275,7 +272,7 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
 
     @Override
     public void setValue(String text) {
-        final Class<?> type = stack.peek().type;
+        final Class<?> type = types[size - 1];
         if ((type == Character.class || type == Character.TYPE) && "".equals(text)) {
             text = "\u0000";
         }
@@ -285,33 +282,29 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
 
     @Override
     public void endNode() {
-        final int size = stack.size();
         final int nextState = size > 2 ? STATE_NEXT_ELEMENT : STATE_ROOT;
         handleCheckedStateTransition(nextState, null, null);
-        stack.pop();
-        stack.peek().status = nextState;
+        types[--size] = null;
+        states[size - 1] = nextState;
         expectedStates = STATE_START_OBJECT;
-        if (size > 2) {
+        if (size > 1) {
             expectedStates |= STATE_NEXT_ELEMENT | STATE_ROOT;
         }
     }
 
     private void handleCheckedStateTransition(final int requiredState, final String elementToAdd,
             final String valueToAdd) {
-        final StackElement stackElement = stack.peek();
         if ((expectedStates & requiredState) == 0) {
-            throw new IllegalWriterStateException(stackElement.status, requiredState, elementToAdd);
+            throw new IllegalWriterStateException(states[size - 1], requiredState, elementToAdd);
         }
-        final int currentState = handleStateTransition(stackElement.status, requiredState, elementToAdd, valueToAdd);
-        stackElement.status = currentState;
+        states[size - 1] = handleStateTransition(states[size - 1], requiredState, elementToAdd, valueToAdd);
     }
 
     private int handleStateTransition(int currentState, final int requiredState, final String elementToAdd,
             final String valueToAdd) {
-        final int size = stack.size();
-        final Class<?> currentType = stack.peek().type;
-        final boolean isArray = size > 1 && isArray(currentType);
-        final boolean isArrayElement = size > 1 && isArray(stack.get(size - 2).type);
+        final Class<?> currentType = types[size - 1];
+        final boolean isArray = arrays[size - 1];
+        final boolean isArrayElement = size > 1 && arrays[size - 2];
         switch (currentState) {
         case STATE_ROOT:
             if (requiredState == STATE_START_OBJECT) {
@@ -605,7 +598,23 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
     protected Type getType(final Class<?> clazz) {
         return clazz == Mapper.Null.class ? Type.NULL : clazz == Boolean.class || clazz == Boolean.TYPE
             ? Type.BOOLEAN
-            : NUMBER_TYPES.contains(clazz) ? Type.NUMBER : Type.STRING;
+            : isNumber(clazz) ? Type.NUMBER : Type.STRING;
+    }
+
+    private static boolean isNumber(final Class<?> clazz) {
+        if (clazz == null) {
+            return false;
+        } else if (clazz.isPrimitive()) {
+            return clazz != boolean.class && clazz != char.class && clazz != void.class;
+        }
+        return clazz == Integer.class
+            || clazz == Long.class
+            || clazz == Double.class
+            || clazz == Float.class
+            || clazz == Short.class
+            || clazz == Byte.class
+            || clazz == BigInteger.class
+            || clazz == BigDecimal.class;
     }
 
     /**
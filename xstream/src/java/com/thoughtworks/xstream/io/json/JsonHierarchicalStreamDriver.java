@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,14 +11,13 @@
  */
 package com.thoughtworks.xstream.io.json;
 
-import java.io.File;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
-import java.net.URL;
 
 import com.thoughtworks.xstream.io.AbstractDriver;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
@@ -28,7 +27,15 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
 
 
 /**
- * A driver for JSON that writes optimized JSON format, but is not able to deserialize the result.
+ * A driver for JSON that writes optimized JSON format.
+ * <p>
+ * The driver reads the JSON with a {@link JsonReader}. Since the optimized format drops the names of collection
+ * elements, the reader has to derive them from the JSON type, see the {@link JsonReader} for details. Therefore only
+ * collections, arrays and maps of strings, numbers, booleans and nested collections can be read again and their
+ * values get the type derived from the JSON value. The reader rejects any other element with a StreamException, e.g.
+ * the objects in a list of custom objects. Use a {@link JsonWriter} and a {@link JsonReader} in
+ * {@link AbstractJsonWriter#EXPLICIT_MODE} to preserve all information.
+ * </p>
  * 
  * @author Paul Hammant
  * @since 1.2
@@ -52,24 +59,24 @@ public class JsonHierarchicalStreamDriver extends AbstractDriver {
         super(nameCoder);
     }
 
+    /**
+     * Create a HierarchicalStreamReader that reads JSON.
+     * 
+     * @since upcoming
+     */
     @Override
     public HierarchicalStreamReader createReader(final Reader in) {
-        throw new UnsupportedOperationException("The JsonHierarchicalStreamDriver can only write JSON");
+        return new JsonReader(in);
     }
 
     @Override
     public HierarchicalStreamReader createReader(final InputStream in) {
-        throw new UnsupportedOperationException("The JsonHierarchicalStreamDriver can only write JSON");
-    }
-
-    @Override
-    public HierarchicalStreamReader createReader(final URL in) {
-        throw new UnsupportedOperationException("The JsonHierarchicalStreamDriver can only write JSON");
-    }
-
-    @Override
-    public HierarchicalStreamReader createReader(final File in) {
-        throw new UnsupportedOperationException("The JsonHierarchicalStreamDriver can only write JSON");
+        try {
+            // JSON spec requires UTF-8
+            return createReader(new InputStreamReader(in, "UTF-8"));
+        } catch (final UnsupportedEncodingException e) {
+            throw new StreamException(e);
+        }
     }
 
     /**
@@ -0,0 +1,641 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.thoughtworks.xstream.converters.ErrorWriter;
+import com.thoughtworks.xstream.core.util.FastStack;
+import com.thoughtworks.xstream.io.AbstractReader;
+import com.thoughtworks.xstream.io.AttributeNameIterator;
+import com.thoughtworks.xstream.io.StreamException;
+import com.thoughtworks.xstream.io.naming.NameCoder;
+import com.thoughtworks.xstream.io.naming.NoNameCoder;
+
+
+/**
+ * A streaming reader for the JSON format written by the {@link JsonWriter}.
+ * <p>
+ * The reader is the counterpart of the writer and supports the same modes. The JSON is tokenized directly from the
+ * {@link Reader} without any intermediate model. In {@link AbstractJsonWriter#EXPLICIT_MODE} the JSON contains all
+ * information of the original hierarchical stream and every document can be read again. In the other modes the
+ * writer drops some information, therefore the reader has to reconstruct it:
+ * </p>
+ * <ul>
+ * <li>The properties of a JSON object are the child nodes, the ones with a label starting with '@' are attributes and
+ * the label '$' marks the value of a node with attributes.</li>
+ * <li>The elements of a JSON array have no name. The reader uses a name derived from the JSON type of the element,
+ * i.e. "string", "int", "long", "big-int", "double", "boolean" or "null" for a value and "entry" for an array (as
+ * written for the entries of a map). A value is therefore read with the type derived from its JSON representation,
+ * e.g. a long that fits into an int is read as int and a char as string. The type of a JSON object in an array is lost
+ * completely, the reader rejects such an element with a {@link StreamException}. Use the
+ * {@link AbstractJsonWriter#EXPLICIT_MODE} for such data.</li>
+ * <li>In {@link AbstractJsonWriter#DROP_ROOT_MODE} the name of the root node is missing. It can be provided at
+ * construction time, otherwise it is derived from the JSON type in the same way as for the elements of an array, but
+ * with "list" for an array and "object" for a JSON object.</li>
+ * </ul>
+ * <p>
+ * The reader accepts strict JSON only, i.e. the values of an object or an array must be separated by exactly one comma.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class JsonReader extends AbstractReader {
+
+    private static final int BEGIN_OBJECT = 1;
+    private static final int END_OBJECT = 2;
+    private static final int BEGIN_ARRAY = 3;
+    private static final int END_ARRAY = 4;
+    private static final int NAME = 5;
+    private static final int STRING = 6;
+    private static final int LITERAL = 7;
+    private static final int END_DOCUMENT = 8;
+
+    private static final int KIND_VALUE = 0;
+    private static final int KIND_OBJECT = 1;
+    private static final int KIND_ARRAY = 2;
+    private static final int KIND_EXPLICIT = 3;
+
+    private static class Node {
+        final String name;
+        int kind;
+        String value;
+        List<String> attributeNames;
+        List<String> attributeValues;
+
+        Node(final String name) {
+            this.name = name;
+        }
+    }
+
+    private final Reader in;
+    private final int mode;
+    private final char[] buffer = new char[4096];
+    private int pos;
+    private int limit;
+    private int line = 1;
+    private int depth;
+    private boolean afterValue;
+    private final int[] tokenTypes = new int[2];
+    private final String[] tokenTexts = new String[2];
+    private int tokenCount;
+    private String tokenText;
+    private final StringBuilder text = new StringBuilder();
+    private final FastStack<Node> nodes = new FastStack<Node>(16);
+
+    /**
+     * Construct a JsonReader for JSON written in default mode.
+     *
+     * @param reader the {@link Reader} with the JSON
+     * @since upcoming
+     */
+    public JsonReader(final Reader reader) {
+        this(reader, 0, null, new NoNameCoder());
+    }
+
+    /**
+     * Construct a JsonReader for JSON written in default mode with a special name coder.
+     *
+     * @param reader the {@link Reader} with the JSON
+     * @param nameCoder the name coder to use
+     * @since upcoming
+     */
+    public JsonReader(final Reader reader, final NameCoder nameCoder) {
+        this(reader, 0, null, nameCoder);
+    }
+
+    /**
+     * Construct a JsonReader for JSON written in a special mode.
+     *
+     * @param reader the {@link Reader} with the JSON
+     * @param mode a bit mask of the mode constants of the {@link AbstractJsonWriter}
+     * @since upcoming
+     */
+    public JsonReader(final Reader reader, final int mode) {
+        this(reader, mode, null, new NoNameCoder());
+    }
+
+    /**
+     * Construct a JsonReader for JSON written in a special mode with a special name coder.
+     *
+     * @param reader the {@link Reader} with the JSON
+     * @param mode a bit mask of the mode constants of the {@link AbstractJsonWriter}
+     * @param rootName the name of the root node in {@link AbstractJsonWriter#DROP_ROOT_MODE} or <code>null</code> to
+     *            derive it from the JSON type
+     * @param nameCoder the name coder to use
+     * @since upcoming
+     */
+    public JsonReader(final Reader reader, final int mode, final String rootName, final NameCoder nameCoder) {
+        super(nameCoder);
+        in = reader;
+        this.mode = (mode & AbstractJsonWriter.EXPLICIT_MODE) > 0 ? AbstractJsonWriter.EXPLICIT_MODE : mode;
+        if ((this.mode & AbstractJsonWriter.EXPLICIT_MODE) != 0) {
+            readExplicitNode();
+        } else if ((this.mode & AbstractJsonWriter.DROP_ROOT_MODE) != 0) {
+            readNode(rootName != null ? rootName : implicitName(true));
+        } else {
+            expect(BEGIN_OBJECT);
+            readNode(decodeNode(expect(NAME)));
+        }
+    }
+
+    @Override
+    public boolean hasMoreChildren() {
+        switch (nodes.peek().kind) {
+        case KIND_OBJECT:
+            return peek(0) == NAME;
+        case KIND_ARRAY:
+            final int type = peek(0);
+            return type != END_ARRAY && type != END_DOCUMENT;
+        case KIND_EXPLICIT:
+            return peek(0) == BEGIN_OBJECT;
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    public void moveDown() {
+        switch (nodes.peek().kind) {
+        case KIND_OBJECT:
+            readNode(decodeNode(expect(NAME)));
+            break;
+        case KIND_ARRAY:
+            readNode(implicitName(false));
+            break;
+        case KIND_EXPLICIT:
+            readExplicitNode();
+            break;
+        default:
+            throw new StreamException("Node " + nodes.peek().name + " has no children");
+        }
+    }
+
+    @Override
+    public void moveUp() {
+        while (hasMoreChildren()) {
+            if (nodes.peek().kind == KIND_OBJECT) {
+                expect(NAME);
+            }
+            skipValue();
+        }
+        final Node node = nodes.pop();
+        switch (node.kind) {
+        case KIND_OBJECT:
+            expect(END_OBJECT);
+            break;
+        case KIND_ARRAY:
+            expect(END_ARRAY);
+            break;
+        case KIND_EXPLICIT:
+            expect(END_ARRAY);
+            expect(END_ARRAY);
+            expect(END_OBJECT);
+            break;
+        }
+    }
+
+    @Override
+    public String peekNextChild() {
+        if (!hasMoreChildren()) {
+            return null;
+        }
+        switch (nodes.peek().kind) {
+        case KIND_OBJECT:
+            return decodeNode(tokenTexts[0]);
+        case KIND_ARRAY:
+            return implicitName(false);
+        default:
+            peek(1);
+            return decodeNode(tokenTexts[1]);
+        }
+    }
+
+    @Override
+    public String getNodeName() {
+        return nodes.peek().name;
+    }
+
+    @Override
+    public String getValue() {
+        final String value = nodes.peek().value;
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public String getAttribute(final String name) {
+        final Node node = nodes.peek();
+        if (node.attributeNames != null) {
+            final int index = node.attributeNames.indexOf(name);
+            if (index >= 0) {
+                return node.attributeValues.get(index);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getAttribute(final int index) {
+        return nodes.peek().attributeValues.get(index);
+    }
+
+    @Override
+    public int getAttributeCount() {
+        final List<String> names = nodes.peek().attributeNames;
+        return names == null ? 0 : names.size();
+    }
+
+    @Override
+    public String getAttributeName(final int index) {
+        return nodes.peek().attributeNames.get(index);
+    }
+
+    @Override
+    public Iterator<String> getAttributeNames() {
+        return new AttributeNameIterator(this);
+    }
+
+    @Override
+    public void appendErrors(final ErrorWriter errorWriter) {
+        errorWriter.add("line number", String.valueOf(line));
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+    }
+
+    private void readNode(final String name) {
+        final Node node = nodes.push(new Node(name));
+        switch (peek(0)) {
+        case BEGIN_OBJECT:
+            next();
+            node.kind = KIND_OBJECT;
+            while (peek(0) == NAME) {
+                final String label = tokenTexts[0];
+                final String attribute = decodeAttribute(label);
+                if (attribute.length() > 1 && attribute.charAt(0) == '@') {
+                    next();
+                    addAttribute(node, attribute.substring(1), readValue());
+                } else if ("$".equals(decodeNode(label))) {
+                    next();
+                    node.value = readValue();
+                } else {
+                    break;
+                }
+            }
+            break;
+        case BEGIN_ARRAY:
+            next();
+            node.kind = KIND_ARRAY;
+            break;
+        default:
+            node.kind = KIND_VALUE;
+            node.value = readValue();
+        }
+    }
+
+    private void readExplicitNode() {
+        expect(BEGIN_OBJECT);
+        final Node node = nodes.push(new Node(decodeNode(expect(NAME))));
+        node.kind = KIND_EXPLICIT;
+        expect(BEGIN_ARRAY);
+        expect(BEGIN_ARRAY);
+        if (peek(0) == BEGIN_OBJECT) {
+            next();
+            while (peek(0) == NAME) {
+                final String name = decodeAttribute(tokenTexts[0]);
+                next();
+                addAttribute(node, name, readValue());
+            }
+            expect(END_OBJECT);
+        }
+        expect(END_ARRAY);
+        expect(BEGIN_ARRAY);
+        final int type = peek(0);
+        if (type == STRING || type == LITERAL) {
+            node.value = readValue();
+        }
+    }
+
+    private void addAttribute(final Node node, final String name, final String value) {
+        if (node.attributeNames == null) {
+            node.attributeNames = new ArrayList<String>();
+            node.attributeValues = new ArrayList<String>();
+        }
+        node.attributeNames.add(name);
+        node.attributeValues.add(value);
+    }
+
+    private String readValue() {
+        final int type = next();
+        final String value = tokenText;
+        switch (type) {
+        case STRING:
+            return value;
+        case LITERAL:
+            return "null".equals(value) ? null : value;
+        default:
+            throw new StreamException("Expected JSON value in line " + line);
+        }
+    }
+
+    private void skipValue() {
+        int depth = 0;
+        do {
+            switch (next()) {
+            case BEGIN_OBJECT:
+            case BEGIN_ARRAY:
+                ++depth;
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                --depth;
+                break;
+            case END_DOCUMENT:
+                throw new StreamException("Unexpected end of JSON document");
+            }
+        } while (depth > 0);
+    }
+
+    private String implicitName(final boolean root) {
+        switch (peek(0)) {
+        case BEGIN_OBJECT:
+            if (!root) {
+                throw new StreamException("Type of JSON object in array is unknown in line "
+                    + line
+                    + ", use explicit mode");
+            }
+            return "object";
+        case BEGIN_ARRAY:
+            return root ? "list" : "entry";
+        case STRING:
+            return "string";
+        case LITERAL:
+            final String literal = tokenTexts[0];
+            if ("null".equals(literal)) {
+                return "null";
+            } else if ("true".equals(literal) || "false".equals(literal)) {
+                return "boolean";
+            }
+            for (int i = literal.length(); i-- > 0;) {
+                final char c = literal.charAt(i);
+                if ((c < '0' || c > '9') && !(i == 0 && c == '-')) {
+                    return "double";
+                }
+            }
+            final int length = literal.charAt(0) == '-' ? literal.length() - 1 : literal.length();
+            if (length < 10) {
+                return "int";
+            } else if (length < 19) {
+                return "long";
+            } else {
+                final BigInteger value = new BigInteger(literal);
+                return value.bitLength() < 32 ? "int" : value.bitLength() < 64 ? "long" : "big-int";
+            }
+        default:
+            throw new StreamException("Expected JSON value in line " + line);
+        }
+    }
+
+    private String expect(final int type) {
+        if (next() != type) {
+            throw new StreamException("Unexpected JSON token in line " + line);
+        }
+        return tokenText;
+    }
+
+    private int next() {
+        final int type = peek(0);
+        tokenText = tokenTexts[0];
+        if (--tokenCount > 0) {
+            tokenTypes[0] = tokenTypes[1];
+            tokenTexts[0] = tokenTexts[1];
+        }
+        return type;
+    }
+
+    private int peek(final int index) {
+        while (tokenCount <= index) {
+            readToken(tokenCount++);
+        }
+        return tokenTypes[index];
+    }
+
+    private void readToken(final int index) {
+        int c = skipSeparator();
+        tokenTexts[index] = null;
+        afterValue = true;
+        switch (c) {
+        case -1:
+            tokenTypes[index] = END_DOCUMENT;
+            return;
+        case '{':
+            ++pos;
+            ++depth;
+            afterValue = false;
+            tokenTypes[index] = BEGIN_OBJECT;
+            return;
+        case '}':
+            ++pos;
+            --depth;
+            tokenTypes[index] = END_OBJECT;
+            return;
+        case '[':
+            ++pos;
+            ++depth;
+            afterValue = false;
+            tokenTypes[index] = BEGIN_ARRAY;
+            return;
+        case ']':
+            ++pos;
+            --depth;
+            tokenTypes[index] = END_ARRAY;
+            return;
+        case '"':
+            ++pos;
+            tokenTexts[index] = readString();
+            c = skipWhitespace();
+            if (c == ':') {
+                ++pos;
+                afterValue = false;
+                tokenTypes[index] = NAME;
+            } else {
+                tokenTypes[index] = STRING;
+            }
+            return;
+        case ',':
+        case ':':
+            throw new StreamException("Unexpected '" + (char)c + "' in line " + line);
+        default:
+            tokenTexts[index] = readLiteral();
+            tokenTypes[index] = LITERAL;
+        }
+    }
+
+    /**
+     * Skip the whitespace and the comma between two values. A comma is required between two values of an object or
+     * array and is not allowed elsewhere.
+     */
+    private int skipSeparator() {
+        int c = skipWhitespace();
+        if (afterValue) {
+            if (c == ',') {
+                if (depth == 0) {
+                    throw new StreamException("Unexpected ',' in line " + line);
+                }
+                ++pos;
+                c = skipWhitespace();
+                if (c == '}' || c == ']' || c == ',' || c == -1) {
+                    throw new StreamException("Expected JSON value after ',' in line " + line);
+                }
+            } else if (depth > 0 && c != '}' && c != ']' && c != -1) {
+                throw new StreamException("Expected ',' in line " + line);
+            }
+        }
+        return c;
+    }
+
+    private int skipWhitespace() {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            final char c = buffer[pos];
+            switch (c) {
+            case '\n':
+                ++line;
+                //$FALL-THROUGH$
+            case ' ':
+            case '\t':
+            case '\r':
+                ++pos;
+                break;
+            default:
+                return c;
+            }
+        }
+    }
+
+    private String readString() {
+        text.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                final char c = buffer[pos];
+                if (c == '"') {
+                    text.append(buffer, start, pos++ - start);
+                    return text.toString();
+                } else if (c == '\\') {
+                    text.append(buffer, start, pos++ - start);
+                    text.append(readEscape());
+                    start = pos;
+                } else {
+                    ++pos;
+                }
+            }
+            text.append(buffer, start, pos - start);
+            if (!fill()) {
+                throw new StreamException("Unterminated JSON string in line " + line);
+            }
+        }
+    }
+
+    private char readEscape() {
+        final char c = readChar();
+        switch (c) {
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case 'u':
+            int value = 0;
+            for (int i = 0; i < 4; ++i) {
+                final int digit = Character.digit(readChar(), 16);
+                if (digit < 0) {
+                    throw new StreamException("Invalid unicode escape sequence in line " + line);
+                }
+                value = value << 4 | digit;
+            }
+            return (char)value;
+        case '"':
+        case '\\':
+        case '/':
+            return c;
+        default:
+            throw new StreamException("Invalid escape sequence \\" + c + " in line " + line);
+        }
+    }
+
+    private char readChar() {
+        if (pos == limit && !fill()) {
+            throw new StreamException("Unexpected end of JSON document");
+        }
+        return buffer[pos++];
+    }
+
+    private String readLiteral() {
+        text.setLength(0);
+        while (true) {
+            final int start = pos;
+            while (pos < limit) {
+                switch (buffer[pos]) {
+                case ' ':
+                case '\t':
+                case '\r':
+                case '\n':
+                case ',':
+                case ':':
+                case '{':
+                case '}':
+                case '[':
+                case ']':
+                case '"':
+                    text.append(buffer, start, pos - start);
+                    return text.toString();
+                default:
+                    ++pos;
+                }
+            }
+            text.append(buffer, start, pos - start);
+            if (!fill()) {
+                return text.toString();
+            }
+        }
+    }
+
+    private boolean fill() {
+        try {
+            final int count = in.read(buffer);
+            pos = 0;
+            limit = count < 0 ? 0 : count;
+            return count > 0;
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.thoughtworks.xstream.io.naming.NoNameCoder;
  */
 public class JsonWriter extends AbstractJsonWriter {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     protected final QuickWriter writer;
     protected final Format format;
     private int depth;
@@ -253,7 +254,20 @@ public class JsonWriter extends AbstractJsonWriter {
 
     private void writeText(final String text) {
         final int length = text.length();
-        for (int i = 0; i < length; i++) {
+        int i = 0;
+        while (i < length) {
+            final char c = text.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                break;
+            }
+            ++i;
+        }
+        if (i == length) {
+            // nothing to escape, copy the text in one go
+            writer.write(text);
+            return;
+        }
+        for (i = 0; i < length; i++) {
             final char c = text.charAt(i);
             switch (c) {
             case '"':
@@ -285,9 +299,9 @@ public class JsonWriter extends AbstractJsonWriter {
                 if (c > 0x1f) {
                     writer.write(c);
                 } else {
-                    writer.write("\\u");
-                    final String hex = "000" + Integer.toHexString(c);
-                    writer.write(hex.substring(hex.length() - 4));
+                    writer.write("\\u00");
+                    writer.write(HEX_DIGITS[c >> 4]);
+                    writer.write(HEX_DIGITS[c & 0xf]);
                 }
             }
         }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -45,6 +45,12 @@ public class PathTrackingReader extends ReaderWrapper {
         pathTracker.popElement();
     }
 
+    @Override
+    public void skipNode() {
+        super.skipNode();
+        pathTracker.popElement();
+    }
+
     @Override
     public void appendErrors(final ErrorWriter errorWriter) {
         errorWriter.add("path", pathTracker.getPath().toString());
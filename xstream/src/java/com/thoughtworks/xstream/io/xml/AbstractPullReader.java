@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2010, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2010, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -120,6 +120,56 @@ public abstract class AbstractPullReader extends AbstractXmlReader {
         }
     }
 
+    /**
+     * {@inheritDoc} The skipped events are scanned only for the element structure, neither names nor text is pulled.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void skipChildren() {
+        skip();
+        final Event event = pool.hasStuff() ? pool.pop() : new Event();
+        event.type = END_NODE;
+        event.value = null;
+        lookback.push(event);
+    }
+
+    /**
+     * {@inheritDoc} The skipped events are scanned only for the element structure, neither names nor text is pulled.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void skipNode() {
+        skip();
+        elementStack.pop();
+    }
+
+    private void skip() {
+        int depth = 0;
+        while (lookback.hasStuff()) {
+            final Event event = lookback.pop();
+            pool.push(event);
+            if (event.type == START_NODE) {
+                ++depth;
+            } else if (event.type == END_NODE && depth-- == 0) {
+                return;
+            }
+        }
+        while (true) {
+            switch (pullNextEvent()) {
+            case START_NODE:
+                ++depth;
+                break;
+            case END_NODE:
+                if (depth-- == 0) {
+                    return;
+                }
+                break;
+            }
+        }
+    }
+
     private void move() {
         final Event event = readEvent();
         pool.push(event);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -13,8 +13,10 @@ package com.thoughtworks.xstream.io.xml;
 
 import java.io.Writer;
 
+import com.thoughtworks.xstream.core.util.ClassCache;
 import com.thoughtworks.xstream.core.util.FastStack;
 import com.thoughtworks.xstream.core.util.QuickWriter;
+import com.thoughtworks.xstream.core.util.Types;
 import com.thoughtworks.xstream.io.StreamException;
 import com.thoughtworks.xstream.io.naming.NameCoder;
 
@@ -34,6 +36,13 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
  * different behavior.
  * </p>
  * <p>
+ * A number passed to {@link #setValue(long)} is written directly into the buffer without creating a String. If a
+ * derived writer overrides {@link #setValue(String)} or {@link #writeText(QuickWriter, String)}, the number is passed
+ * as text to {@link #setValue(String)} instead. This decision is made once per writer type by looking up the declared
+ * methods. A derived writer that changes the text output in any other way must override {@link #setValue(long)} as
+ * well.
+ * </p>
+ * <p>
  * Note: Depending on the XML version some characters cannot be written. Especially a 0 character is never valid in XML,
  * neither directly nor as entity nor within CDATA. However, this writer works by default in a quirks mode, where it
  * will write any character at least as character entity (even a null character). You may switch into XML_1_1 mode
@@ -63,6 +72,19 @@ public class PrettyPrintWriter extends AbstractXmlWriter {
     private boolean readyForNewLine;
     private boolean tagIsEmpty;
 
+    // numbers are written directly only if derived writers do not change the text output
+    private static final ClassCache<Boolean> customText = ClassCache.newInstance(new ClassCache.Factory<Boolean>() {
+        @Override
+        public Boolean create(final Class<?> type) {
+            try {
+                return Boolean.valueOf(Types.declaresMethod(type, PrettyPrintWriter.class, "setValue", String.class)
+                    || Types.declaresMethod(type, PrettyPrintWriter.class, "writeText", QuickWriter.class,
+                        String.class));
+            } catch (final SecurityException e) {
+                return Boolean.TRUE;
+            }
+        }
+    });
     private static final char[] NULL = "&#x0;".toCharArray();
     private static final char[] AMP = "&amp;".toCharArray();
     private static final char[] LT = "&lt;".toCharArray();
@@ -187,6 +209,19 @@ public class PrettyPrintWriter extends AbstractXmlWriter {
         writeText(writer, text);
     }
 
+    @Override
+    public void setValue(final long value) {
+        if (customText.get(getClass()).booleanValue()) {
+            setValue(String.valueOf(value));
+        } else {
+            readyForNewLine = false;
+            tagIsEmpty = false;
+            finishTag();
+
+            writer.write(value);
+        }
+    }
+
     @Override
     public void addAttribute(final String key, final String value) {
         writer.write(' ');
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io.xml;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.thoughtworks.xstream.io.AbstractStreamFeeder;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.StreamException;
+
+
+/**
+ * A feeder for a sequence of XML documents.
+ * <p>
+ * The feeder detects the end of a document by tracking the markup of the XML elements, i.e. a document is complete
+ * with the end tag of its root element. Comments, processing instructions, CDATA sections and declarations are
+ * respected, quoted strings and comments in the internal subset of a document type declaration are skipped. An end tag
+ * without start tag is rejected. The detection works on bytes, therefore the documents must use an encoding that is compatible to ASCII
+ * for the markup characters, like UTF-8 or ISO-8859-x. The feeder rejects a document with a byte order mark or a
+ * declared encoding that is not compatible, e.g. UTF-16, UTF-32 or EBCDIC. Any white space in front of a document is
+ * dropped.
+ * </p>
+ * <p>
+ * The reader for a complete document is created by the provided driver.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class XmlStreamFeeder extends AbstractStreamFeeder {
+
+    private static final int TEXT = 0;
+    private static final int MARKUP = 1;
+    private static final int START_TAG = 2;
+    private static final int END_TAG = 3;
+    private static final int PROCESSING_INSTRUCTION = 4;
+    private static final int DECLARATION = 5;
+    private static final int COMMENT_START = 6;
+    private static final int COMMENT = 7;
+    private static final int CDATA = 8;
+    private static final int DOCTYPE = 9;
+    private static final int DOCTYPE_COMMENT = 10;
+    private static final int MAX_DECLARATION_LENGTH = 256;
+    private static final String MARKUP_CHARS = "<>/?!-[]=\"' \t\r\n";
+    private static final byte[] MARKUP_BYTES = new byte[MARKUP_CHARS.length()];
+    private static final String COMMENT_OPEN = "<!--";
+    private static final Pattern ENCODING = Pattern.compile("^xml\\s.*\\sencoding\\s*=\\s*[\"']([^\"']+)[\"']",
+        Pattern.DOTALL);
+
+    static {
+        for (int i = 0; i < MARKUP_BYTES.length; ++i) {
+            MARKUP_BYTES[i] = (byte)MARKUP_CHARS.charAt(i);
+        }
+    }
+
+    private final HierarchicalStreamDriver driver;
+    private int state;
+    private int depth;
+    private int count;
+    private int matched;
+    private byte quote;
+    private boolean empty;
+    private final StringBuilder declaration = new StringBuilder();
+
+    /**
+     * Constructs an XmlStreamFeeder.
+     *
+     * @param driver the driver creating the reader for a complete document
+     * @since upcoming
+     */
+    public XmlStreamFeeder(final HierarchicalStreamDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    protected int scan(final byte[] bytes, final int offset, final int limit) {
+        for (int i = offset; i < limit; ++i) {
+            final byte b = bytes[i];
+            switch (state) {
+            case TEXT:
+                if (b == '<') {
+                    state = MARKUP;
+                } else if (depth == 0 && (b == 0 || b == (byte)0xFE || b == (byte)0xFF)) {
+                    throw incompatibleEncoding("byte order mark or wide characters");
+                }
+                break;
+            case MARKUP:
+                if (b == 0) {
+                    throw incompatibleEncoding("wide characters");
+                } else if (b == '?') {
+                    state = PROCESSING_INSTRUCTION;
+                    declaration.setLength(0);
+                    count = 0;
+                } else if (b == '!') {
+                    state = DECLARATION;
+                } else if (b == '/') {
+                    state = END_TAG;
+                } else {
+                    state = START_TAG;
+                    quote = 0;
+                    empty = false;
+                }
+                break;
+            case START_TAG:
+                if (quote != 0) {
+                    if (b == quote) {
+                        quote = 0;
+                    }
+                } else if (b == '"' || b == '\'') {
+                    quote = b;
+                    empty = false;
+                } else if (b == '>') {
+                    state = TEXT;
+                    if (!empty) {
+                        ++depth;
+                    } else if (depth == 0) {
+                        return i + 1;
+                    }
+                } else {
+                    empty = b == '/';
+                }
+                break;
+            case END_TAG:
+                if (b == '>') {
+                    state = TEXT;
+                    if (depth == 0) {
+                        throw new StreamException("XmlStreamFeeder found end tag without start tag");
+                    }
+                    if (--depth == 0) {
+                        return i + 1;
+                    }
+                }
+                break;
+            case PROCESSING_INSTRUCTION:
+                if (b == '>' && count > 0) {
+                    state = TEXT;
+                    if (depth == 0) {
+                        checkDeclaration();
+                    }
+                } else if (depth == 0 && declaration.length() < MAX_DECLARATION_LENGTH) {
+                    // the declaration itself consists of ASCII characters only
+                    declaration.append((char)(b & 0xFF));
+                }
+                count = b == '?' ? 1 : 0;
+                break;
+            case DECLARATION:
+                count = 0;
+                if (b == '-') {
+                    state = COMMENT_START;
+                } else if (b == '[') {
+                    state = CDATA;
+                } else {
+                    state = b == '>' ? TEXT : DOCTYPE;
+                    quote = 0;
+                    matched = 0;
+                }
+                break;
+            case COMMENT_START:
+                state = COMMENT;
+                break;
+            case COMMENT:
+                if (b == '>' && count >= 2) {
+                    state = TEXT;
+                } else {
+                    count = b == '-' ? count + 1 : 0;
+                }
+                break;
+            case CDATA:
+                if (b == '>' && count >= 2) {
+                    state = TEXT;
+                } else {
+                    count = b == ']' ? count + 1 : 0;
+                }
+                break;
+            case DOCTYPE:
+                if (quote != 0) {
+                    if (b == quote) {
+                        quote = 0;
+                    }
+                } else if (count > 0 && b == COMMENT_OPEN.charAt(matched)) {
+                    if (++matched == COMMENT_OPEN.length()) {
+                        state = DOCTYPE_COMMENT;
+                        matched = 0;
+                    }
+                } else {
+                    matched = b == '<' ? 1 : 0;
+                    if (b == '"' || b == '\'') {
+                        quote = b;
+                    } else if (b == '[') {
+                        ++count;
+                    } else if (b == ']') {
+                        --count;
+                    } else if (b == '>' && count == 0) {
+                        state = TEXT;
+                    }
+                }
+                break;
+            case DOCTYPE_COMMENT:
+                if (b == '>' && matched >= 2) {
+                    state = DOCTYPE;
+                    matched = 0;
+                } else {
+                    matched = b == '-' ? matched + 1 : 0;
+                }
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private void checkDeclaration() {
+        final Matcher matcher = ENCODING.matcher(declaration);
+        if (matcher.find()) {
+            final String encoding = matcher.group(1);
+            final Charset charset;
+            try {
+                charset = Charset.forName(encoding);
+            } catch (final IllegalCharsetNameException e) {
+                return; // reported by the reader
+            } catch (final UnsupportedCharsetException e) {
+                return; // reported by the reader
+            }
+            if (!MARKUP_CHARS.equals(new String(MARKUP_BYTES, charset))) {
+                throw incompatibleEncoding(encoding);
+            }
+        }
+    }
+
+    private static StreamException incompatibleEncoding(final String encoding) {
+        return new StreamException("XmlStreamFeeder requires an ASCII compatible encoding, found " + encoding);
+    }
+
+    @Override
+    protected HierarchicalStreamReader createReader(final byte[] document) {
+        int offset = 0;
+        while (offset < document.length && Character.isWhitespace(document[offset])) {
+            ++offset;
+        }
+        return driver.createReader(new ByteArrayInputStream(document, offset, document.length - offset));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007, 2008, 2009, 2011, 2012, 2013, 2014 XStream Committers.
+ * Copyright (C) 2007, 2008, 2009, 2011, 2012, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -150,6 +150,16 @@ public class AnnotationMapper extends MapperWrapper implements AnnotationConfigu
         locked = !mode;
     }
 
+    /**
+     * Check whether annotations are auto-detected.
+     * 
+     * @return <code>true</code> if the annotations of a type are processed at its first usage
+     * @since upcoming
+     */
+    public boolean isAutodetectingAnnotations() {
+        return !locked;
+    }
+
     @Override
     public void processAnnotations(final Class<?>... initialTypes) {
         if (initialTypes == null || initialTypes.length == 0) {
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,24 +11,42 @@
  */
 package com.thoughtworks.xstream.mapper;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.XStreamException;
+import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.util.ClassCache;
 import com.thoughtworks.xstream.security.ForbiddenClassException;
 
 
 /**
  * Mapper that caches which names map to which classes. Prevents repetitive searching and class loading.
+ * <p>
+ * Additionally the mapper resolves all mapping decisions for a member of a type (and for an element name within a
+ * type) once into an immutable record and answers any subsequent query from it. Therefore the complete mapper chain is
+ * only traversed for the first query. The caches have to be flushed if the configuration of a wrapped mapper is
+ * changed after the first usage, XStream does this automatically for its own configuration methods. The caches do not
+ * prevent the unloading of the cached types. They are kept in weak maps of the mapper itself, because the records
+ * reference the local converters and therefore the mapper chain. Since element and attribute names are taken from
+ * the input, the number of cached names per type and of cached attribute names is limited, any further name is
+ * resolved by the wrapped mapper on each query.
+ * </p>
  * 
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
  */
 public class CachingMapper extends MapperWrapper implements Caching {
 
-    private transient Map<String, ? super Object> realClassCache;
+    private static final int MAX_CACHED_NAMES = 1024;
+
+    private transient ConcurrentMap<String, Object> realClassCache;
+    private transient ClassCache<ConcurrentMap<String, MemberMapping>> memberCache;
+    private transient ClassCache<ConcurrentMap<String, ElementMapping>> elementCache;
+    private transient ConcurrentMap<String, AttributeMapping> attributeCache;
 
     public CachingMapper(final Mapper wrapped) {
         super(wrapped);
@@ -37,17 +55,25 @@ public class CachingMapper extends MapperWrapper implements Caching {
 
     @Override
     public Class<?> realClass(final String elementName) {
+        if (elementName == null) {
+            return super.realClass(elementName);
+        }
         final Object cached = realClassCache.get(elementName);
         if (cached != null) {
-            if (cached instanceof Class) {
-                return (Class<?>)cached;
+            if (cached instanceof Reference) {
+                final Class<?> type = (Class<?>)((Reference<?>)cached).get();
+                if (type != null) {
+                    return type;
+                }
+            } else {
+                throw (XStreamException)cached;
             }
-            throw (XStreamException)cached;
         }
 
         try {
             final Class<?> result = super.realClass(elementName);
-            realClassCache.put(elementName, result);
+            // keep the class weakly to support class unloading
+            realClassCache.put(elementName, new WeakReference<Class<?>>(result));
             return result;
         } catch (final ForbiddenClassException e) {
             realClassCache.put(elementName, e);
@@ -58,13 +84,166 @@ public class CachingMapper extends MapperWrapper implements Caching {
         }
     }
 
+    @Override
+    public String serializedMember(final Class<?> type, final String memberName) {
+        return type == null || memberName == null
+            ? super.serializedMember(type, memberName)
+            : getMemberMapping(type, memberName).serializedMember;
+    }
+
+    @Override
+    public boolean shouldSerializeMember(final Class<?> definedIn, final String fieldName) {
+        return definedIn == null || fieldName == null
+            ? super.shouldSerializeMember(definedIn, fieldName)
+            : getMemberMapping(definedIn, fieldName).shouldSerialize;
+    }
+
+    @Override
+    public Converter getLocalConverter(final Class<?> definedIn, final String fieldName) {
+        return definedIn == null || fieldName == null
+            ? super.getLocalConverter(definedIn, fieldName)
+            : getMemberMapping(definedIn, fieldName).localConverter;
+    }
+
+    @Override
+    public ImplicitCollectionMapping getImplicitCollectionDefForFieldName(final Class<?> itemType,
+            final String fieldName) {
+        return itemType == null || fieldName == null
+            ? super.getImplicitCollectionDefForFieldName(itemType, fieldName)
+            : getMemberMapping(itemType, fieldName).implicitCollection;
+    }
+
+    @Override
+    public String realMember(final Class<?> type, final String serialized) {
+        return type == null || serialized == null
+            ? super.realMember(type, serialized)
+            : getElementMapping(type, serialized).realMember;
+    }
+
+    @Override
+    public Class<?> getItemTypeForItemFieldName(final Class<?> definedIn, final String itemFieldName) {
+        return definedIn == null || itemFieldName == null
+            ? super.getItemTypeForItemFieldName(definedIn, itemFieldName)
+            : getElementMapping(definedIn, itemFieldName).itemType;
+    }
+
+    @Override
+    public String aliasForAttribute(final String attribute) {
+        return attribute == null ? super.aliasForAttribute(attribute) : getAttributeMapping(attribute).alias;
+    }
+
+    @Override
+    public String attributeForAlias(final String alias) {
+        return alias == null ? super.attributeForAlias(alias) : getAttributeMapping(alias).attribute;
+    }
+
+    @Override
+    public String aliasForSystemAttribute(final String attribute) {
+        return attribute == null
+            ? super.aliasForSystemAttribute(attribute)
+            : getAttributeMapping(attribute).systemAlias;
+    }
+
+    private MemberMapping getMemberMapping(final Class<?> type, final String name) {
+        final ConcurrentMap<String, MemberMapping> members = memberCache.get(type);
+        MemberMapping mapping = members.get(name);
+        if (mapping == null) {
+            // the local converter is queried first, it triggers the lazy processing of annotations
+            final Converter localConverter = super.getLocalConverter(type, name);
+            mapping = new MemberMapping(super.serializedMember(type, name), super.shouldSerializeMember(type, name),
+                localConverter, super.getImplicitCollectionDefForFieldName(type, name));
+            cache(members, name, mapping);
+        }
+        return mapping;
+    }
+
+    private ElementMapping getElementMapping(final Class<?> type, final String name) {
+        final ConcurrentMap<String, ElementMapping> elements = elementCache.get(type);
+        ElementMapping mapping = elements.get(name);
+        if (mapping == null) {
+            final String realMember = super.realMember(type, name);
+            mapping = new ElementMapping(realMember, super.getItemTypeForItemFieldName(type, name));
+            cache(elements, name, mapping);
+        }
+        return mapping;
+    }
+
+    private AttributeMapping getAttributeMapping(final String name) {
+        AttributeMapping mapping = attributeCache.get(name);
+        if (mapping == null) {
+            mapping = new AttributeMapping(super.aliasForAttribute(name), super.attributeForAlias(name), super
+                .aliasForSystemAttribute(name));
+            cache(attributeCache, name, mapping);
+        }
+        return mapping;
+    }
+
+    private static <T> void cache(final ConcurrentMap<String, T> mappings, final String name, final T mapping) {
+        if (mappings.size() < MAX_CACHED_NAMES) {
+            mappings.putIfAbsent(name, mapping);
+        }
+    }
+
+    private static <T> ClassCache<ConcurrentMap<String, T>> createMappingsCache() {
+        return ClassCache.newWeakInstance(new ClassCache.Factory<ConcurrentMap<String, T>>() {
+            @Override
+            public ConcurrentMap<String, T> create(final Class<?> type) {
+                return new ConcurrentHashMap<String, T>();
+            }
+        });
+    }
+
     @Override
     public void flushCache() {
         realClassCache.clear();
+        memberCache.clear();
+        elementCache.clear();
+        attributeCache.clear();
     }
 
     private Object readResolve() {
-        realClassCache = Collections.synchronizedMap(new HashMap<String, Object>(128));
+        realClassCache = new ConcurrentHashMap<String, Object>(128);
+        memberCache = createMappingsCache();
+        elementCache = createMappingsCache();
+        attributeCache = new ConcurrentHashMap<String, AttributeMapping>();
         return this;
     }
+
+    private static final class MemberMapping {
+        final String serializedMember;
+        final boolean shouldSerialize;
+        final Converter localConverter;
+        final ImplicitCollectionMapping implicitCollection;
+
+        MemberMapping(
+                final String serializedMember, final boolean shouldSerialize, final Converter localConverter,
+                final ImplicitCollectionMapping implicitCollection) {
+            this.serializedMember = serializedMember;
+            this.shouldSerialize = shouldSerialize;
+            this.localConverter = localConverter;
+            this.implicitCollection = implicitCollection;
+        }
+    }
+
+    private static final class ElementMapping {
+        final String realMember;
+        final Class<?> itemType;
+
+        ElementMapping(final String realMember, final Class<?> itemType) {
+            this.realMember = realMember;
+            this.itemType = itemType;
+        }
+    }
+
+    private static final class AttributeMapping {
+        final String alias;
+        final String attribute;
+        final String systemAlias;
+
+        AttributeMapping(final String alias, final String attribute, final String systemAlias) {
+            this.alias = alias;
+            this.attribute = attribute;
+            this.systemAlias = systemAlias;
+        }
+    }
 }
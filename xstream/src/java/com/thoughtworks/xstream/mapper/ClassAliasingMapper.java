@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -38,6 +38,18 @@ public class ClassAliasingMapper extends MapperWrapper {
         classToName.put(type.getName(), name);
     }
 
+    /**
+     * Add an alias for a class given by name. The class itself is not loaded.
+     *
+     * @param name the alias
+     * @param className the name of the class
+     * @since upcoming
+     */
+    public void addClassAlias(final String name, final String className) {
+        nameToType.put(name, className);
+        classToName.put(className, name);
+    }
+
     public void addTypeAlias(final String name, final Class<?> type) {
         nameToType.put(name, type.getName());
         typeToName.put(type, name);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -33,6 +33,19 @@ public class DefaultImplementationsMapper extends MapperWrapper {
         addDefaults();
     }
 
+    /**
+     * Constructs a DefaultImplementationsMapper with the default implementations of another one.
+     * 
+     * @param wrapped the mapper chain
+     * @param defaults the mapper providing the initial default implementations
+     * @since upcoming
+     */
+    public DefaultImplementationsMapper(final Mapper wrapped, final DefaultImplementationsMapper defaults) {
+        super(wrapped);
+        typeToImpl.putAll(defaults.typeToImpl);
+        implToType.putAll(defaults.implToType);
+    }
+
     protected void addDefaults() {
         // null handling
         addDefaultImplementation(null, Mapper.Null.class);
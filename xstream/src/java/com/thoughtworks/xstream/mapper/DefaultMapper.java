@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 3014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -101,7 +101,8 @@ public class DefaultMapper implements Mapper {
 
     @Override
     public String aliasForSystemAttribute(final String attribute) {
-        return attribute;
+        // size hints and item types are optional and written only with an explicit alias
+        return attribute.equals("size") || attribute.equals("item-type") ? null : attribute;
     }
 
     @Override
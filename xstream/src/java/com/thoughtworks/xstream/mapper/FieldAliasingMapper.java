@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -16,9 +16,12 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import com.thoughtworks.xstream.core.util.FastField;
+import com.thoughtworks.xstream.core.util.Patterns;
 
 
 /**
@@ -32,6 +35,7 @@ public class FieldAliasingMapper extends MapperWrapper {
     protected final Map<FastField, String> aliasToFieldMap = new HashMap<FastField, String>();
     protected final Set<FastField> fieldsToOmit = new HashSet<FastField>();
     protected final Set<Pattern> unknownFieldsToIgnore = new LinkedHashSet<Pattern>();
+    private transient volatile IgnoredElementMatcher ignoredElementMatcher;
 
     public FieldAliasingMapper(final Mapper wrapped) {
         super(wrapped);
@@ -44,6 +48,7 @@ public class FieldAliasingMapper extends MapperWrapper {
 
     public void addFieldsToIgnore(final Pattern pattern) {
         unknownFieldsToIgnore.add(pattern);
+        ignoredElementMatcher = null;
     }
 
     private FastField key(final Class<?> type, final String name) {
@@ -84,16 +89,56 @@ public class FieldAliasingMapper extends MapperWrapper {
         if (fieldsToOmit.contains(key(definedIn, fieldName))) {
             return false;
         } else if (definedIn == Object.class && !unknownFieldsToIgnore.isEmpty()) {
-            for (final Pattern pattern : unknownFieldsToIgnore) {
-                if (pattern.matcher(fieldName).matches()) {
-                    return false;
-                }
-            }
+            return !getIgnoredElementMatcher().matches(fieldName);
         }
         return true;
     }
 
+    private IgnoredElementMatcher getIgnoredElementMatcher() {
+        IgnoredElementMatcher matcher = ignoredElementMatcher;
+        if (matcher == null || matcher.size != unknownFieldsToIgnore.size()) {
+            matcher = new IgnoredElementMatcher(unknownFieldsToIgnore);
+            ignoredElementMatcher = matcher;
+        }
+        return matcher;
+    }
+
     public void omitField(final Class<?> definedIn, final String fieldName) {
         fieldsToOmit.add(key(definedIn, fieldName));
     }
+
+    /**
+     * Matcher for the names of unknown elements to ignore. All patterns are combined into a single one if possible and
+     * the decision for an element name is memoized.
+     */
+    private static class IgnoredElementMatcher {
+        private static final int MAX_CACHED_NAMES = 1024;
+        private final int size;
+        private final Pattern[] patterns;
+        private final ConcurrentMap<String, Boolean> decisions = new ConcurrentHashMap<String, Boolean>();
+
+        IgnoredElementMatcher(final Set<Pattern> patterns) {
+            size = patterns.size();
+            final Pattern[] array = patterns.toArray(new Pattern[size]);
+            final Pattern combined = Patterns.combine(array);
+            this.patterns = combined != null ? new Pattern[]{combined} : array;
+        }
+
+        boolean matches(final String name) {
+            Boolean decision = decisions.get(name);
+            if (decision == null) {
+                decision = Boolean.FALSE;
+                for (final Pattern pattern : patterns) {
+                    if (pattern.matcher(name).matches()) {
+                        decision = Boolean.TRUE;
+                        break;
+                    }
+                }
+                if (decisions.size() < MAX_CACHED_NAMES) {
+                    decisions.put(name, decision);
+                }
+            }
+            return decision.booleanValue();
+        }
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -24,6 +24,7 @@ import java.util.Set;
 public class ImmutableTypesMapper extends MapperWrapper {
 
     private final Set<Class<?>> immutableTypes = new HashSet<Class<?>>();
+    private final Set<String> immutableTypeNames = new HashSet<String>();
 
     public ImmutableTypesMapper(final Mapper wrapped) {
         super(wrapped);
@@ -33,9 +34,20 @@ public class ImmutableTypesMapper extends MapperWrapper {
         immutableTypes.add(type);
     }
 
+    /**
+     * Add an immutable type given by name. The class itself is not loaded.
+     *
+     * @param className the name of the class
+     * @since upcoming
+     */
+    public void addImmutableType(final String className) {
+        immutableTypeNames.add(className);
+    }
+
     @Override
     public boolean isImmutableValueType(final Class<?> type) {
-        if (immutableTypes.contains(type)) {
+        if (immutableTypes.contains(type)
+            || type != null && !immutableTypeNames.isEmpty() && immutableTypeNames.contains(type.getName())) {
             return true;
         } else {
             return super.isImmutableValueType(type);
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2011, 2012, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2011, 2012, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,37 +12,64 @@
 package com.thoughtworks.xstream.mapper;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.InitializationException;
+import com.thoughtworks.xstream.core.util.ClassCache;
 import com.thoughtworks.xstream.core.util.Primitives;
 
 
+/**
+ * Mapper for implicit collections, arrays and maps.
+ * <p>
+ * The definitions of a type and its super types are merged into a flattened index on first usage, therefore a lookup
+ * does not have to walk the type hierarchy. Adding a new definition invalidates all indexes.
+ * </p>
+ */
 public class ImplicitCollectionMapper extends MapperWrapper {
 
+    private static final Object NO_FIELD = new Object();
+    private static final ImplicitCollectionIndex EMPTY_INDEX = new ImplicitCollectionIndex(
+        new ImplicitCollectionMapperForClass[0]);
+
+    private final Map<Class<?>, ImplicitCollectionMapperForClass> classNameToMapper = new HashMap<Class<?>, ImplicitCollectionMapperForClass>();
+    private transient ClassCache<ImplicitCollectionIndex> indexes;
+
     public ImplicitCollectionMapper(final Mapper wrapped) {
         super(wrapped);
+        readResolve();
     }
 
-    private final Map<Class<?>, ImplicitCollectionMapperForClass> classNameToMapper = new HashMap<Class<?>, ImplicitCollectionMapperForClass>();
+    private ImplicitCollectionIndex getIndex(final Class<?> definedIn) {
+        if (definedIn == null) {
+            return EMPTY_INDEX;
+        }
+        return indexes.get(definedIn);
+    }
 
-    private ImplicitCollectionMapperForClass getMapper(Class<?> definedIn) {
-        while (definedIn != null) {
-            final ImplicitCollectionMapperForClass mapper = classNameToMapper.get(definedIn);
+    private synchronized ImplicitCollectionIndex createIndex(final Class<?> definedIn) {
+        final List<ImplicitCollectionMapperForClass> mappers = new ArrayList<ImplicitCollectionMapperForClass>();
+        for (Class<?> type = definedIn; type != null; type = type.getSuperclass()) {
+            final ImplicitCollectionMapperForClass mapper = classNameToMapper.get(type);
             if (mapper != null) {
-                return mapper;
+                mappers.add(mapper);
             }
-            definedIn = definedIn.getSuperclass();
         }
-        return null;
+        return mappers.isEmpty() ? EMPTY_INDEX : new ImplicitCollectionIndex(mappers
+            .toArray(new ImplicitCollectionMapperForClass[mappers.size()]));
     }
 
     private ImplicitCollectionMapperForClass getOrCreateMapper(final Class<?> definedIn) {
         ImplicitCollectionMapperForClass mapper = classNameToMapper.get(definedIn);
         if (mapper == null) {
-            mapper = new ImplicitCollectionMapperForClass(definedIn);
+            mapper = new ImplicitCollectionMapperForClass();
             classNameToMapper.put(definedIn, mapper);
         }
         return mapper;
@@ -51,33 +78,18 @@ public class ImplicitCollectionMapper extends MapperWrapper {
     @Override
     public String getFieldNameForItemTypeAndName(final Class<?> definedIn, final Class<?> itemType,
             final String itemFieldName) {
-        final ImplicitCollectionMapperForClass mapper = getMapper(definedIn);
-        if (mapper != null) {
-            return mapper.getFieldNameForItemTypeAndName(itemType, itemFieldName);
-        } else {
-            return null;
-        }
+        return getIndex(definedIn).getFieldNameForItemTypeAndName(itemType, itemFieldName);
     }
 
     @Override
     public Class<?> getItemTypeForItemFieldName(final Class<?> definedIn, final String itemFieldName) {
-        final ImplicitCollectionMapperForClass mapper = getMapper(definedIn);
-        if (mapper != null) {
-            return mapper.getItemTypeForItemFieldName(itemFieldName);
-        } else {
-            return null;
-        }
+        return getIndex(definedIn).getItemTypeForItemFieldName(itemFieldName);
     }
 
     @Override
     public ImplicitCollectionMapping getImplicitCollectionDefForFieldName(final Class<?> itemType,
             final String fieldName) {
-        final ImplicitCollectionMapperForClass mapper = getMapper(itemType);
-        if (mapper != null) {
-            return mapper.getImplicitCollectionDefForFieldName(fieldName);
-        } else {
-            return null;
-        }
+        return getIndex(itemType).getImplicitCollectionDefForFieldName(fieldName);
     }
 
     public void add(final Class<?> definedIn, final String fieldName, final Class<?> itemType) {
@@ -130,28 +142,85 @@ public class ImplicitCollectionMapper extends MapperWrapper {
                 }
             }
         }
-        final ImplicitCollectionMapperForClass mapper = getOrCreateMapper(definedIn);
-        mapper.add(new ImplicitCollectionMappingImpl(fieldName, itemType, itemFieldName, keyFieldName));
+        synchronized (this) {
+            getOrCreateMapper(definedIn).add(new ImplicitCollectionMappingImpl(fieldName, itemType, itemFieldName, keyFieldName));
+            indexes.clear();
+        }
     }
 
-    private class ImplicitCollectionMapperForClass {
-        private final Class<?> definedIn;
-        private final Map<NamedItemType, ImplicitCollectionMappingImpl> namedItemTypeToDef = new HashMap<NamedItemType, ImplicitCollectionMappingImpl>();
+    private Object readResolve() {
+        indexes = ClassCache.newInstance(new ClassCache.Factory<ImplicitCollectionIndex>() {
+            @Override
+            public ImplicitCollectionIndex create(final Class<?> type) {
+                return createIndex(type);
+            }
+        });
+        return this;
+    }
+
+    private static class ImplicitCollectionMapperForClass {
+        private final Map<NamedItemType, ImplicitCollectionMappingImpl> namedItemTypeToDef = new LinkedHashMap<NamedItemType, ImplicitCollectionMappingImpl>();
         private final Map<String, ImplicitCollectionMappingImpl> itemFieldNameToDef = new HashMap<String, ImplicitCollectionMappingImpl>();
         private final Map<String, ImplicitCollectionMappingImpl> fieldNameToDef = new HashMap<String, ImplicitCollectionMappingImpl>();
 
-        ImplicitCollectionMapperForClass(final Class<?> definedIn) {
-            this.definedIn = definedIn;
+        public void add(final ImplicitCollectionMappingImpl def) {
+            fieldNameToDef.put(def.getFieldName(), def);
+            namedItemTypeToDef.put(def.createNamedItemType(), def);
+            if (def.getItemFieldName() != null) {
+                itemFieldNameToDef.put(def.getItemFieldName(), def);
+            }
+        }
+    }
+
+    /**
+     * Flattened and immutable view on the definitions of a type and its super types. The mappers are ordered from the
+     * type itself up to its topmost super type.
+     */
+    private static class ImplicitCollectionIndex {
+        private final ImplicitCollectionMappingImpl[][] namedItemTypeDefs;
+        private final Map<String, ImplicitCollectionMappingImpl> itemFieldNameToDef = new HashMap<String, ImplicitCollectionMappingImpl>();
+        private final Map<String, ImplicitCollectionMappingImpl> fieldNameToDef = new HashMap<String, ImplicitCollectionMappingImpl>();
+        private final ConcurrentMap<NamedItemType, Object> fieldNameCache = new ConcurrentHashMap<NamedItemType, Object>();
+
+        ImplicitCollectionIndex(final ImplicitCollectionMapperForClass[] mappers) {
+            namedItemTypeDefs = new ImplicitCollectionMappingImpl[mappers.length][];
+            for (int i = mappers.length; i-- > 0;) {
+                final ImplicitCollectionMapperForClass mapper = mappers[i];
+                namedItemTypeDefs[i] = mapper.namedItemTypeToDef.values().toArray(
+                    new ImplicitCollectionMappingImpl[mapper.namedItemTypeToDef.size()]);
+                itemFieldNameToDef.putAll(mapper.itemFieldNameToDef);
+                fieldNameToDef.putAll(mapper.fieldNameToDef);
+            }
         }
 
         public String getFieldNameForItemTypeAndName(final Class<?> itemType, final String itemFieldName) {
+            if (namedItemTypeDefs.length == 0) {
+                return null;
+            }
+            final NamedItemType key = new NamedItemType(itemType, itemFieldName);
+            Object fieldName = fieldNameCache.get(key);
+            if (fieldName == null) {
+                fieldName = NO_FIELD;
+                for (final ImplicitCollectionMappingImpl[] defs : namedItemTypeDefs) {
+                    final String name = getFieldNameForItemTypeAndName(defs, itemType, itemFieldName);
+                    if (name != null) {
+                        fieldName = name;
+                        break;
+                    }
+                }
+                fieldNameCache.putIfAbsent(key, fieldName);
+            }
+            return fieldName == NO_FIELD ? null : (String)fieldName;
+        }
+
+        private static String getFieldNameForItemTypeAndName(final ImplicitCollectionMappingImpl[] defs,
+                final Class<?> itemType, final String itemFieldName) {
             ImplicitCollectionMappingImpl unnamed = null;
-            for (final NamedItemType itemTypeForFieldName : namedItemTypeToDef.keySet()) {
-                final ImplicitCollectionMappingImpl def = namedItemTypeToDef.get(itemTypeForFieldName);
+            for (final ImplicitCollectionMappingImpl def : defs) {
                 if (itemType == Mapper.Null.class) {
                     unnamed = def;
                     break;
-                } else if (itemTypeForFieldName.itemType.isAssignableFrom(itemType)) {
+                } else if (def.getNamedItemType().isAssignableFrom(itemType)) {
                     if (def.getItemFieldName() != null) {
                         if (def.getItemFieldName().equals(itemFieldName)) {
                             return def.getFieldName();
@@ -166,56 +235,18 @@ public class ImplicitCollectionMapper extends MapperWrapper {
                     }
                 }
             }
-            if (unnamed != null) {
-                return unnamed.getFieldName();
-            } else {
-                final ImplicitCollectionMapperForClass mapper = getMapper(definedIn.getSuperclass());
-                return mapper != null ? mapper.getFieldNameForItemTypeAndName(itemType, itemFieldName) : null;
-            }
+            return unnamed != null ? unnamed.getFieldName() : null;
         }
 
         public Class<?> getItemTypeForItemFieldName(final String itemFieldName) {
-            final ImplicitCollectionMappingImpl def = getImplicitCollectionDefByItemFieldName(itemFieldName);
-            if (def != null) {
-                return def.getItemType();
-            } else {
-                final ImplicitCollectionMapperForClass mapper = getMapper(definedIn.getSuperclass());
-                return mapper != null ? mapper.getItemTypeForItemFieldName(itemFieldName) : null;
-            }
-        }
-
-        private ImplicitCollectionMappingImpl getImplicitCollectionDefByItemFieldName(final String itemFieldName) {
-            if (itemFieldName == null) {
-                return null;
-            } else {
-                final ImplicitCollectionMappingImpl mapping = itemFieldNameToDef.get(itemFieldName);
-                if (mapping != null) {
-                    return mapping;
-                } else {
-                    final ImplicitCollectionMapperForClass mapper = getMapper(definedIn.getSuperclass());
-                    return mapper != null ? mapper.getImplicitCollectionDefByItemFieldName(itemFieldName) : null;
-                }
-            }
+            final ImplicitCollectionMappingImpl def = itemFieldName == null ? null : itemFieldNameToDef
+                .get(itemFieldName);
+            return def != null ? def.getItemType() : null;
         }
 
         public ImplicitCollectionMapping getImplicitCollectionDefForFieldName(final String fieldName) {
-            final ImplicitCollectionMapping mapping = fieldNameToDef.get(fieldName);
-            if (mapping != null) {
-                return mapping;
-            } else {
-                final ImplicitCollectionMapperForClass mapper = getMapper(definedIn.getSuperclass());
-                return mapper != null ? mapper.getImplicitCollectionDefForFieldName(fieldName) : null;
-            }
-        }
-
-        public void add(final ImplicitCollectionMappingImpl def) {
-            fieldNameToDef.put(def.getFieldName(), def);
-            namedItemTypeToDef.put(def.createNamedItemType(), def);
-            if (def.getItemFieldName() != null) {
-                itemFieldNameToDef.put(def.getItemFieldName(), def);
-            }
+            return fieldNameToDef.get(fieldName);
         }
-
     }
 
     private static class ImplicitCollectionMappingImpl implements ImplicitCollectionMapping {
@@ -236,6 +267,10 @@ public class ImplicitCollectionMapper extends MapperWrapper {
             return new NamedItemType(itemType, itemFieldName);
         }
 
+        Class<?> getNamedItemType() {
+            return itemType == null ? Object.class : itemType;
+        }
+
         @Override
         public String getFieldName() {
             return fieldName;
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.mapper;
+
+import com.thoughtworks.xstream.converters.Converter;
+
+
+/**
+ * Mapper of a derived XStream that falls back to the parent for omitted fields, implicit collections and local
+ * converters.
+ * <p>
+ * The mappers for this configuration do not delegate to the wrapped chain if they are responsible for a type.
+ * Therefore this mapper asks the parent's mapper chain if the wrapped chain has no result. A field is only serialized
+ * if neither chain omits it.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class InheritingMapper extends MapperWrapper {
+
+    private final Mapper parent;
+
+    /**
+     * Constructs an InheritingMapper.
+     *
+     * @param wrapped the mapper chain of the derived XStream
+     * @param parent the mapper chain of the parent
+     * @since upcoming
+     */
+    public InheritingMapper(final Mapper wrapped, final Mapper parent) {
+        super(wrapped);
+        this.parent = parent;
+    }
+
+    @Override
+    public boolean shouldSerializeMember(final Class<?> definedIn, final String fieldName) {
+        return super.shouldSerializeMember(definedIn, fieldName) && parent.shouldSerializeMember(definedIn, fieldName);
+    }
+
+    @Override
+    public Converter getLocalConverter(final Class<?> definedIn, final String fieldName) {
+        final Converter converter = super.getLocalConverter(definedIn, fieldName);
+        return converter == null ? parent.getLocalConverter(definedIn, fieldName) : converter;
+    }
+
+    @Override
+    public String getFieldNameForItemTypeAndName(final Class<?> definedIn, final Class<?> itemType,
+            final String itemFieldName) {
+        final String fieldName = super.getFieldNameForItemTypeAndName(definedIn, itemType, itemFieldName);
+        return fieldName == null
+            ? parent.getFieldNameForItemTypeAndName(definedIn, itemType, itemFieldName)
+            : fieldName;
+    }
+
+    @Override
+    public Class<?> getItemTypeForItemFieldName(final Class<?> definedIn, final String itemFieldName) {
+        final Class<?> itemType = super.getItemTypeForItemFieldName(definedIn, itemFieldName);
+        return itemType == null ? parent.getItemTypeForItemFieldName(definedIn, itemFieldName) : itemType;
+    }
+
+    @Override
+    public ImplicitCollectionMapping getImplicitCollectionDefForFieldName(final Class<?> itemType,
+            final String fieldName) {
+        final ImplicitCollectionMapping mapping = super.getImplicitCollectionDefForFieldName(itemType, fieldName);
+        return mapping == null ? parent.getImplicitCollectionDefForFieldName(itemType, fieldName) : mapping;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.mapper;
+
+/**
+ * Mapper at the bottom of the mapper chain of a derived XStream that delegates to the mapper chain of the parent.
+ * <p>
+ * An array type is named by the parent's class aliases only, the array suffix of the parent's {@link ArrayMapper} is
+ * left to the derived chain. Therefore the class aliases of the derived chain apply also to the component types.
+ * </p>
+ *
+ * @author agent
+ * @since upcoming
+ */
+public class ParentMapper extends MapperWrapper {
+
+    private final ClassAliasingMapper classAliasingMapper;
+
+    /**
+     * Constructs a ParentMapper.
+     *
+     * @param parent the mapper chain of the parent
+     * @since upcoming
+     */
+    public ParentMapper(final Mapper parent) {
+        super(parent);
+        classAliasingMapper = lookupMapperOfType(ClassAliasingMapper.class);
+    }
+
+    @Override
+    public String serializedClass(final Class<?> type) {
+        return type != null && type.isArray() && classAliasingMapper != null
+            ? classAliasingMapper.serializedClass(type)
+            : super.serializedClass(type);
+    }
+}
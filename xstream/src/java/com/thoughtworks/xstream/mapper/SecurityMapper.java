@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014 XStream Committers.
+ * Copyright (C) 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 08. January 2014 by Joerg Schaible
@@ -8,8 +8,12 @@ package com.thoughtworks.xstream.mapper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
+import com.thoughtworks.xstream.core.Caching;
 import com.thoughtworks.xstream.security.AnyTypePermission;
 import com.thoughtworks.xstream.security.ForbiddenClassException;
 import com.thoughtworks.xstream.security.NoTypePermission;
@@ -19,13 +23,18 @@ import com.thoughtworks.xstream.security.TypePermission;
 /**
  * A Mapper implementation injecting a security layer based on permission rules for any type required in the
  * unmarshalling process.
+ * <p>
+ * The decision for a type is cached, therefore a permission must always give the same answer for the same type. Adding
+ * a permission flushes the cache.
+ * </p>
  * 
  * @author J&ouml;rg Schaible
  * @since 1.4.7
  */
-public class SecurityMapper extends MapperWrapper {
+public class SecurityMapper extends MapperWrapper implements Caching {
 
     private final List<TypePermission> permissions;
+    private transient Map<Class<?>, Boolean> decisions;
 
     /**
      * Construct a SecurityMapper.
@@ -49,6 +58,7 @@ public class SecurityMapper extends MapperWrapper {
         this.permissions = permissions == null //
             ? new ArrayList<TypePermission>()
             : new ArrayList<TypePermission>(Arrays.asList(permissions));
+        readResolve();
     }
 
     /**
@@ -66,16 +76,48 @@ public class SecurityMapper extends MapperWrapper {
             permissions.clear();
         }
         permissions.add(0, permission);
+        flushCache();
     }
 
     @Override
     public Class<?> realClass(final String elementName) {
         final Class<?> type = super.realClass(elementName);
-        for (final TypePermission permission : permissions) {
-            if (permission.allows(type)) {
-                return type;
+        Boolean allowed = decisions.get(type);
+        if (allowed == null) {
+            allowed = Boolean.valueOf(isAllowed(type));
+            decisions.put(type, allowed);
+        }
+        if (!allowed.booleanValue()) {
+            throw new ForbiddenClassException(type);
+        }
+        return type;
+    }
+
+    private boolean isAllowed(final Class<?> type) {
+        try {
+            for (final TypePermission permission : permissions) {
+                if (permission.allows(type)) {
+                    return true;
+                }
             }
+        } catch (final ForbiddenClassException e) {
+            // denied by a NoPermission
         }
-        throw new ForbiddenClassException(type);
+        return false;
+    }
+
+    /**
+     * Flush the cached decisions.
+     * 
+     * @since upcoming
+     */
+    @Override
+    public void flushCache() {
+        decisions.clear();
+    }
+
+    private Object readResolve() {
+        decisions = Collections.synchronizedMap(new WeakHashMap<Class<?>, Boolean>());
+        return this;
     }
 }
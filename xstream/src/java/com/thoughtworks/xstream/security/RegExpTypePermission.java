@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014 XStream Committers.
+ * Copyright (C) 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 09. January 2014 by Joerg Schaible
@@ -8,6 +8,8 @@ package com.thoughtworks.xstream.security;
 
 import java.util.regex.Pattern;
 
+import com.thoughtworks.xstream.core.util.Patterns;
+
 
 /**
  * Permission for any type with a name matching one of the provided regular expressions.
@@ -18,6 +20,7 @@ import java.util.regex.Pattern;
 public class RegExpTypePermission implements TypePermission {
 
     private final Pattern[] patterns;
+    private final Pattern combined;
 
     public RegExpTypePermission(final String... patterns) {
         this(getPatterns(patterns));
@@ -25,12 +28,15 @@ public class RegExpTypePermission implements TypePermission {
 
     public RegExpTypePermission(final Pattern... patterns) {
         this.patterns = patterns == null ? new Pattern[0] : patterns;
+        combined = Patterns.combine(this.patterns);
     }
 
     @Override
     public boolean allows(final Class<?> type) {
         if (type != null) {
             final String name = type.getName();
+            if (combined != null)
+                return combined.matcher(name).matches();
             for (final Pattern pattern : patterns)
                 if (pattern.matcher(name).matches())
                     return true;
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.acceptance;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.thoughtworks.acceptance.objects.Software;
+import com.thoughtworks.xstream.InitializationException;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.basic.StringConverter;
+import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
+import com.thoughtworks.xstream.io.xml.DomDriver;
+import com.thoughtworks.xstream.mapper.DefaultMapper;
+
+
+/**
+ * @author agent
+ */
+public class DerivedXStreamTest extends AbstractAcceptanceTest {
+
+    public static class Catalog {
+        String title;
+        List<Software> items = new ArrayList<Software>();
+    }
+
+    public static class Shelf {
+        Software[] software;
+        List<Software> favorites;
+    }
+
+    public static class UpperCaseConverter extends StringConverter {
+        @Override
+        public String toString(final Object obj) {
+            return ((String)obj).toUpperCase();
+        }
+    }
+
+    private XStream parent;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        parent = xstream;
+        parent.alias("software", Software.class);
+        parent.alias("catalog", Catalog.class);
+        parent.aliasField("maker", Software.class, "vendor");
+        parent.addImplicitCollection(Catalog.class, "items");
+        xstream = new XStream(parent);
+    }
+
+    private Catalog createCatalog() {
+        final Catalog catalog = new Catalog();
+        catalog.title = "Tools";
+        catalog.items.add(new Software("Codehaus", "XStream"));
+        return catalog;
+    }
+
+    public void testInheritsConfigurationOfParent() {
+        final String expected = ""
+            + "<catalog>\n"
+            + "  <title>Tools</title>\n"
+            + "  <software>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </software>\n"
+            + "</catalog>";
+        assertBothWays(createCatalog(), expected);
+        assertTrue(parent.isFrozen());
+        assertFalse(xstream.isFrozen());
+    }
+
+    public void testOverlaysConfigurationOfParent() {
+        xstream.alias("sw", Software.class);
+        xstream.aliasField("product", Software.class, "name");
+        xstream.omitField(Catalog.class, "title");
+        final String expected = ""
+            + "<catalog>\n"
+            + "  <sw>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <product>XStream</product>\n"
+            + "  </sw>\n"
+            + "</catalog>";
+        final Catalog catalog = createCatalog();
+        catalog.title = null;
+        assertBothWays(catalog, expected);
+
+        assertEquals(""
+            + "<catalog>\n"
+            + "  <title>Tools</title>\n"
+            + "  <software>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </software>\n"
+            + "</catalog>", parent.toXML(createCatalog()));
+    }
+
+    public void testRejectsConfigurationWithoutOwnMapper() {
+        try {
+            xstream.useAttributeFor(Software.class, "name");
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+        try {
+            parent.alias("sw", Software.class);
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+    }
+
+    public void testAppliesOverlayAliasesToArrayComponents() {
+        xstream.alias("sw", Software.class);
+        final Software[] software = new Software[]{new Software("Codehaus", "XStream")};
+        final String expected = ""
+            + "<sw-array>\n"
+            + "  <sw>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </sw>\n"
+            + "</sw-array>";
+        assertBothWays(software, expected);
+        assertEquals(""
+            + "<software-array>\n"
+            + "  <software>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </software>\n"
+            + "</software-array>", parent.toXML(software));
+    }
+
+    public void testAppliesOverlayAliasesToArrayFieldsAndDefaultImplementations() {
+        xstream.alias("shelf", Shelf.class);
+        xstream.alias("sw", Software.class);
+        xstream.alias("list", List.class, LinkedList.class);
+        final Shelf shelf = new Shelf();
+        shelf.software = new Software[]{new Software("Codehaus", "XStream")};
+        shelf.favorites = new LinkedList<Software>();
+        shelf.favorites.add(new Software("Apache", "Maven"));
+        final String expected = ""
+            + "<shelf>\n"
+            + "  <software>\n"
+            + "    <sw>\n"
+            + "      <maker>Codehaus</maker>\n"
+            + "      <name>XStream</name>\n"
+            + "    </sw>\n"
+            + "  </software>\n"
+            + "  <favorites>\n"
+            + "    <sw>\n"
+            + "      <maker>Apache</maker>\n"
+            + "      <name>Maven</name>\n"
+            + "    </sw>\n"
+            + "  </favorites>\n"
+            + "</shelf>";
+        final Shelf result = (Shelf)assertBothWays(shelf, expected);
+        assertEquals(LinkedList.class, result.favorites.getClass());
+    }
+
+    public void testUsesOwnConvertersAndMapper() {
+        xstream.alias("sw", Software.class);
+        final Converter converter = xstream.getConverterLookup().lookupConverterForType(Software.class);
+        assertTrue(converter instanceof ReflectionConverter);
+        assertNotSame(parent.getConverterLookup().lookupConverterForType(Software.class), converter);
+        assertEquals("sw", xstream.getMapper().serializedClass(Software.class));
+        assertEquals("software", parent.getMapper().serializedClass(Software.class));
+    }
+
+    public void testRegistersConvertersOfParent() {
+        final XStream parent = createXStream();
+        parent.alias("catalog", Catalog.class);
+        parent.registerConverter(new UpperCaseConverter());
+        final XStream xstream = new XStream(parent);
+        final String expected = ""
+            + "<catalog>\n"
+            + "  <title>TOOLS</title>\n"
+            + "  <items/>\n"
+            + "</catalog>";
+        final Catalog catalog = createCatalog();
+        catalog.items.clear();
+        assertEquals(expected, xstream.toXML(catalog));
+        assertEquals(expected, new XStream(xstream).toXML(catalog));
+    }
+
+    public void testOwnConvertersTakePrecedence() {
+        xstream.registerConverter(new UpperCaseConverter());
+        xstream.registerLocalConverter(Catalog.class, "title", new UpperCaseConverter());
+        final String expected = ""
+            + "<catalog>\n"
+            + "  <title>TOOLS</title>\n"
+            + "  <software>\n"
+            + "    <maker>CODEHAUS</maker>\n"
+            + "    <name>XSTREAM</name>\n"
+            + "  </software>\n"
+            + "</catalog>";
+        assertEquals(expected, xstream.toXML(createCatalog()));
+        assertEquals(""
+            + "<catalog>\n"
+            + "  <title>Tools</title>\n"
+            + "  <software>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </software>\n"
+            + "</catalog>", parent.toXML(createCatalog()));
+    }
+
+    public void testDerivesFromDerivedInstance() {
+        xstream.alias("sw", Software.class);
+        final XStream child = new XStream(xstream);
+        child.aliasField("product", Software.class, "name");
+        final String expected = ""
+            + "<catalog>\n"
+            + "  <title>Tools</title>\n"
+            + "  <sw>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <product>XStream</product>\n"
+            + "  </sw>\n"
+            + "</catalog>";
+        assertEquals(expected, child.toXML(createCatalog()));
+        assertEquals(createCatalog().title, ((Catalog)child.fromXML(expected)).title);
+        assertTrue(xstream.isFrozen());
+        assertEquals(""
+            + "<catalog>\n"
+            + "  <title>Tools</title>\n"
+            + "  <sw>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </sw>\n"
+            + "</catalog>", xstream.toXML(createCatalog()));
+    }
+
+    public void testDerivesFromParentWithCustomMapper() {
+        final XStream custom = new XStream(null, new DomDriver(), new ClassLoaderReference(getClass().getClassLoader()),
+            new DefaultMapper(new ClassLoaderReference(getClass().getClassLoader())));
+        custom.allowTypes(Software.class);
+        final XStream xstream = new XStream(custom);
+        xstream.alias("sw", Software.class);
+        final String expected = ""
+            + "<sw>\n"
+            + "  <vendor>Codehaus</vendor>\n"
+            + "  <name>XStream</name>\n"
+            + "</sw>";
+        assertEquals(expected, xstream.toXML(new Software("Codehaus", "XStream")));
+        assertTrue(custom.isFrozen());
+    }
+}
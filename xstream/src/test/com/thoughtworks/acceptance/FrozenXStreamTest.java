@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.acceptance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thoughtworks.acceptance.objects.Software;
+import com.thoughtworks.xstream.InitializationException;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.SingleValueConverterWrapper;
+import com.thoughtworks.xstream.converters.basic.StringConverter;
+import com.thoughtworks.xstream.core.DefaultConverterLookup;
+
+
+/**
+ * @author agent
+ */
+public class FrozenXStreamTest extends AbstractAcceptanceTest {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream.alias("software", Software.class);
+        xstream.aliasField("maker", Software.class, "vendor");
+        xstream.freeze();
+    }
+
+    public void testFrozenInstanceWorks() {
+        final List<Software> list = new ArrayList<Software>();
+        list.add(new Software("Codehaus", "XStream"));
+        list.add(new Software("Apache", "Maven"));
+        assertTrue(xstream.isFrozen());
+        final String expected = ""
+            + "<list>\n"
+            + "  <software>\n"
+            + "    <maker>Codehaus</maker>\n"
+            + "    <name>XStream</name>\n"
+            + "  </software>\n"
+            + "  <software>\n"
+            + "    <maker>Apache</maker>\n"
+            + "    <name>Maven</name>\n"
+            + "  </software>\n"
+            + "</list>";
+        assertBothWays(list, expected);
+    }
+
+    public void testFrozenInstanceRejectsConfiguration() {
+        try {
+            xstream.alias("sw", Software.class);
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+        try {
+            xstream.registerConverter(new StringConverter());
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+        try {
+            xstream.allowTypes(Software.class);
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+    }
+
+    public void testFrozenConverterLookupRejectsConverters() {
+        try {
+            final DefaultConverterLookup lookup = new DefaultConverterLookup();
+            final Converter converter = new SingleValueConverterWrapper(new StringConverter());
+            lookup.registerConverter(converter, XStream.PRIORITY_NORMAL);
+            lookup.freeze();
+            assertSame(converter, lookup.lookupConverterForType(String.class));
+            lookup.registerConverter(converter, XStream.PRIORITY_NORMAL);
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+    }
+
+    public void testCannotFreezeWhileAnnotationsAreAutodetected() {
+        final XStream xstream = createXStream();
+        xstream.autodetectAnnotations(true);
+        try {
+            xstream.freeze();
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            assertFalse(xstream.isFrozen());
+        }
+        xstream.autodetectAnnotations(false);
+        xstream.freeze();
+        assertTrue(xstream.isFrozen());
+    }
+}
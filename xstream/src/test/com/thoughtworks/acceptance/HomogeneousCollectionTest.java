@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.acceptance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import com.thoughtworks.acceptance.objects.Software;
+
+
+/**
+ * @author agent
+ */
+public class HomogeneousCollectionTest extends AbstractAcceptanceTest {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream.aliasSystemAttribute("item-type", "item-type");
+        xstream.alias("software", Software.class);
+    }
+
+    public void testIsNotWrittenByDefault() {
+        assertEquals(""
+            + "<list>\n"
+            + "  <string>one</string>\n"
+            + "</list>", createXStream().toXML(new ArrayList<String>(Collections.singleton("one"))));
+    }
+
+    public void testWritesTypeOnce() {
+        final List<Software> list = new ArrayList<Software>();
+        list.add(new Software("Codehaus", "XStream"));
+        list.add(new Software("Apache", "Maven"));
+        assertBothWays(list, ""
+            + "<list item-type=\"software\">\n"
+            + "  <item>\n"
+            + "    <vendor>Codehaus</vendor>\n"
+            + "    <name>XStream</name>\n"
+            + "  </item>\n"
+            + "  <item>\n"
+            + "    <vendor>Apache</vendor>\n"
+            + "    <name>Maven</name>\n"
+            + "  </item>\n"
+            + "</list>");
+        assertEquals(new HashSet<Software>(list), xstream.fromXML(xstream.toXML(new HashSet<Software>(list))));
+        assertBothWays(Collections.singletonList("one"), ""
+            + "<singleton-list item-type=\"string\">\n"
+            + "  <item>one</item>\n"
+            + "</singleton-list>");
+    }
+
+    public void testArrays() {
+        assertBothWays(new String[]{"one", "two"}, ""
+            + "<string-array item-type=\"string\">\n"
+            + "  <item>one</item>\n"
+            + "  <item>two</item>\n"
+            + "</string-array>");
+        assertBothWays(new Object[]{"one", Integer.valueOf(1)}, ""
+            + "<object-array>\n"
+            + "  <string>one</string>\n"
+            + "  <int>1</int>\n"
+            + "</object-array>");
+    }
+
+    public void testMixedOrNullItemsUseDefaultEncoding() {
+        final List<Object> list = new ArrayList<Object>();
+        list.add("one");
+        list.add(null);
+        assertBothWays(list, ""
+            + "<list>\n"
+            + "  <string>one</string>\n"
+            + "  <null/>\n"
+            + "</list>");
+    }
+
+    public void testReferencesToItems() {
+        final Software software = new Software("Codehaus", "XStream");
+        final List<Software> list = new ArrayList<Software>();
+        list.add(software);
+        list.add(software);
+        assertBothWays(list, ""
+            + "<list item-type=\"software\">\n"
+            + "  <item>\n"
+            + "    <vendor>Codehaus</vendor>\n"
+            + "    <name>XStream</name>\n"
+            + "  </item>\n"
+            + "  <item reference=\"../item\"/>\n"
+            + "</list>");
+    }
+}
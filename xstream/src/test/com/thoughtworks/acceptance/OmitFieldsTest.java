@@ -11,9 +11,13 @@
  */
 package com.thoughtworks.acceptance;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
 import com.thoughtworks.acceptance.objects.StandardObject;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.io.binary.BinaryStreamDriver;
 import com.thoughtworks.xstream.mapper.Mapper;
 import com.thoughtworks.xstream.mapper.MapperWrapper;
 
@@ -364,6 +368,21 @@ public class OmitFieldsTest extends AbstractAcceptanceTest {
         assertWithAsymmetricalXml(thing, provided, expected);
     }
 
+    public void testOmittedElementIsSkippedInBinaryStreamWithSkipIndex() {
+        Thing in = new Thing();
+        in.sometimesIgnore = "b";
+        in.neverIgnore = "c";
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final BinaryStreamDriver driver = new BinaryStreamDriver(true);
+        xstream.marshal(in, driver.createWriter(buffer));
+
+        xstream.omitField(Thing.class, "sometimesIgnore");
+        Thing out = (Thing)xstream.unmarshal(driver.createReader(new ByteArrayInputStream(buffer.toByteArray())));
+        assertEquals(null, out.sometimesIgnore);
+        assertEquals("c", out.neverIgnore);
+    }
+
     static class ThingAgain extends Thing {
         String sometimesIgnore;
 
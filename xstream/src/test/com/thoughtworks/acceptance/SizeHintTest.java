@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.acceptance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.thoughtworks.xstream.converters.collections.CollectionConverter;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * @author agent
+ */
+public class SizeHintTest extends AbstractAcceptanceTest {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream.aliasSystemAttribute("size", "size");
+    }
+
+    public void testIsNotWrittenByDefault() {
+        final List<String> list = new ArrayList<String>();
+        list.add("one");
+        assertEquals(""
+            + "<list>\n"
+            + "  <string>one</string>\n"
+            + "</list>", createXStream().toXML(list));
+    }
+
+    public void testCollection() {
+        final List<String> list = new ArrayList<String>();
+        list.add("one");
+        list.add("two");
+        assertBothWays(list, ""
+            + "<list size=\"2\">\n"
+            + "  <string>one</string>\n"
+            + "  <string>two</string>\n"
+            + "</list>");
+        assertEquals(new HashSet<String>(list), xstream.fromXML(xstream.toXML(new HashSet<String>(list))));
+    }
+
+    public void testMap() {
+        final Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("one", "1");
+        assertBothWays(map, ""
+            + "<linked-hash-map size=\"1\">\n"
+            + "  <entry>\n"
+            + "    <string>one</string>\n"
+            + "    <string>1</string>\n"
+            + "  </entry>\n"
+            + "</linked-hash-map>");
+    }
+
+    public void testSortedCollectionsWithComparator() {
+        xstream.allowTypes(new Class[]{Collections.reverseOrder().getClass()});
+        final TreeMap<String, String> map = new TreeMap<String, String>(Collections.reverseOrder());
+        map.put("a", "1");
+        map.put("b", "2");
+        assertBothWays(map, ""
+            + "<tree-map size=\"2\">\n"
+            + "  <comparator class=\"java.util.Collections$ReverseComparator\"/>\n"
+            + "  <entry>\n"
+            + "    <string>b</string>\n"
+            + "    <string>2</string>\n"
+            + "  </entry>\n"
+            + "  <entry>\n"
+            + "    <string>a</string>\n"
+            + "    <string>1</string>\n"
+            + "  </entry>\n"
+            + "</tree-map>");
+        final TreeSet<String> set = new TreeSet<String>(Collections.reverseOrder());
+        set.addAll(map.keySet());
+        assertBothWays(set, ""
+            + "<sorted-set size=\"2\">\n"
+            + "  <comparator class=\"java.util.Collections$ReverseComparator\"/>\n"
+            + "  <string>b</string>\n"
+            + "  <string>a</string>\n"
+            + "</sorted-set>");
+    }
+
+    public void testArrays() {
+        assertBothWays(new String[]{"one"}, ""
+            + "<string-array size=\"1\">\n"
+            + "  <string>one</string>\n"
+            + "</string-array>");
+        assertBothWays(new long[]{1, 2}, ""
+            + "<long-array size=\"2\">\n"
+            + "  <long>1</long>\n"
+            + "  <long>2</long>\n"
+            + "</long-array>");
+    }
+
+    public static class SynchronizedListConverter extends CollectionConverter {
+
+        public SynchronizedListConverter(final Mapper mapper) {
+            super(mapper, ArrayList.class);
+        }
+
+        @Override
+        protected Collection<?> createCollection(final Class<?> type) {
+            return Collections.synchronizedList(new ArrayList<Object>());
+        }
+    }
+
+    public void testRespectsOverriddenCreationOfCollection() {
+        xstream.registerConverter(new SynchronizedListConverter(xstream.getMapper()));
+        final Object list = xstream.fromXML(""
+            + "<list size=\"2\">\n"
+            + "  <string>one</string>\n"
+            + "  <string>two</string>\n"
+            + "</list>");
+        assertEquals(Collections.synchronizedList(new ArrayList<Object>()).getClass(), list.getClass());
+        assertEquals(Arrays.asList("one", "two"), list);
+    }
+
+    public void testWrongHintsAreTolerated() {
+        assertEquals(Arrays.asList("one", "two"), xstream.fromXML(""
+            + "<list size=\"1\">\n"
+            + "  <string>one</string>\n"
+            + "  <string>two</string>\n"
+            + "</list>"));
+        assertTrue(Arrays.equals(new String[]{"one"}, (String[])xstream.fromXML(""
+            + "<string-array size=\"2147483647\">\n"
+            + "  <string>one</string>\n"
+            + "</string-array>")));
+        assertTrue(Arrays.equals(new int[]{1}, (int[])xstream.fromXML(""
+            + "<int-array size=\"invalid\">\n"
+            + "  <int>1</int>\n"
+            + "</int-array>")));
+    }
+
+    public void testCanBeAliased() {
+        xstream.aliasSystemAttribute("n", "size");
+        assertBothWays(new String[0], "<string-array n=\"0\"/>");
+    }
+}
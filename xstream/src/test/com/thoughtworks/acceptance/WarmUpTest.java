@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.acceptance;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
+import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import com.thoughtworks.xstream.mapper.CannotResolveClassException;
+import com.thoughtworks.xstream.security.ForbiddenClassException;
+
+
+/**
+ * @author agent
+ */
+public class WarmUpTest extends AbstractAcceptanceTest {
+
+    @XStreamAlias("shelf")
+    public static class Shelf {
+        @XStreamImplicit
+        List<Book> books = new ArrayList<Book>();
+        Tag[] tags;
+    }
+
+    @XStreamAlias("book")
+    public static class Book {
+        @XStreamAsAttribute
+        String title;
+    }
+
+    @XStreamAlias("tag")
+    public static class Tag {
+        @XStreamAlias("text")
+        String name;
+    }
+
+    private static final String XML = ""
+        + "<shelf>\n"
+        + "  <book title=\"XStream\"/>\n"
+        + "  <tags>\n"
+        + "    <tag>\n"
+        + "      <text>Java</text>\n"
+        + "    </tag>\n"
+        + "  </tags>\n"
+        + "</shelf>";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream.autodetectAnnotations(true);
+    }
+
+    public void testAutodetectedAliasesAreUnknownWithoutWarmUp() {
+        try {
+            xstream.fromXML(XML);
+            fail("Thrown " + CannotResolveClassException.class.getName() + " expected");
+        } catch (final CannotResolveClassException e) {
+            // OK
+        }
+    }
+
+    public void testWarmUpProcessesReachableTypes() {
+        assertEquals(0, xstream.warmUp(Shelf.class).size());
+        final Shelf shelf = (Shelf)xstream.fromXML(XML);
+        assertEquals(1, shelf.books.size());
+        assertEquals("XStream", shelf.books.get(0).title);
+        assertEquals("Java", shelf.tags[0].name);
+        assertEquals(XML, xstream.toXML(shelf));
+    }
+
+    public void testWarmUpSkipsUnsupportedTypes() {
+        xstream.processAnnotations(Shelf.class);
+        xstream.denyTypes(new Class[]{Tag.class});
+        xstream.freeze();
+        final Map<Class<?>, Throwable> failed = xstream.warmUp(null, Object.class, Runnable.class, Shelf.class);
+        assertTrue(failed.get(Tag.class) instanceof ForbiddenClassException);
+        final Shelf shelf = new Shelf();
+        shelf.tags = new Tag[]{new Tag()};
+        shelf.tags[0].name = "Java";
+        assertEquals(""
+            + "<shelf>\n"
+            + "  <tags>\n"
+            + "    <tag>\n"
+            + "      <text>Java</text>\n"
+            + "    </tag>\n"
+            + "  </tags>\n"
+            + "</shelf>", xstream.toXML(shelf));
+    }
+
+    public void testExportedTypesWarmUpNewInstance() throws IOException {
+        xstream.autodetectAnnotations(false);
+        xstream.processAnnotations(Shelf.class);
+        xstream.freeze();
+        xstream.fromXML(XML);
+        final StringWriter writer = new StringWriter();
+        xstream.exportWarmUpTypes(writer);
+        final String types = writer.toString();
+        assertTrue(types.indexOf(Shelf.class.getName() + "\n") >= 0);
+        assertTrue(types.indexOf(Tag.class.getName() + "\n") >= 0);
+        assertTrue(types.indexOf(Tag[].class.getName() + "\n") >= 0);
+
+        final XStream xstream = createXStream();
+        xstream.autodetectAnnotations(true);
+        assertEquals(0, xstream.warmUp(new StringReader(types)).size());
+        assertEquals("Java", ((Shelf)xstream.fromXML(XML)).tags[0].name);
+    }
+
+    public void testWarmUpOfNamesChecksSecurity() throws IOException {
+        xstream.denyTypes(new Class[]{Tag.class});
+        final Map<String, Throwable> failed = xstream.warmUp(new StringReader(""
+            + Tag.class.getName()
+            + "\n\n"
+            + "not.existing.Type\n"
+            + Book.class.getName()
+            + "\n"));
+        assertEquals(2, failed.size());
+        assertTrue(failed.get(Tag.class.getName()) instanceof ForbiddenClassException);
+        assertTrue(failed.get("not.existing.Type") instanceof CannotResolveClassException);
+        assertEquals("<book title=\"XStream\"/>", xstream.toXML(xstream.fromXML("<book title='XStream'/>")));
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2012, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2012, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -249,4 +249,20 @@ public class DateConverterTest extends TestCase {
         assertEquals("Samstag, 01 Januar 2000 UTC", converter.toString(date));
         assertEquals(date, converter.fromString("Samstag, 01 Januar 2000 UTC"));
     }
+
+    public void testDefaultFormatIsIdenticalToDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S z", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        long[] times = {
+            0, 1, 999, 1077462964005L, 1077462964050L, -1, -12219292800000L, -12219292800001L, 253402300799999L,
+            253402300800000L};
+        for (int i = 0; i < times.length; i++) {
+            Date date = new Date(times[i]);
+            String text = converter.toString(date);
+            assertEquals(format.format(date), text);
+            assertEquals(date, converter.fromString(text));
+        }
+        assertEquals(format.parse("2004-02-22 15:16:04.05 UTC"), converter.fromString("2004-02-22 15:16:04.05 UTC"));
+        assertEquals(format.parse("2004-02-22 15:16:04.0 GMT"), converter.fromString("2004-02-22 15:16:04.0 GMT"));
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import java.util.Arrays;
+
+import com.thoughtworks.acceptance.AbstractAcceptanceTest;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.basic.BooleanConverter;
+
+
+/**
+ * @author agent
+ */
+public class PrimitiveArrayConverterTest extends AbstractAcceptanceTest {
+
+    public void testWritesElementsInFormatOfArrayConverter() {
+        assertBothWays(new int[]{1, -2, 3}, ""
+            + "<int-array>\n"
+            + "  <int>1</int>\n"
+            + "  <int>-2</int>\n"
+            + "  <int>3</int>\n"
+            + "</int-array>");
+        assertBothWays(new boolean[]{true, false}, ""
+            + "<boolean-array>\n"
+            + "  <boolean>true</boolean>\n"
+            + "  <boolean>false</boolean>\n"
+            + "</boolean-array>");
+    }
+
+    public void testReadsLargeArrays() {
+        final double[] doubles = new double[1000];
+        final long[] longs = new long[1000];
+        for (int i = 0; i < doubles.length; ++i) {
+            doubles[i] = i / 3.0;
+            longs[i] = Long.MAX_VALUE - i;
+        }
+        assertTrue(Arrays.equals(doubles, (double[])xstream.fromXML(xstream.toXML(doubles))));
+        assertTrue(Arrays.equals(longs, (long[])xstream.fromXML(xstream.toXML(longs))));
+    }
+
+    public void testKeepsNumberFormatsOfBasicConverters() {
+        final String xml = ""
+            + "<int-array>\n"
+            + "  <int>0x10</int>\n"
+            + "  <int>010</int>\n"
+            + "  <int>0xFFFFFFFF</int>\n"
+            + "</int-array>";
+        assertTrue(Arrays.equals(new int[]{16, 8, -1}, (int[])xstream.fromXML(xml)));
+        assertTrue(Arrays.equals(new short[]{-1, 255}, (short[])xstream.fromXML(""
+            + "<short-array>\n"
+            + "  <short>0xFFFF</short>\n"
+            + "  <short>#FF</short>\n"
+            + "</short-array>")));
+        assertTrue(Arrays.equals(new long[]{-1}, (long[])xstream.fromXML(""
+            + "<long-array>\n"
+            + "  <long>0xFFFFFFFFFFFFFFFF</long>\n"
+            + "</long-array>")));
+    }
+
+    public void testCompactMode() {
+        xstream.registerConverter(new DoubleArrayConverter(xstream.getMapper(), xstream.getConverterLookup(), true));
+        xstream.registerConverter(new FloatArrayConverter(xstream.getMapper(), xstream.getConverterLookup(), true));
+        assertBothWays(new double[]{1.5, -2.0, 0.1}, "<double-array>1.5,-2.0,0.1</double-array>");
+        assertBothWays(new double[0], "<double-array></double-array>");
+        assertTrue(Arrays.equals(new float[]{1.5f, 3f}, (float[])xstream.fromXML(""
+            + "<float-array>\n"
+            + "  <float>1.5</float>\n"
+            + "  <float>3</float>\n"
+            + "</float-array>")));
+    }
+
+    public void testReadsCompactFormatInDefaultMode() {
+        assertTrue(Arrays.equals(new int[]{1, 2, 3}, (int[])xstream.fromXML("<int-array>1, 2,3</int-array>")));
+    }
+
+    public void testRespectsCustomElementConverter() {
+        xstream.registerConverter(BooleanConverter.BINARY);
+        assertBothWays(new boolean[]{true, false}, ""
+            + "<boolean-array>\n"
+            + "  <boolean>1</boolean>\n"
+            + "  <boolean>0</boolean>\n"
+            + "</boolean-array>");
+        xstream.registerConverter(new BooleanArrayConverter(xstream.getMapper(), xstream.getConverterLookup(), true),
+            XStream.PRIORITY_NORMAL);
+        assertBothWays(new boolean[]{true, false, true}, "<boolean-array>1,0,1</boolean-array>");
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,6 +12,7 @@
 package com.thoughtworks.xstream.converters.enums;
 
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.ConversionException;
 import junit.framework.TestCase;
 
 // ***** READ THIS *****
@@ -65,4 +66,17 @@ public class EnumConverterTest extends TestCase {
         assertEquals("banana", ((Fruit)out).fruit()); // see Bug ID: 6522780
     }
 
+    public void testFallsBackToCaseInsensitiveMatch() {
+        assertSame(SimpleEnum.GREEN, xstream.fromXML("<simple>green</simple>"));
+        assertSame(PolymorphicEnum.B, xstream.fromXML("<polymorphic>b</polymorphic>"));
+    }
+
+    public void testFailsForUnknownConstant() {
+        try {
+            xstream.fromXML("<simple>PURPLE</simple>");
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2013 XStream Committers.
+ * Copyright (C) 2006, 2007, 2013, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -69,4 +69,10 @@ public class EnumSetConverterTest extends TestCase {
         assertEquals(set, xstream.fromXML(expectedXml));
     }
 
+    public void testSkipsEmptyElements() {
+        xstream.alias("simple", SimpleEnum.class);
+        assertEquals(EnumSet.noneOf(SimpleEnum.class), xstream.fromXML("<enum-set enum-type=\"simple\"></enum-set>"));
+        assertEquals(EnumSet.of(SimpleEnum.RED, SimpleEnum.BLUE), xstream.fromXML(
+            "<enum-set enum-type=\"simple\">,BLUE,,RED,</enum-set>"));
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2011 XStream Committers.
+ * Copyright (C) 2006, 2007, 2011, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -90,6 +90,17 @@ public class ISO8601GregorianCalendarConverterTest extends TestCase {
         assertEquals(timeInMoscow, out);
     }
 
+    public void testParsesDefaultFormatWithOffset() {
+        String[] texts = {
+            "2004-02-22T15:16:04.005+01:00", "2004-02-22T15:16:04.005-05:30", "2004-02-22T15:16:04.005Z",
+            "1492-10-12T00:00:00.000Z"};
+        for (int i = 0; i < texts.length; i++) {
+            Calendar expected = new DateTime(texts[i]).toGregorianCalendar();
+            expected.setTimeZone(TimeZone.getDefault());
+            assertEquals(expected, converter.fromString(texts[i]));
+        }
+    }
+
     public void testIsThreadSafe() throws InterruptedException {
         final List results = Collections.synchronizedList(new ArrayList());
         final ISO8601GregorianCalendarConverter converter = new ISO8601GregorianCalendarConverter();
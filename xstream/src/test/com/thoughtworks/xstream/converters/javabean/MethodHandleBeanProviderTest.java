@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.converters.javabean;
+
+import java.util.Comparator;
+
+import com.thoughtworks.acceptance.objects.StandardObject;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.ConversionException;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class MethodHandleBeanProviderTest extends TestCase {
+
+    public static class Person extends StandardObject {
+        private String name;
+        private int age;
+        private boolean active;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(final int age) {
+            if (age < 0) {
+                throw new IllegalArgumentException("negative age");
+            }
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.active = active;
+        }
+    }
+
+    private XStream xstream;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream = new XStream();
+        xstream.allowTypes(Person.class);
+        xstream.alias("person", Person.class);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), new MethodHandleBeanProvider(
+            new Comparator<String>() {
+                @Override
+                public int compare(final String o1, final String o2) {
+                    return o1.compareTo(o2);
+                }
+            })), XStream.PRIORITY_VERY_LOW);
+    }
+
+    public void testReadsAndWritesProperties() {
+        final Person person = new Person();
+        person.setName("Joe");
+        person.setAge(42);
+        person.setActive(true);
+
+        final String expected = ""
+            + "<person>\n"
+            + "  <active>true</active>\n"
+            + "  <age>42</age>\n"
+            + "  <name>Joe</name>\n"
+            + "</person>";
+
+        final String xml = xstream.toXML(person);
+        assertEquals(expected, xml);
+        assertEquals(person, xstream.fromXML(xml));
+    }
+
+    public void testReportsExceptionOfSetter() {
+        try {
+            xstream.fromXML("<person><age>-1</age></person>");
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals(IllegalArgumentException.class, e.getCause().getCause().getClass());
+        }
+    }
+
+    public void testCacheCanBeFlushed() {
+        final MethodHandleBeanProvider provider = new MethodHandleBeanProvider();
+        final Person person = new Person();
+        provider.writeProperty(person, "name", "Joe");
+        provider.flushCache();
+        provider.writeProperty(person, "age", Integer.valueOf(42));
+        assertEquals("Joe", person.getName());
+        assertEquals(42, person.getAge());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007, 2014 XStream Committers.
+ * Copyright (C) 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -349,4 +349,60 @@ public class SerializableConverterTest extends TestCase {
         SerializableType serialized = (SerializableType)xstream.fromXML(xml);
         assertEquals(s.serializable, serialized.serializable);
     }
+
+    public static class CustomParent implements Serializable {
+        private static final long serialVersionUID = 1L;
+        transient String custom;
+
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeObject(custom);
+        }
+
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            custom = (String)in.readObject();
+        }
+    }
+
+    public static class PlainChild extends CustomParent {
+        private static final long serialVersionUID = 1L;
+        String plain;
+    }
+
+    public void testMixesCustomAndDefaultLevelsWithCachedPlan() {
+        XStream xstream = new XStream();
+        xstream.allowTypes(PlainChild.class, CustomParent.class);
+        xstream.alias("child", PlainChild.class);
+        xstream.alias("parent", CustomParent.class);
+        SerializableConverter converter = new SerializableConverter(xstream.getMapper(), xstream
+            .getReflectionProvider(), xstream.getClassLoaderReference());
+        xstream.registerConverter(converter, XStream.PRIORITY_VERY_HIGH);
+
+        String expected = ""
+            + "<child serialization=\"custom\">\n"
+            + "  <parent>\n"
+            + "    <default/>\n"
+            + "    <string>one</string>\n"
+            + "  </parent>\n"
+            + "  <child>\n"
+            + "    <default>\n"
+            + "      <plain>two</plain>\n"
+            + "    </default>\n"
+            + "  </child>\n"
+            + "</child>";
+
+        PlainChild child = new PlainChild();
+        child.custom = "one";
+        child.plain = "two";
+
+        for (int i = 0; i < 2; ++i) {
+            String xml = xstream.toXML(child);
+            assertEquals(expected, xml);
+            PlainChild serialized = (PlainChild)xstream.fromXML(xml);
+            assertEquals("one", serialized.custom);
+            assertEquals("two", serialized.plain);
+            converter.flushCache();
+        }
+    }
 }
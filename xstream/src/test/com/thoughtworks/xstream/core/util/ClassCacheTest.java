@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+
+import com.thoughtworks.xstream.core.JVM;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class ClassCacheTest extends TestCase {
+
+    public static class Sample {
+        String name;
+    }
+
+    private int created;
+    private ClassCache<Field[]> cache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        cache = ClassCache.newInstance(new ClassCache.Factory<Field[]>() {
+            @Override
+            public Field[] create(final Class<?> type) {
+                ++created;
+                return type.getDeclaredFields();
+            }
+        });
+    }
+
+    public void testCreatesValueOnlyOnce() {
+        final Field[] fields = cache.get(Sample.class);
+        assertEquals("name", fields[0].getName());
+        assertSame(fields, cache.get(Sample.class));
+        assertEquals(1, created);
+    }
+
+    public void testClearDropsValues() {
+        cache.get(Sample.class);
+        cache.clear();
+        cache.get(Sample.class);
+        assertEquals(2, created);
+    }
+
+    public void testDoesNotPreventClassUnloading() throws Exception {
+        if (!JVM.is17()) {
+            return;
+        }
+        ClassLoader classLoader = new IsolatingClassLoader();
+        Class<?> type = classLoader.loadClass(Sample.class.getName());
+        assertNotSame(Sample.class, type);
+        assertEquals("name", cache.get(type)[0].getName());
+        final WeakReference<ClassLoader> ref = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null;
+        type = null;
+
+        for (int i = 0; ref.get() != null && i < 20; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("Class loader still alive", ref.get());
+    }
+
+    public void testWeakInstanceDoesNotPreventClassUnloading() throws Exception {
+        final ClassCache<String> weakCache = ClassCache.newWeakInstance(new ClassCache.Factory<String>() {
+            @Override
+            public String create(final Class<?> type) {
+                return type.getName();
+            }
+        });
+        ClassLoader classLoader = new IsolatingClassLoader();
+        Class<?> type = classLoader.loadClass(Sample.class.getName());
+        assertEquals(Sample.class.getName(), weakCache.get(type));
+        assertSame(weakCache.get(type), weakCache.get(type));
+        final WeakReference<ClassLoader> ref = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null;
+        type = null;
+
+        for (int i = 0; ref.get() != null && i < 20; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("Class loader still alive", ref.get());
+    }
+
+    private static class IsolatingClassLoader extends ClassLoader {
+
+        IsolatingClassLoader() {
+            super(ClassCacheTest.class.getClassLoader());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(final String name, final boolean resolve)
+                throws ClassNotFoundException {
+            if (!name.equals(Sample.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            Class<?> type = findLoadedClass(name);
+            if (type == null) {
+                final byte[] bytes;
+                try {
+                    bytes = readClass(name);
+                } catch (final IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+                type = defineClass(name, bytes, 0, bytes.length);
+            }
+            return type;
+        }
+
+        private byte[] readClass(final String name) throws IOException {
+            final InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+            try {
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                for (int len; (len = input.read(buffer)) > 0;) {
+                    output.write(buffer, 0, len);
+                }
+                return output.toByteArray();
+            } finally {
+                input.close();
+            }
+        }
+    }
+}
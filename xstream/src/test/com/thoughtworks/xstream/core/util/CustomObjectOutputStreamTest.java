@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import com.thoughtworks.xstream.converters.DataHolder;
+import com.thoughtworks.xstream.core.MapBackedDataHolder;
+
+
+/**
+ * @author agent
+ */
+public class CustomObjectOutputStreamTest extends TestCase {
+
+    static class Callback implements CustomObjectOutputStream.StreamCallback {
+        final List<Object> written = new ArrayList<Object>();
+
+        @Override
+        public void writeToStream(final Object object) {
+            written.add(object);
+        }
+
+        @Override
+        public void writeFieldsToStream(final Map<String, Object> fields) {
+            written.add(fields);
+        }
+
+        @Override
+        public void defaultWriteObject() {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private final DataHolder context = new MapBackedDataHolder();
+
+    public void testInstanceIsReusedWithinMarshallingProcess() throws IOException {
+        final Callback outer = new Callback();
+        final Callback inner = new Callback();
+        final CustomObjectOutputStream stream = CustomObjectOutputStream.getInstance(context, outer);
+        assertSame(stream, CustomObjectOutputStream.getInstance(context, inner));
+        stream.writeInt(1);
+        assertSame(inner, stream.popCallback());
+        stream.writeInt(2);
+        assertSame(outer, stream.popCallback());
+        assertEquals(1, inner.written.size());
+        assertEquals(1, outer.written.size());
+        assertSame(stream, CustomObjectOutputStream.getInstance(context, new Callback()));
+    }
+
+    public void testMarshallingProcessesUseSeparateInstances() {
+        final CustomObjectOutputStream stream = CustomObjectOutputStream.getInstance(context, new Callback());
+        final CustomObjectOutputStream other = CustomObjectOutputStream.getInstance(new MapBackedDataHolder(),
+            new Callback());
+        assertNotSame(stream, other);
+    }
+
+    public void testDropsUnwrittenFieldsWithLastCallback() throws IOException {
+        final Callback callback = new Callback();
+        CustomObjectOutputStream stream = CustomObjectOutputStream.getInstance(context, new Callback());
+        stream.putFields().put("dropped", 1);
+        stream.popCallback();
+        stream = CustomObjectOutputStream.getInstance(context, callback);
+        stream.putFields().put("written", 2);
+        stream.writeFields();
+        stream.popCallback();
+        assertEquals("{written=2}", callback.written.get(0).toString());
+        try {
+            stream.writeFields();
+            fail("Thrown " + RuntimeException.class.getName() + " expected");
+        } catch (final RuntimeException e) {
+            // OK, no pending fields
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class DatesTest extends TestCase {
+
+    private static long calendarMillis(
+            final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        final GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.set(year, month - 1, day, hour, minute, second);
+        return calendar.getTimeInMillis();
+    }
+
+    public void testCalculatesMillisAtUTC() {
+        assertEquals(0, Dates.toMillis(1970, 1, 1, 0, 0, 0, 0));
+        assertEquals(calendarMillis(2004, 2, 29, 23, 59, 59) + 999, Dates.toMillis(2004, 2, 29, 23, 59, 59, 999));
+        assertEquals(calendarMillis(1583, 1, 1, 0, 0, 0), Dates.GREGORIAN_START);
+        assertEquals(calendarMillis(1969, 12, 31, 12, 0, 0), Dates.toMillis(1969, 12, 31, 12, 0, 0, 0));
+    }
+
+    public void testParsesDateTime() {
+        assertEquals(calendarMillis(2004, 2, 29, 15, 16, 4), Dates.parseDateTime("2004-02-29 15:16:04", ' '));
+        assertEquals(calendarMillis(1999, 12, 31, 0, 0, 0), Dates.parseDateTime("1999-12-31T00:00:00.123Z", 'T'));
+    }
+
+    public void testRejectsInvalidDateTime() {
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2004-02-29", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2004-02-29T15:16:04", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2003-02-29 15:16:04", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("1900-02-29 15:16:04", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2004-13-01 15:16:04", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2004-02-01 24:00:00", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2004-02-01 12:00:60", ' '));
+        assertEquals(Dates.INVALID, Dates.parseDateTime("2004-0x-01 12:00:00", ' '));
+    }
+
+    public void testAppendsDateTime() {
+        final StringBuilder buffer = new StringBuilder();
+        assertEquals(7, Dates.appendDateTime(buffer, Dates.toMillis(987, 3, 4, 5, 6, 7, 7), 'T'));
+        assertEquals("0987-03-04T05:06:07", buffer.toString());
+        buffer.setLength(0);
+        assertEquals(999, Dates.appendDateTime(buffer, -1, ' '));
+        assertEquals("1969-12-31 23:59:59", buffer.toString());
+    }
+
+    public void testRoundTripsWithCalendar() {
+        final Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        final StringBuilder buffer = new StringBuilder();
+        for (long millis = Dates.GREGORIAN_START; millis < Dates.YEAR_10000; millis += 86400000L * 367 + 3723004) {
+            calendar.setTimeInMillis(millis);
+            buffer.setLength(0);
+            final int remainder = Dates.appendDateTime(buffer, millis, ' ');
+            assertEquals(calendar.get(Calendar.MILLISECOND), remainder);
+            assertEquals(millis - remainder, Dates.parseDateTime(buffer.toString(), ' '));
+            assertEquals(calendarMillis(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1, calendar
+                .get(Calendar.DAY_OF_MONTH), calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
+                calendar.get(Calendar.SECOND)), millis - remainder);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.awt.font.TextAttribute;
+import java.sql.Timestamp;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import com.thoughtworks.xstream.InitializationException;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.SingleValueConverterWrapper;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
+import com.thoughtworks.xstream.core.DefaultConverterLookup;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class LazyConverterTest extends TestCase {
+
+    private static final String CONVERTER = "com.thoughtworks.xstream.converters.extended.SqlTimestampConverter";
+
+    private ClassLoaderReference classLoaderReference;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        classLoaderReference = new ClassLoaderReference(getClass().getClassLoader());
+    }
+
+    public void testDoesNotInstantiateConverterForUnrelatedTypes() {
+        final LazyConverter converter = new LazyConverter("not.existing.Converter", null, null, classLoaderReference,
+            "java.sql.Timestamp");
+        assertFalse(converter.canConvert(String.class));
+        assertFalse(converter.canConvert(java.util.Date.class));
+        assertFalse(converter.canConvert(null));
+        try {
+            converter.canConvert(Timestamp.class);
+            fail("Thrown " + InitializationException.class.getName() + " expected");
+        } catch (final InitializationException e) {
+            // OK
+        }
+    }
+
+    public void testWrapsSingleValueConverter() {
+        final LazyConverter converter = new LazyConverter(CONVERTER, null, null, classLoaderReference,
+            "java.sql.Timestamp");
+        assertTrue(converter.canConvert(Timestamp.class));
+        assertTrue(converter.getConverter() instanceof SingleValueConverterWrapper);
+        assertSame(converter.getConverter(), converter.getConverter());
+    }
+
+    public void testLookupReturnsRealConverter() {
+        final DefaultConverterLookup lookup = new DefaultConverterLookup();
+        lookup.registerConverter(new LazyConverter(CONVERTER, null, null, classLoaderReference,
+            "java.sql.Timestamp"), XStream.PRIORITY_NORMAL);
+        final Converter converter = lookup.lookupConverterForType(Timestamp.class);
+        assertTrue(converter instanceof SingleValueConverterWrapper);
+        assertSame(converter, lookup.lookupConverterForType(Timestamp.class));
+    }
+
+    public void testMatchesSubtypesByName() throws Exception {
+        final LazyConverter converter = new LazyConverter(
+            "com.thoughtworks.xstream.converters.extended.DurationConverter", null, null, classLoaderReference,
+            "javax.xml.datatype.Duration");
+        assertFalse(converter.canConvert(Object.class));
+        assertTrue(converter.canConvert(DatatypeFactory.newInstance().newDuration("PT1S").getClass()));
+    }
+
+    public void testPermitsAndMarksOptionalTypesByName() {
+        final XStream xstream = new XStream();
+        final Timestamp timestamp = new Timestamp(0);
+        assertEquals(timestamp, xstream.fromXML(xstream.toXML(timestamp)));
+        assertTrue(xstream.getMapper().isImmutableValueType(TextAttribute.class));
+        assertFalse(xstream.getMapper().isImmutableValueType(Object.class));
+    }
+}
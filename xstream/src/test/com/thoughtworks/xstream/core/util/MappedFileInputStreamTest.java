@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class MappedFileInputStreamTest extends TestCase {
+
+    private File file;
+    private byte[] content;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        file = File.createTempFile("xstream-mapped", ".bin");
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte)i;
+        }
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        file.delete();
+        super.tearDown();
+    }
+
+    private byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[77];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    public void testReadsWholeFile() throws IOException {
+        final InputStream in = new MappedFileInputStream(file);
+        try {
+            assertEquals(1000, in.available());
+            assertTrue(Arrays.equals(content, readAll(in)));
+            assertEquals(-1, in.read());
+        } finally {
+            in.close();
+        }
+    }
+
+    public void testReadsAcrossSegments() throws IOException {
+        final InputStream in = new MappedFileInputStream(file, 64, false);
+        try {
+            assertEquals(0, in.read());
+            assertEquals(1, in.read());
+            final byte[] rest = readAll(in);
+            assertEquals(998, rest.length);
+            assertEquals((byte)999, rest[997]);
+            assertEquals(-1, in.read());
+        } finally {
+            in.close();
+        }
+    }
+
+    public void testSkipsAcrossSegments() throws IOException {
+        final InputStream in = new MappedFileInputStream(file, 64, false);
+        try {
+            assertEquals(10, in.skip(10));
+            assertEquals(10, in.read());
+            assertEquals(500, in.skip(500));
+            assertEquals(511 & 0xff, in.read());
+            assertEquals(488, in.skip(1000));
+            assertEquals(-1, in.read());
+        } finally {
+            in.close();
+        }
+    }
+
+    public void testResetsToMarkInPreviousSegment() throws IOException {
+        final InputStream in = new MappedFileInputStream(file, 64, false);
+        try {
+            in.skip(42);
+            assertTrue(in.markSupported());
+            in.mark(1000);
+            in.skip(300);
+            assertEquals(342 & 0xff, in.read());
+            in.reset();
+            assertEquals(42, in.read());
+        } finally {
+            in.close();
+        }
+    }
+
+    public void testCannotBeUsedAfterClose() throws IOException {
+        final InputStream in = new MappedFileInputStream(file, 64, false);
+        assertEquals(100, in.skip(100));
+        in.close();
+        in.close();
+        try {
+            in.read();
+            fail("Thrown " + IOException.class.getName() + " expected");
+        } catch (final IOException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+        try {
+            in.reset();
+            fail("Thrown " + IOException.class.getName() + " expected");
+        } catch (final IOException e) {
+            // OK
+        }
+    }
+
+    public void testUnmapsSegmentsOnRequest() throws IOException {
+        final InputStream in = new MappedFileInputStream(file, 64, true);
+        try {
+            in.mark(1000);
+            assertTrue(Arrays.equals(content, readAll(in)));
+            in.reset();
+            assertEquals(0, in.read());
+        } finally {
+            in.close();
+        }
+        try {
+            in.read();
+            fail("Thrown " + IOException.class.getName() + " expected");
+        } catch (final IOException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+    }
+
+    public void testReadsEmptyFile() throws IOException {
+        final File empty = File.createTempFile("xstream-mapped", ".bin");
+        try {
+            final InputStream in = new MappedFileInputStream(empty);
+            try {
+                assertEquals(-1, in.read());
+                assertEquals(-1, in.read(new byte[10]));
+            } finally {
+                in.close();
+            }
+        } finally {
+            empty.delete();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import com.thoughtworks.xstream.converters.basic.ByteConverter;
+import com.thoughtworks.xstream.converters.basic.IntConverter;
+import com.thoughtworks.xstream.converters.basic.LongConverter;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class NumbersTest extends TestCase {
+
+    public void testDetectsPlainDecimalNumbers() {
+        assertTrue(Numbers.isDecimal("0"));
+        assertTrue(Numbers.isDecimal("-0"));
+        assertTrue(Numbers.isDecimal("42"));
+        assertTrue(Numbers.isDecimal("-9223372036854775808"));
+        assertFalse(Numbers.isDecimal(""));
+        assertFalse(Numbers.isDecimal("-"));
+        assertFalse(Numbers.isDecimal("+1"));
+        assertFalse(Numbers.isDecimal("010"));
+        assertFalse(Numbers.isDecimal("0x10"));
+        assertFalse(Numbers.isDecimal("#10"));
+        assertFalse(Numbers.isDecimal("1 "));
+    }
+
+    public void testConvertersKeepDecodeSemantics() {
+        assertEquals(Integer.valueOf(-42), new IntConverter().fromString("-42"));
+        assertEquals(Integer.valueOf(8), new IntConverter().fromString("010"));
+        assertEquals(Integer.valueOf(-1), new IntConverter().fromString("4294967295"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), new LongConverter().fromString("-9223372036854775808"));
+        assertEquals(Long.valueOf(16), new LongConverter().fromString("0x10"));
+        assertEquals(Byte.valueOf((byte)-1), new ByteConverter().fromString("255"));
+        try {
+            new IntConverter().fromString("4294967296");
+            fail("Thrown " + NumberFormatException.class.getName() + " expected");
+        } catch (final NumberFormatException e) {
+            // OK
+        }
+    }
+}
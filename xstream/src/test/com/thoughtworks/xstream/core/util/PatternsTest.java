@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class PatternsTest extends TestCase {
+
+    public void testReturnsSinglePatternItself() {
+        final Pattern pattern = Pattern.compile("a.*");
+        assertSame(pattern, Patterns.combine(pattern));
+        assertNull(Patterns.combine());
+    }
+
+    public void testCombinesPatternsWithInlinedFlags() {
+        final Pattern combined = Patterns.combine(Pattern.compile("old.*"), Pattern.compile("legacy",
+            Pattern.CASE_INSENSITIVE), Pattern.compile("a.b", Pattern.DOTALL));
+        assertNotNull(combined);
+        assertTrue(combined.matcher("oldName").matches());
+        assertTrue(combined.matcher("LEGACY").matches());
+        assertTrue(combined.matcher("a\nb").matches());
+        assertFalse(combined.matcher("OLDNAME").matches());
+        assertFalse(combined.matcher("name").matches());
+    }
+
+    public void testCannotCombinePatternsWithBackReferences() {
+        assertNull(Patterns.combine(Pattern.compile("a"), Pattern.compile("(x)\\1")));
+    }
+
+    public void testCannotCombinePatternsWithFlagsThatCannotBeInlined() {
+        assertNull(Patterns.combine(Pattern.compile("a"), Pattern.compile("b", Pattern.LITERAL)));
+        assertNull(Patterns.combine(Pattern.compile("a"), Pattern.compile("b", Pattern.CANON_EQ)));
+    }
+}
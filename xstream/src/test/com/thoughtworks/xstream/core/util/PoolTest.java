@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class PoolTest extends TestCase {
+
+    static class Counter implements Pool.Factory<Object> {
+        int created;
+
+        @Override
+        public Object newInstance() {
+            ++created;
+            return new Object();
+        }
+    }
+
+    public void testCreatesInitialInstancesAtFirstUsage() {
+        final Counter counter = new Counter();
+        final Pool<Object> pool = new Pool<Object>(2, 4, counter);
+        assertEquals(0, counter.created);
+        final Object first = pool.fetchFromPool();
+        assertEquals(2, counter.created);
+        pool.putInPool(first);
+        assertSame(first, pool.fetchFromPool());
+        assertEquals(2, counter.created);
+    }
+
+    public void testDoesNotBlockIfExhausted() {
+        final Counter counter = new Counter();
+        final Pool<Object> pool = new Pool<Object>(1, 2, counter);
+        final Set<Object> fetched = new HashSet<Object>();
+        for (int i = 0; i < 5; ++i) {
+            fetched.add(pool.fetchFromPool());
+        }
+        assertEquals(5, fetched.size());
+        assertEquals(5, counter.created);
+        assertEquals(3, pool.getOverflowCount());
+    }
+
+    public void testKeepsAtMostMaximumOfIdleInstances() {
+        final Counter counter = new Counter();
+        final Pool<Object> pool = new Pool<Object>(0, 2, counter);
+        final Object[] fetched = new Object[3];
+        for (int i = 0; i < fetched.length; ++i) {
+            fetched[i] = pool.fetchFromPool();
+        }
+        for (final Object element : fetched) {
+            pool.putInPool(element);
+        }
+        pool.putInPool(null);
+        final Set<Object> idle = new HashSet<Object>();
+        idle.add(pool.fetchFromPool());
+        idle.add(pool.fetchFromPool());
+        assertEquals(3, counter.created);
+        assertEquals(2, idle.size());
+        assertNotNull(pool.fetchFromPool());
+        assertEquals(4, counter.created);
+    }
+
+    public void testInitializesOnceForConcurrentFirstUsage() throws InterruptedException {
+        final int threads = 8;
+        final Pool<Object> pool = new Pool<Object>(threads, threads, new Pool.Factory<Object>() {
+            @Override
+            public Object newInstance() {
+                return new Object();
+            }
+        });
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final Set<Object> fetched = Collections.synchronizedSet(new HashSet<Object>());
+        final Set<Throwable> errors = Collections.synchronizedSet(new HashSet<Throwable>());
+        final Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; ++i) {
+            workers[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        barrier.await();
+                        final Object object = pool.fetchFromPool();
+                        fetched.add(object);
+                        barrier.await();
+                        pool.putInPool(object);
+                    } catch (final Throwable e) {
+                        errors.add(e);
+                    }
+                }
+            };
+            workers[i].start();
+        }
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(Collections.EMPTY_SET, errors);
+        assertEquals(threads, fetched.size());
+        assertEquals(0, pool.getOverflowCount());
+        for (int i = 0; i < threads; ++i) {
+            assertTrue(fetched.contains(pool.fetchFromPool()));
+        }
+        assertEquals(0, pool.getOverflowCount());
+    }
+}
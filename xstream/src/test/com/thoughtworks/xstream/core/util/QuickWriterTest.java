@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2009 XStream Committers.
+ * Copyright (C) 2009, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -30,4 +30,25 @@ public class QuickWriterTest extends TestCase {
         writer.write("Walnes".toCharArray());
         assertEquals(stringWriter.toString(), "Joe Walnes");
     }
+
+    public void testNumbers() {
+        StringWriter stringWriter = new StringWriter();
+        QuickWriter writer = new QuickWriter(stringWriter, 24);
+        long[] values = {0, 7, -7, 10, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE};
+        StringBuffer expected = new StringBuffer();
+        for (int i = 0; i < values.length; i++) {
+            writer.write(values[i]);
+            writer.write(' ');
+            expected.append(values[i]).append(' ');
+        }
+        writer.flush();
+        assertEquals(expected.toString(), stringWriter.toString());
+    }
+
+    public void testUnbufferedNumbers() {
+        StringWriter stringWriter = new StringWriter();
+        QuickWriter writer = new QuickWriter(stringWriter, 0);
+        writer.write(-42);
+        assertEquals("-42", stringWriter.toString());
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.thoughtworks.xstream.XStream;
+
+
+/**
+ * @author agent
+ */
+public class BinaryStreamFeederTest extends TestCase {
+
+    private XStream xstream;
+    private BinaryStreamFeeder feeder;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream = new XStream(new BinaryStreamDriver());
+        feeder = new BinaryStreamFeeder();
+    }
+
+    private byte[] marshal(final Object... objects) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final Object object : objects) {
+            xstream.marshal(object, new BinaryStreamWriter(out));
+        }
+        return out.toByteArray();
+    }
+
+    public void testProvidesDocumentWhenComplete() {
+        final byte[] data = marshal(Arrays.asList("one", "two"));
+        feeder.feed(data, 0, data.length - 1);
+        assertFalse(feeder.hasDocument());
+        assertNull(feeder.nextReader());
+        feeder.feed(data, data.length - 1, 1);
+        assertTrue(feeder.hasDocument());
+        assertEquals(Arrays.asList("one", "two"), xstream.unmarshal(feeder.nextReader()));
+        assertFalse(feeder.hasDocument());
+    }
+
+    public void testAcceptsSingleBytes() {
+        final Object[] objects = {"hello", new int[]{1, 2, 3}, Arrays.asList("a", null, "b")};
+        final byte[] data = marshal(objects);
+        final List<Object> result = new ArrayList<Object>();
+        for (int i = 0; i < data.length; i++) {
+            feeder.feed(ByteBuffer.wrap(data, i, 1));
+            if (feeder.hasDocument()) {
+                result.add(xstream.unmarshal(feeder.nextReader()));
+            }
+        }
+        assertEquals(3, result.size());
+        assertEquals("hello", result.get(0));
+        assertTrue(Arrays.equals(new int[]{1, 2, 3}, (int[])result.get(1)));
+        assertEquals(objects[2], result.get(2));
+    }
+
+    public void testDetectsDocumentsWithSkipIndex() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        xstream.marshal(Arrays.asList("a", "b"), new BinaryStreamWriter(out, true));
+        xstream.marshal("c", new BinaryStreamWriter(out, true));
+        final byte[] data = out.toByteArray();
+        for (int i = 0; i < data.length; i++) {
+            feeder.feed(data, i, 1);
+        }
+        assertEquals(Arrays.asList("a", "b"), xstream.unmarshal(feeder.nextReader()));
+        assertEquals("c", xstream.unmarshal(feeder.nextReader()));
+        assertFalse(feeder.hasDocument());
+    }
+
+    public void testDetectsDocumentsWithLongValues() {
+        final char[] chars = new char[100000];
+        Arrays.fill(chars, '€');
+        final String value = new String(chars);
+        final byte[] data = marshal(value, "done");
+        for (int i = 0; i < data.length; i += 4096) {
+            feeder.feed(data, i, Math.min(4096, data.length - i));
+        }
+        assertEquals(value, xstream.unmarshal(feeder.nextReader()));
+        assertEquals("done", xstream.unmarshal(feeder.nextReader()));
+        assertNull(feeder.nextReader());
+    }
+}
@@ -76,4 +76,100 @@ public class BinaryStreamTest extends AbstractXMLReaderTest {
 
     }
 
+    public void testSkipsNodesWithSkipIndex() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (int doc = 0; doc < 2; doc++) {
+            HierarchicalStreamWriter binaryWriter = new BinaryStreamWriter(buffer, true);
+            binaryWriter.startNode("root");
+            binaryWriter.startNode("skipped");
+            binaryWriter.addAttribute("a", "1");
+            for (int i = 0; i < 100; i++) {
+                binaryWriter.startNode("node" + i);
+                binaryWriter.setValue("value" + i);
+                binaryWriter.endNode();
+            }
+            binaryWriter.endNode();
+            binaryWriter.startNode("next");
+            binaryWriter.startNode("late");
+            binaryWriter.endNode();
+            binaryWriter.startNode("later");
+            binaryWriter.endNode();
+            binaryWriter.endNode();
+            binaryWriter.endNode();
+        }
+
+        ByteArrayInputStream input = new ByteArrayInputStream(buffer.toByteArray());
+        for (int doc = 0; doc < 2; doc++) {
+            BinaryStreamReader binaryReader = new BinaryStreamReader(input);
+            assertEquals("root", binaryReader.getNodeName());
+            binaryReader.moveDown();
+            assertEquals("skipped", binaryReader.getNodeName());
+            assertEquals("1", binaryReader.getAttribute("a"));
+            binaryReader.skipNode();
+            assertTrue(binaryReader.hasMoreChildren());
+            binaryReader.moveDown();
+            assertEquals("next", binaryReader.getNodeName());
+            assertEquals("late", binaryReader.peekNextChild());
+            binaryReader.skipChildren();
+            assertFalse(binaryReader.hasMoreChildren());
+            binaryReader.moveUp();
+            assertFalse(binaryReader.hasMoreChildren());
+            binaryReader.skipChildren();
+            assertFalse(binaryReader.hasMoreChildren());
+        }
+        assertEquals(0, input.available());
+    }
+
+    public void testLimitsBufferOfSkipIndex() {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final HierarchicalStreamWriter binaryWriter = new BinaryStreamWriter(buffer, 256);
+        binaryWriter.startNode("root");
+        binaryWriter.startNode("large");
+        for (int i = 0; i < 100; i++) {
+            binaryWriter.startNode("node");
+            binaryWriter.setValue("value" + i);
+            binaryWriter.endNode();
+        }
+        binaryWriter.endNode();
+        assertTrue(buffer.size() > 1000);
+        binaryWriter.startNode("small");
+        binaryWriter.startNode("node");
+        binaryWriter.endNode();
+        binaryWriter.endNode();
+        binaryWriter.startNode("last");
+        binaryWriter.endNode();
+        binaryWriter.endNode();
+
+        final BinaryStreamReader binaryReader = new BinaryStreamReader(new ByteArrayInputStream(buffer.toByteArray()));
+        assertEquals("root", binaryReader.getNodeName());
+        binaryReader.moveDown();
+        assertEquals("large", binaryReader.getNodeName());
+        binaryReader.skipNode();
+        binaryReader.moveDown();
+        assertEquals("small", binaryReader.getNodeName());
+        binaryReader.skipNode();
+        binaryReader.moveDown();
+        assertEquals("last", binaryReader.getNodeName());
+        binaryReader.moveUp();
+        assertFalse(binaryReader.hasMoreChildren());
+    }
+
+    public void testReadsNodesWithSkipIndex() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        HierarchicalStreamWriter binaryWriter = new BinaryStreamWriter(buffer, true);
+        binaryWriter.startNode("root");
+        binaryWriter.startNode("child");
+        binaryWriter.setValue("text");
+        binaryWriter.endNode();
+        binaryWriter.endNode();
+
+        HierarchicalStreamReader binaryReader = new BinaryStreamReader(new ByteArrayInputStream(buffer
+            .toByteArray()));
+        assertEquals("root", binaryReader.getNodeName());
+        binaryReader.moveDown();
+        assertEquals("child", binaryReader.getNodeName());
+        assertEquals("text", binaryReader.getValue());
+        binaryReader.moveUp();
+        assertFalse(binaryReader.hasMoreChildren());
+    }
 }
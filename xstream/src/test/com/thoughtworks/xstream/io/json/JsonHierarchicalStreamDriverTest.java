@@ -12,8 +12,10 @@
 package com.thoughtworks.xstream.io.json;
 
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
@@ -66,22 +68,41 @@ public class JsonHierarchicalStreamDriverTest extends TestCase {
         return expected.replace('\'', '"');
     }
 
-    public void testDoesNotSupportReader() {
-        try {
-            new JsonHierarchicalStreamDriver().createReader((Reader)null);
-            fail("should have barfed");
-        } catch (UnsupportedOperationException uoe) {
-            // expected
-        }
-    }
+    public void testCanReadFromReader() {
+        final XStream xstream = new XStream(new JsonHierarchicalStreamDriver());
+        xstream.alias("innerMessage", Message.class);
+        xstream.allowTypes(Message.class);
 
-    public void testDoesNotSupportInputStream() {
-        try {
-            new JsonHierarchicalStreamDriver().createReader((InputStream)null);
-            fail("should have barfed");
-        } catch (UnsupportedOperationException uoe) {
-            // expected
-        }
+        final Message message = new Message("hello");
+        message.long2 = new Long(42);
+        message.int1 = 2;
+        message.bool1 = true;
+        message.char2 = new Character('"');
+        message.double2 = new Double(-2.5);
+        message.bigInt = new BigInteger("123456789012345678901234567890");
+        message.innerMessage = new Message("bonjour\n");
+
+        final Message result = (Message)xstream.fromXML(new StringReader(xstream.toXML(message)));
+        assertEquals("hello", result.greeting);
+        assertEquals(new Long(42), result.long2);
+        assertEquals(2, result.int1);
+        assertTrue(result.bool1);
+        assertEquals(new Character('"'), result.char2);
+        assertEquals(new Double(-2.5), result.double2);
+        assertEquals(message.bigInt, result.bigInt);
+        assertEquals("bonjour\n", result.innerMessage.greeting);
+        assertNull(result.innerMessage.innerMessage);
+    }
+
+    public void testCanReadFromInputStream() throws UnsupportedEncodingException {
+        final XStream xstream = new XStream(new JsonHierarchicalStreamDriver());
+        final List<Object> list = new ArrayList<Object>();
+        list.add("J\u00f6rg");
+        list.add(new Integer(1));
+        list.add(Boolean.TRUE);
+
+        final InputStream in = new ByteArrayInputStream(xstream.toXML(list).getBytes("UTF-8"));
+        assertEquals(list, xstream.fromXML(in));
     }
 
     public void testCanMarshalSimpleTypes() {
@@ -750,4 +771,27 @@ public class JsonHierarchicalStreamDriverTest extends TestCase {
 
         assertEquals(expected, xstream.toXML(in));
     }
+
+    public void testCanWriteDeeplyNestedStructures() {
+        final StringBuilder expected = new StringBuilder("{'list': [\n");
+        final StringBuilder indent = new StringBuilder("  ");
+        List<Object> list = new ArrayList<Object>();
+        final List<Object> root = list;
+        for (int i = 0; i < 40; ++i) {
+            final List<Object> inner = new ArrayList<Object>();
+            list.add(inner);
+            list = inner;
+            expected.append(indent).append("[\n");
+            indent.append("  ");
+        }
+        list.add("deep");
+        expected.append(indent).append("'deep'\n");
+        for (int i = 0; i < 40; ++i) {
+            indent.setLength(indent.length() - 2);
+            expected.append(indent).append("]\n");
+        }
+        expected.append("]}");
+
+        assertEquals(normalizeExpectation(expected.toString()), xstream.toXML(root));
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io.json;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.thoughtworks.acceptance.someobjects.X;
+import com.thoughtworks.acceptance.someobjects.Y;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.io.StreamException;
+import com.thoughtworks.xstream.io.naming.NoNameCoder;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class JsonReaderTest extends TestCase {
+
+    private JsonReader createReader(final String json) {
+        return new JsonReader(new StringReader(json.replace('\'', '"')));
+    }
+
+    public void testReadsNestedObjects() {
+        final JsonReader reader = createReader(""
+            + "{'person': {'@age': '42', 'name': 'Joe', 'address': {'city': 'London'}, 'married': true}}");
+        assertEquals("person", reader.getNodeName());
+        assertEquals(1, reader.getAttributeCount());
+        assertEquals("42", reader.getAttribute("age"));
+        assertEquals("age", reader.getAttributeNames().next());
+        assertTrue(reader.hasMoreChildren());
+        assertEquals("name", reader.peekNextChild());
+        reader.moveDown();
+        assertEquals("name", reader.getNodeName());
+        assertEquals("Joe", reader.getValue());
+        assertFalse(reader.hasMoreChildren());
+        reader.moveUp();
+        reader.moveDown();
+        assertEquals("address", reader.getNodeName());
+        reader.moveDown();
+        assertEquals("city", reader.getNodeName());
+        assertEquals("London", reader.getValue());
+        reader.moveUp();
+        reader.moveUp();
+        reader.moveDown();
+        assertEquals("married", reader.getNodeName());
+        assertEquals("true", reader.getValue());
+        reader.moveUp();
+        assertFalse(reader.hasMoreChildren());
+        assertNull(reader.peekNextChild());
+    }
+
+    public void testReadsValueOfNodeWithAttributes() {
+        final JsonReader reader = createReader("{'string': {'@id': '1', '$': 'text'}}");
+        assertEquals("1", reader.getAttribute("id"));
+        assertEquals("text", reader.getValue());
+        assertFalse(reader.hasMoreChildren());
+    }
+
+    public void testDerivesNamesOfArrayElements() {
+        final JsonReader reader = createReader(""
+            + "{'list': ['a', 1, 12345678901, 123456789012345678901, 1.5, -2E3, false, null, ['k', 'v'], {'x': 1}]}");
+        final String[] names = {"string", "int", "long", "big-int", "double", "double", "boolean", "null", "entry"};
+        final String[] values = {"a", "1", "12345678901", "123456789012345678901", "1.5", "-2E3", "false", ""};
+        for (int i = 0; i < names.length; ++i) {
+            assertTrue(reader.hasMoreChildren());
+            assertEquals(names[i], reader.peekNextChild());
+            reader.moveDown();
+            assertEquals(names[i], reader.getNodeName());
+            if (i < values.length) {
+                assertEquals(values[i], reader.getValue());
+            }
+            reader.moveUp();
+        }
+        assertTrue(reader.hasMoreChildren());
+        try {
+            reader.moveDown();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().indexOf("explicit mode") >= 0);
+        }
+    }
+
+    public void testSkipsUnreadChildren() {
+        final JsonReader reader = createReader(""
+            + "{'root': {'skip': {'deep': [1, [2, {'x': 3}]], 'more': '}'}, 'next': 'found'}}");
+        reader.moveDown();
+        assertEquals("skip", reader.getNodeName());
+        reader.moveUp();
+        reader.moveDown();
+        assertEquals("next", reader.getNodeName());
+        assertEquals("found", reader.getValue());
+        reader.moveUp();
+        assertFalse(reader.hasMoreChildren());
+    }
+
+    public void testUnescapesStrings() {
+        final JsonReader reader = createReader("{'s': 'a\\\\b\\'c\\n\\u00e4\\/'}");
+        assertEquals("a\\b\"c\nä/", reader.getValue());
+    }
+
+    public void testRejectsUnknownEscapeSequences() {
+        try {
+            createReader("{'s': 'a\\xb'}");
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().indexOf("\\x") >= 0);
+        }
+    }
+
+    public void testReadsDroppedRootWithProvidedName() {
+        final JsonReader reader = new JsonReader(new StringReader("[1, 2]"),
+            AbstractJsonWriter.DROP_ROOT_MODE, "numbers", new NoNameCoder());
+        assertEquals("numbers", reader.getNodeName());
+        reader.moveDown();
+        assertEquals("int", reader.getNodeName());
+        assertEquals("1", reader.getValue());
+        reader.moveUp();
+        reader.moveDown();
+        assertEquals("2", reader.getValue());
+        reader.moveUp();
+        assertFalse(reader.hasMoreChildren());
+    }
+
+    public void testReadsExplicitMode() {
+        final JsonReader reader = new JsonReader(new StringReader(""
+            + "{\"x\": [[{\"id\": \"1\"}], [{\"y\": [[], [\"text\"]]}, {\"z\": [[], []]}]]}"),
+            AbstractJsonWriter.EXPLICIT_MODE);
+        assertEquals("x", reader.getNodeName());
+        assertEquals("1", reader.getAttribute("id"));
+        assertEquals("y", reader.peekNextChild());
+        reader.moveDown();
+        assertEquals("y", reader.getNodeName());
+        assertEquals(0, reader.getAttributeCount());
+        assertEquals("text", reader.getValue());
+        reader.moveUp();
+        assertEquals("z", reader.peekNextChild());
+        reader.moveDown();
+        assertEquals("", reader.getValue());
+        assertFalse(reader.hasMoreChildren());
+        reader.moveUp();
+        assertFalse(reader.hasMoreChildren());
+    }
+
+    public void testReportsMalformedJson() {
+        try {
+            final JsonReader reader = createReader("{'root': {'a': 'b'");
+            reader.moveDown();
+            reader.moveUp();
+            reader.moveUp();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+    }
+
+    public void testRequiresCommaBetweenValues() {
+        final String[] invalid = {
+            "{'list': [1 2]}", "{'list': [1,, 2]}", "{'list': [, 1]}", "{'list': [1, 2,]}", "{'root': {'a': 1,,}}",
+            "{'root': {'a': 1 'b': 2}}", "{'root': {'a': , 'b': 2}}", "{'root': {, 'a': 1}}"};
+        for (final String json : invalid) {
+            try {
+                final JsonReader reader = createReader(json);
+                while (reader.hasMoreChildren()) {
+                    reader.moveDown();
+                    reader.moveUp();
+                }
+                reader.moveUp();
+                fail("Thrown " + StreamException.class.getName() + " expected for " + json);
+            } catch (final StreamException e) {
+                // OK
+            }
+        }
+    }
+
+    public void testRoundTripsInDefaultMode() {
+        final XStream xstream = new XStream(new JsonHierarchicalStreamDriver());
+        final Map<String, Object> map = new HashMap<String, Object>();
+        map.put("string", "Codehaus");
+        map.put("int", new Integer(42));
+        final List<Object> list = new ArrayList<Object>();
+        list.add("a");
+        list.add(new Long(Long.MAX_VALUE));
+        list.add(null);
+        list.add(new Double(1.0));
+        list.add(Boolean.FALSE);
+
+        assertEquals(list, xstream.fromXML(xstream.toXML(list)));
+        assertEquals(map, xstream.fromXML(xstream.toXML(map)));
+    }
+
+    public void testRejectsObjectsInArraysInDefaultMode() {
+        final XStream xstream = new XStream(new JsonHierarchicalStreamDriver());
+        xstream.alias("x", X.class);
+        xstream.allowTypes(X.class);
+        final List<X> list = new ArrayList<X>();
+        list.add(new X(42));
+        final String json = xstream.toXML(list);
+        try {
+            xstream.fromXML(json);
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertTrue(e.getMessage().indexOf("Type of JSON object in array is unknown") >= 0);
+        }
+    }
+
+    public void testRoundTripsInExplicitMode() {
+        final XStream xstream = new XStream();
+        xstream.alias("x", X.class);
+        xstream.allowTypes(X.class, Y.class);
+        final X x = new X(42);
+        x.aStr = "Codehaus";
+        x.innerObj = new Y();
+        x.innerObj.yField = "Y";
+        final List<Object> list = new ArrayList<Object>();
+        list.add(x);
+        list.add(new int[]{1, 2});
+        list.add(new Character('c'));
+        list.add(new Short((short)1));
+
+        final String json = toExplicitJson(xstream, list);
+        final Object result = xstream.unmarshal(new JsonReader(new StringReader(json),
+            AbstractJsonWriter.EXPLICIT_MODE));
+        assertEquals(json, toExplicitJson(xstream, result));
+    }
+
+    private String toExplicitJson(final XStream xstream, final Object object) {
+        final StringWriter buffer = new StringWriter();
+        final JsonWriter writer = new JsonWriter(buffer, AbstractJsonWriter.EXPLICIT_MODE);
+        xstream.marshal(object, writer);
+        writer.flush();
+        return buffer.toString();
+    }
+}
@@ -11,6 +11,7 @@
  */
 package com.thoughtworks.xstream.io.xml;
 
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 
 import junit.framework.TestCase;
@@ -242,6 +243,46 @@ public abstract class AbstractXMLReaderTest extends TestCase {
         assertEquals(content, xmlReader.getValue());
     }
     
+    public void testCanSkipNode() throws Exception {
+        HierarchicalStreamReader xmlReader = createReader(""
+            + "<root><skipped a='1'>text<x><y>deep</y></x><!-- c --><z/></skipped><next>value</next></root>");
+
+        xmlReader.moveDown();
+        assertEquals("skipped", xmlReader.getNodeName());
+        HierarchicalStreams.skipNode(xmlReader);
+        assertEquals("root", xmlReader.getNodeName());
+        assertTrue(xmlReader.hasMoreChildren());
+
+        xmlReader.moveDown();
+        assertEquals("next", xmlReader.getNodeName());
+        assertEquals("value", xmlReader.getValue());
+        xmlReader.moveUp();
+        assertFalse(xmlReader.hasMoreChildren());
+    }
+
+    public void testCanSkipRemainingChildren() throws Exception {
+        HierarchicalStreamReader xmlReader = createReader(""
+            + "<root><a><first/><second><deep/></second><third>text</third></a><b/></root>");
+
+        xmlReader.moveDown();
+        assertEquals("a", xmlReader.getNodeName());
+        xmlReader.moveDown();
+        assertEquals("first", xmlReader.getNodeName());
+        xmlReader.moveUp();
+        HierarchicalStreams.skipChildren(xmlReader);
+        assertFalse(xmlReader.hasMoreChildren());
+        assertEquals("a", xmlReader.getNodeName());
+        xmlReader.moveUp();
+
+        assertTrue(xmlReader.hasMoreChildren());
+        xmlReader.moveDown();
+        assertEquals("b", xmlReader.getNodeName());
+        HierarchicalStreams.skipChildren(xmlReader);
+        assertFalse(xmlReader.hasMoreChildren());
+        xmlReader.moveUp();
+        assertFalse(xmlReader.hasMoreChildren());
+    }
+
     // TODO: See XSTR-473
     public void todoTestCanReadNullValueInString() throws Exception {
         HierarchicalStreamReader xmlReader = createReader("<string>&#x0;</string>");
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2013 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2013, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -105,6 +105,39 @@ public class PrettyPrintWriterTest extends AbstractXMLWriterTest {
         assertXmlProducedIs("<evil attr=\"hello _&_ stuff\">bye AND stuff</evil>");
     }
 
+    public void testWritesNumbersDirectly() {
+        writer.startNode("numbers");
+        writer.startNode("int");
+        ((PrettyPrintWriter)writer).setValue(42);
+        writer.endNode();
+        writer.startNode("long");
+        ((PrettyPrintWriter)writer).setValue(Long.MIN_VALUE);
+        writer.endNode();
+        writer.endNode();
+
+        assertXmlProducedIs(""
+            + "<numbers>\n"
+            + "  <int>42</int>\n"
+            + "  <long>-9223372036854775808</long>\n"
+            + "</numbers>");
+    }
+
+    public void testPassesNumbersToOverriddenTextEscaping() {
+        writer = new PrettyPrintWriter(buffer, "  ") {
+            protected void writeText(QuickWriter writer, String text) {
+                writer.write("<![CDATA[");
+                writer.write(text);
+                writer.write("]]>");
+            }
+        };
+
+        writer.startNode("int");
+        ((PrettyPrintWriter)writer).setValue(42);
+        writer.endNode();
+
+        assertXmlProducedIs("<int><![CDATA[42]]></int>");
+    }
+
     public void testSupportsUserDefinedEOL() {
         writer = new PrettyPrintWriter(buffer, "\t"){
             @Override
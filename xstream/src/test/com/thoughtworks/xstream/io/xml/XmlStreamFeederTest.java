@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.io.xml;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.StreamException;
+
+
+/**
+ * @author agent
+ */
+public class XmlStreamFeederTest extends TestCase {
+
+    private XStream xstream;
+    private XmlStreamFeeder feeder;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream = new XStream();
+        feeder = new XmlStreamFeeder(new XppDriver());
+    }
+
+    private List<HierarchicalStreamReader> feed(final String xml, final int chunkSize)
+        throws UnsupportedEncodingException {
+        final byte[] data = xml.getBytes("UTF-8");
+        final List<HierarchicalStreamReader> readers = new ArrayList<HierarchicalStreamReader>();
+        for (int i = 0; i < data.length; i += chunkSize) {
+            feeder.feed(data, i, Math.min(chunkSize, data.length - i));
+            HierarchicalStreamReader reader;
+            while ((reader = feeder.nextReader()) != null) {
+                readers.add(reader);
+            }
+        }
+        return readers;
+    }
+
+    public void testProvidesDocumentWhenComplete() throws UnsupportedEncodingException {
+        final String xml = xstream.toXML(Arrays.asList("one", "two"));
+        assertEquals(0, feed(xml.substring(0, xml.length() - 1), 1000).size());
+        final List<HierarchicalStreamReader> readers = feed(xml.substring(xml.length() - 1), 1000);
+        assertEquals(1, readers.size());
+        assertEquals(Arrays.asList("one", "two"), xstream.unmarshal(readers.get(0)));
+    }
+
+    public void testAcceptsSingleBytes() throws UnsupportedEncodingException {
+        final String xml = ""
+            + "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<string>one</string>\n"
+            + "<string/>\n"
+            + "<list><string>a</string><null/></list>\n";
+        final List<HierarchicalStreamReader> readers = feed(xml, 1);
+        assertEquals(3, readers.size());
+        assertEquals("one", xstream.unmarshal(readers.get(0)));
+        assertEquals("", xstream.unmarshal(readers.get(1)));
+        assertEquals(Arrays.asList("a", null), xstream.unmarshal(readers.get(2)));
+    }
+
+    public void testIgnoresMarkupInCommentsCDataAndAttributes() throws UnsupportedEncodingException {
+        final String xml = ""
+            + "<!-- <string> -->"
+            + "<string><![CDATA[</string>]]>x<!-- --></string>"
+            + "<?pi </string> ?>"
+            + "<list attr=\"/>\" other='>>'><string>€</string></list>";
+        final List<HierarchicalStreamReader> readers = feed(xml, 3);
+        assertEquals(2, readers.size());
+        assertEquals("</string>x", xstream.unmarshal(readers.get(0)));
+        assertEquals(Arrays.asList("€"), xstream.unmarshal(readers.get(1)));
+    }
+
+    public void testCountsPendingBytes() throws UnsupportedEncodingException {
+        assertEquals(1, feed("<string>one</string><str", 5).size());
+        assertEquals(4, feeder.getPendingBytes());
+        assertEquals(1, feed("ing/>", 5).size());
+        assertEquals(0, feeder.getPendingBytes());
+    }
+
+    public void testAcceptsDeclaredAsciiCompatibleEncoding() throws UnsupportedEncodingException {
+        final byte[] data = "<?xml version='1.0' encoding='ISO-8859-1'?><string>\u00e4</string>".getBytes("ISO-8859-1");
+        feeder.feed(data, 0, data.length);
+        assertEquals("\u00e4", xstream.unmarshal(feeder.nextReader()));
+    }
+
+    public void testRejectsDeclaredIncompatibleEncoding() throws UnsupportedEncodingException {
+        try {
+            feed("<?xml version=\"1.0\" encoding=\"UTF-16\"?><string>one</string>", 10);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().indexOf("UTF-16") >= 0);
+        }
+    }
+
+    public void testRejectsWideCharacters() throws UnsupportedEncodingException {
+        final byte[] data = "<string>one</string>".getBytes("UTF-16");
+        try {
+            feeder.feed(data, 0, data.length);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+        feeder = new XmlStreamFeeder(new XppDriver());
+        final byte[] noMark = "<string>one</string>".getBytes("UTF-16LE");
+        try {
+            feeder.feed(noMark, 0, noMark.length);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+    }
+
+    public void testSkipsQuotedStringsAndCommentsInDocType() throws UnsupportedEncodingException {
+        final String xml = ""
+            + "<!DOCTYPE string SYSTEM \"a>b\" [\n"
+            + "  <!ENTITY e1 \"]>\">\n"
+            + "  <!ENTITY e2 '<string>'>\n"
+            + "  <!-- ]> it's a comment -->\n"
+            + "]>\n"
+            + "<string>one</string>";
+        final List<HierarchicalStreamReader> readers = feed(xml, 4);
+        assertEquals(1, readers.size());
+        assertEquals(0, feeder.getPendingBytes());
+    }
+
+    public void testRejectsEndTagWithoutStartTag() throws UnsupportedEncodingException {
+        assertEquals(1, feed("<string>one</string>", 7).size());
+        try {
+            feed("</string><string>two</string>", 7);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().indexOf("end tag") >= 0);
+        }
+    }
+}
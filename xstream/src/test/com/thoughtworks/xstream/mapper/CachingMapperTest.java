@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by agent
+ */
+package com.thoughtworks.xstream.mapper;
+
+import java.lang.ref.WeakReference;
+
+import com.thoughtworks.acceptance.objects.Software;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.basic.StringConverter;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author agent
+ */
+public class CachingMapperTest extends TestCase {
+
+    private FieldAliasingMapper fieldAliasingMapper;
+    private CountingMapper countingMapper;
+    private CachingMapper cachingMapper;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        fieldAliasingMapper = new FieldAliasingMapper(new DefaultMapper(new ClassLoaderReference(null)));
+        countingMapper = new CountingMapper(fieldAliasingMapper);
+        cachingMapper = new CachingMapper(countingMapper);
+    }
+
+    public void testResolvesMemberMappingOnlyOnce() {
+        fieldAliasingMapper.addFieldAlias("maker", Software.class, "vendor");
+        assertEquals("maker", cachingMapper.serializedMember(Software.class, "vendor"));
+        assertTrue(cachingMapper.shouldSerializeMember(Software.class, "vendor"));
+        assertNull(cachingMapper.getLocalConverter(Software.class, "vendor"));
+        assertNull(cachingMapper.getImplicitCollectionDefForFieldName(Software.class, "vendor"));
+        assertEquals("maker", cachingMapper.serializedMember(Software.class, "vendor"));
+        assertEquals(1, countingMapper.serializedMemberCalls);
+        assertEquals("name", cachingMapper.serializedMember(Software.class, "name"));
+        assertEquals(2, countingMapper.serializedMemberCalls);
+    }
+
+    public void testResolvesElementMappingOnlyOnce() {
+        fieldAliasingMapper.addFieldAlias("maker", Software.class, "vendor");
+        assertEquals("vendor", cachingMapper.realMember(Software.class, "maker"));
+        assertEquals("vendor", cachingMapper.realMember(Software.class, "maker"));
+        assertNull(cachingMapper.getItemTypeForItemFieldName(Software.class, "maker"));
+        assertEquals(1, countingMapper.realMemberCalls);
+    }
+
+    public void testLimitsNumberOfCachedNames() {
+        for (int i = 0; i < 2000; ++i) {
+            assertEquals("unknown" + i, cachingMapper.realMember(Software.class, "unknown" + i));
+            assertEquals("unknown" + i, cachingMapper.attributeForAlias("unknown" + i));
+        }
+        assertEquals(2000, countingMapper.realMemberCalls);
+        assertEquals("unknown0", cachingMapper.realMember(Software.class, "unknown0"));
+        assertEquals(2000, countingMapper.realMemberCalls);
+        assertEquals("unknown1999", cachingMapper.realMember(Software.class, "unknown1999"));
+        assertEquals(2001, countingMapper.realMemberCalls);
+        assertEquals("vendor", cachingMapper.realMember(Software.class, "vendor"));
+        assertEquals(2002, countingMapper.realMemberCalls);
+        assertEquals("vendor", cachingMapper.realMember(Software.class, "vendor"));
+        assertEquals(2003, countingMapper.realMemberCalls);
+        cachingMapper.flushCache();
+        assertEquals("vendor", cachingMapper.realMember(Software.class, "vendor"));
+        assertEquals("vendor", cachingMapper.realMember(Software.class, "vendor"));
+        assertEquals(2004, countingMapper.realMemberCalls);
+    }
+
+    public void testFlushedCacheResolvesMappingsAgain() {
+        assertTrue(cachingMapper.shouldSerializeMember(Software.class, "vendor"));
+        fieldAliasingMapper.omitField(Software.class, "vendor");
+        assertTrue(cachingMapper.shouldSerializeMember(Software.class, "vendor"));
+        cachingMapper.flushCache();
+        assertFalse(cachingMapper.shouldSerializeMember(Software.class, "vendor"));
+    }
+
+    public void testXStreamFlushesCacheWhenConfiguredAfterUsage() {
+        final XStream xstream = new XStream();
+        xstream.alias("software", Software.class);
+        final Software software = new Software("Codehaus", "XStream");
+        assertEquals(""
+            + "<software>\n"
+            + "  <vendor>Codehaus</vendor>\n"
+            + "  <name>XStream</name>\n"
+            + "</software>", xstream.toXML(software));
+        xstream.aliasField("maker", Software.class, "vendor");
+        xstream.useAttributeFor(Software.class, "name");
+        assertEquals(""
+            + "<software name=\"XStream\">\n"
+            + "  <maker>Codehaus</maker>\n"
+            + "</software>", xstream.toXML(software));
+    }
+
+    public void testDoesNotKeepDiscardedInstancesWithLocalConvertersAlive() throws InterruptedException {
+        @SuppressWarnings("unchecked")
+        final WeakReference<XStream>[] refs = new WeakReference[20];
+        for (int i = 0; i < refs.length; ++i) {
+            final XStream xstream = new XStream();
+            xstream.registerLocalConverter(Software.class, "vendor", new MapperReferencingConverter(xstream
+                .getMapper()));
+            xstream.toXML(new Software("Codehaus", "XStream"));
+            refs[i] = new WeakReference<XStream>(xstream);
+        }
+
+        int alive = refs.length;
+        for (int i = 0; alive > 0 && i < 20; ++i) {
+            System.gc();
+            Thread.sleep(10);
+            alive = 0;
+            for (final WeakReference<XStream> ref : refs) {
+                if (ref.get() != null) {
+                    ++alive;
+                }
+            }
+        }
+        assertEquals(0, alive);
+    }
+
+    private static class MapperReferencingConverter extends StringConverter {
+        final Mapper mapper;
+
+        MapperReferencingConverter(final Mapper mapper) {
+            this.mapper = mapper;
+        }
+    }
+
+    private static class CountingMapper extends MapperWrapper {
+        int serializedMemberCalls;
+        int realMemberCalls;
+
+        CountingMapper(final Mapper wrapped) {
+            super(wrapped);
+        }
+
+        @Override
+        public String serializedMember(final Class<?> type, final String memberName) {
+            ++serializedMemberCalls;
+            return super.serializedMember(type, memberName);
+        }
+
+        @Override
+        public String realMember(final Class<?> type, final String serialized) {
+            ++realMemberCalls;
+            return super.realMember(type, serialized);
+        }
+    }
+}
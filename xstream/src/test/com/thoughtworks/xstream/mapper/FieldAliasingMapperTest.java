@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007 XStream Committers.
+ * Copyright (C) 2006, 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,8 +11,11 @@
  */
 package com.thoughtworks.xstream.mapper;
 
+import java.util.regex.Pattern;
+
 import com.thoughtworks.acceptance.AbstractAcceptanceTest;
 import com.thoughtworks.acceptance.objects.Software;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
 
 public class FieldAliasingMapperTest extends AbstractAcceptanceTest {
 
@@ -30,4 +33,20 @@ public class FieldAliasingMapperTest extends AbstractAcceptanceTest {
 
         assertBothWays(in, expectedXml);
     }
+
+    public void testMatchesUnknownElementsAgainstAllPatterns() {
+        final FieldAliasingMapper mapper = new FieldAliasingMapper(new DefaultMapper(new ClassLoaderReference(null)));
+        mapper.addFieldsToIgnore(Pattern.compile("old.*"));
+        mapper.addFieldsToIgnore(Pattern.compile("legacy", Pattern.CASE_INSENSITIVE));
+        assertFalse(mapper.shouldSerializeMember(Object.class, "oldName"));
+        assertFalse(mapper.shouldSerializeMember(Object.class, "LEGACY"));
+        assertTrue(mapper.shouldSerializeMember(Object.class, "name"));
+        assertTrue(mapper.shouldSerializeMember(Object.class, "xx"));
+        assertTrue(mapper.shouldSerializeMember(Software.class, "oldName"));
+
+        mapper.addFieldsToIgnore(Pattern.compile("(x)\\1"));
+        assertFalse(mapper.shouldSerializeMember(Object.class, "xx"));
+        assertFalse(mapper.shouldSerializeMember(Object.class, "Legacy"));
+        assertTrue(mapper.shouldSerializeMember(Object.class, "name"));
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2011, 2013 XStream Committers.
+ * Copyright (C) 2006, 2007, 2011, 2013, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,8 @@
  */
 package com.thoughtworks.xstream.mapper;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.thoughtworks.acceptance.objects.Hardware;
@@ -118,4 +120,24 @@ public class ImplicitCollectionMapperTest extends TestCase {
         assertEquals("name", implicitCollections.getImplicitCollectionDefForFieldName(SampleMaps.class, "good").getKeyFieldName());
         assertEquals("vendor", implicitCollections.getImplicitCollectionDefForFieldName(SampleMaps.class, "bad").getKeyFieldName());
     }
+
+    public void testMergesDefinitionsOfSuperClasses() {
+        implicitCollections.add(SampleLists.class, "good", "good-item", Software.class);
+        assertNull(implicitCollections.getImplicitCollectionDefForFieldName(ExtendedSampleLists.class, "more"));
+        implicitCollections.add(ExtendedSampleLists.class, "more", "more-item", Hardware.class);
+        implicitCollections.add(SampleLists.class, "bad", "bad-item", Product.class);
+
+        assertEquals("good", implicitCollections.getImplicitCollectionDefForFieldName(ExtendedSampleLists.class, "good").getFieldName());
+        assertEquals("more", implicitCollections.getImplicitCollectionDefForFieldName(ExtendedSampleLists.class, "more").getFieldName());
+        assertNull(implicitCollections.getImplicitCollectionDefForFieldName(SampleLists.class, "more"));
+        assertEquals(Product.class, implicitCollections.getItemTypeForItemFieldName(ExtendedSampleLists.class, "bad-item"));
+        assertEquals("more", implicitCollections.getFieldNameForItemTypeAndName(ExtendedSampleLists.class, Hardware.class, "more-item"));
+        assertEquals("good", implicitCollections.getFieldNameForItemTypeAndName(ExtendedSampleLists.class, OpenSourceSoftware.class, "good-item"));
+        assertEquals("good", implicitCollections.getFieldNameForItemTypeAndName(ExtendedSampleLists.class, OpenSourceSoftware.class, "good-item"));
+        assertNull(implicitCollections.getFieldNameForItemTypeAndName(SampleLists.class, Hardware.class, "more-item"));
+    }
+
+    static class ExtendedSampleLists extends SampleLists {
+        List<Object> more = new ArrayList<Object>();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014 XStream Committers.
+ * Copyright (C) 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 09. January 2014 by Joerg Schaible
@@ -10,6 +10,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.thoughtworks.xstream.core.JVM;
 import com.thoughtworks.xstream.core.util.QuickWriter;
@@ -204,4 +205,49 @@ public class SecurityMapperTest extends TestCase {
             assertEquals(Foo$_1.class.getName(), e.getMessage());
         }
     }
+
+    public void testNamesWithCombinedRegExps() {
+        register(String.class, JVM.class, QuickWriter.class, List.class);
+        mapper.addPermission(new RegExpTypePermission(Pattern.compile("JAVA\\.LANG\\..*", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.core\\.JVM"), Pattern.compile("(java)\\.util\\.\\1.*")));
+        assertSame(String.class, mapper.realClass(String.class.getName()));
+        assertSame(JVM.class, mapper.realClass(JVM.class.getName()));
+        try {
+            mapper.realClass(QuickWriter.class.getName());
+            fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+        } catch (final ForbiddenClassException e) {
+            assertEquals(QuickWriter.class.getName(), e.getMessage());
+        }
+        try {
+            mapper.realClass(List.class.getName());
+            fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+        } catch (final ForbiddenClassException e) {
+            assertEquals(List.class.getName(), e.getMessage());
+        }
+    }
+
+    public void testCachesDecisionsUntilPermissionIsAdded() {
+        register(String.class, URL.class);
+        final int[] calls = new int[1];
+        mapper.addPermission(new TypePermission() {
+            @Override
+            public boolean allows(final Class<?> type) {
+                ++calls[0];
+                return type == String.class;
+            }
+        });
+        assertSame(String.class, mapper.realClass(String.class.getName()));
+        assertSame(String.class, mapper.realClass(String.class.getName()));
+        for (int i = 0; i < 2; ++i) {
+            try {
+                mapper.realClass(URL.class.getName());
+                fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+            } catch (final ForbiddenClassException e) {
+                assertEquals(URL.class.getName(), e.getMessage());
+            }
+        }
+        assertEquals(2, calls[0]);
+        mapper.addPermission(new ExplicitTypePermission(URL.class));
+        assertSame(URL.class, mapper.realClass(URL.class.getName()));
+    }
 }